@@ -0,0 +1,106 @@
+package com.suracle.backend_api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 모드별 동시 요청 처리량 비교
+ * 요청 하나 = 외부 API 블로킹 대기(ioMillis) + 커넥션 풀 크기로 제한된 짧은 DB 작업(dbMillis)
+ * platform: Tomcat 기본 최대 스레드 수(200)의 고정 풀, virtual: 요청마다 가상 스레드
+ * 한 번의 측정 = concurrentRequests개 요청이 모두 끝날 때까지의 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int JDBC_POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"200", "1000", "5000"})
+    public int concurrentRequests;
+
+    @Param({"100"})
+    public int ioMillis;
+
+    @Param({"1"})
+    public int dbMillis;
+
+    private Executor executor;
+    private ExecutorService platformPool;
+    private Semaphore jdbcPermits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            // JDK 21 미만에서는 생성 시 예외 (build.gradle의 jmhJvm 참고)
+            executor = new VirtualThreadTaskExecutor("bench-virtual-");
+        } else {
+            platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            executor = platformPool;
+        }
+        jdbcPermits = new Semaphore(JDBC_POOL_SIZE, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void concurrentRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest() {
+        try {
+            Thread.sleep(ioMillis);
+
+            jdbcPermits.acquire();
+            try {
+                Thread.sleep(dbMillis);
+            } finally {
+                jdbcPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.suracle.backend_api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.suracle.backend_api.service.http.GovApiPayload;
+import com.suracle.backend_api.service.http.GovApiProjections;
+import com.suracle.backend_api.service.util.ContentHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정부 API 응답 파싱 방식 비교 (FDA Food Enforcement 형태의 합성 응답)
+ * tree: readTree로 전체 트리를 만든 뒤 필요한 필드를 읽음 (기존 방식)
+ * projection: GovApiProjections로 필요한 필드만 스트리밍으로 읽음
+ * treeMissPath / missPath: 캐시 미스 한 건의 전체 경로 (형식 확인 + 내용 해시 + 필드 추출)
+ *   - treeMissPath: readTree 후 meta 제거, 키 정렬 JSON으로 다시 직렬화해 해시 (기존 방식)
+ *   - missPath: GovApiPayload.parse(형식 확인 + 해시를 한 번의 스트리밍 패스로) 후 프로젝션
+ * 할당량 비교는 GC 프로파일러와 함께 실행 (JMH 옵션 -prof gc, gradle은 jmh { profilers = ["gc"] })
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GovApiParsingBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** results 배열 길이 (openFDA limit 최대 1000) */
+    @Param({"10", "100", "1000"})
+    public int results;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<Object> items = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            items.add(enforcementRecord(i));
+        }
+        json = MAPPER.writeValueAsString(Map.of(
+                "meta", Map.of("last_updated", "2025-01-01", "results", Map.of("total", results)),
+                "results", items));
+    }
+
+    @Benchmark
+    public int tree() throws Exception {
+        JsonNode root = MAPPER.readTree(json);
+        int matched = 0;
+        for (JsonNode result : root.path("results")) {
+            String reason = result.path("reason_for_recall").asText("");
+            String classification = result.path("classification").asText("");
+            String reportDate = result.path("report_date").asText("");
+            String recallDate = result.path("recall_initiation_date").asText("");
+            matched += reason.length() + classification.length() + reportDate.length() + recallDate.length();
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int projection() {
+        int matched = 0;
+        for (GovApiProjections.FdaEnforcement result : GovApiProjections.fdaEnforcements(json)) {
+            matched += result.reasonForRecall().length() + result.classification().length()
+                    + result.reportDate().length() + result.recallInitiationDate().length();
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int treeMissPath() throws Exception {
+        JsonNode root = MAPPER.readTree(json);
+        ObjectNode hashed = root.deepCopy();
+        hashed.remove("meta");
+        int matched = ContentHash.sha256Hex(ContentHash.canonicalJson(hashed)).length();
+        for (JsonNode result : root.path("results")) {
+            matched += result.path("reason_for_recall").asText("").length()
+                    + result.path("classification").asText("").length()
+                    + result.path("report_date").asText("").length()
+                    + result.path("recall_initiation_date").asText("").length();
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int missPath() {
+        GovApiPayload payload = GovApiPayload.parse(json).orElseThrow();
+        int matched = payload.contentHash().length();
+        for (GovApiProjections.FdaEnforcement result : GovApiProjections.fdaEnforcements(payload.json())) {
+            matched += result.reasonForRecall().length() + result.classification().length()
+                    + result.reportDate().length() + result.recallInitiationDate().length();
+        }
+        return matched;
+    }
+
+    /**
+     * openFDA enforcement 레코드와 비슷한 크기/구조 (요건 추출에 쓰지 않는 필드가 대부분)
+     */
+    private static Map<String, Object> enforcementRecord(int i) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("country", "United States");
+        record.put("city", "Los Angeles");
+        record.put("address_1", i + " Industrial Way");
+        record.put("reason_for_recall", "Product may be contaminated with undeclared allergens; labeling violation #" + i);
+        record.put("product_quantity", (i * 37 % 5000) + " cases");
+        record.put("code_info", "Lot codes " + i + "A through " + i + "Z, best by 12/31/2026");
+        record.put("center_classification_date", "20250115");
+        record.put("distribution_pattern", "Nationwide distribution to retail stores in CA, NV, AZ, OR, WA");
+        record.put("state", "CA");
+        record.put("product_description", "Ginseng extract beverage, 12 fl oz bottles, item " + i);
+        record.put("report_date", "20250122");
+        record.put("classification", i % 3 == 0 ? "Class I" : "Class II");
+        record.put("openfda", Map.of());
+        record.put("recalling_firm", "Example Foods Inc.");
+        record.put("recall_number", "F-" + (1000 + i) + "-2025");
+        record.put("initial_firm_notification", "Letter");
+        record.put("product_type", "Food");
+        record.put("event_id", String.valueOf(90000 + i));
+        record.put("termination_date", "");
+        record.put("more_code_info", "");
+        record.put("recall_initiation_date", "20250110");
+        record.put("postal_code", "90001");
+        record.put("voluntary_mandated", "Voluntary: Firm initiated");
+        record.put("status", "Ongoing");
+        return record;
+    }
+}
@@ -0,0 +1,24 @@
+package com.suracle.backend_api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class AiEngineClientConfig {
+
+    /**
+     * AI 엔진 호출용 Reactor Netty 커넥션 풀 (keep-alive 연결 재사용, reactor.netty.connection.provider.* 지표 노출)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiEngineConnectionProvider(AiEngineClientProperties properties) {
+        return ConnectionProvider.builder("ai-engine")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .metrics(true)
+                .build();
+    }
+}
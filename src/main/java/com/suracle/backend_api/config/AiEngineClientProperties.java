@@ -0,0 +1,58 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 엔진 리액티브 클라이언트 설정
+ * 커넥션 풀 크기와 엔드포인트별 연결/응답 타임아웃을 관리
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.engine.client")
+@Getter
+@Setter
+public class AiEngineClientProperties {
+
+    /** 기본 연결 타임아웃 (ms) */
+    private int connectTimeoutMs = 10000;
+
+    /** 기본 응답 타임아웃 (ms) - 백그라운드 분석(Tavily 검색 + 스크래핑 + GPT) 기준 */
+    private long responseTimeoutMs = 1200000;
+
+    /** 커넥션 풀 최대 연결 수 */
+    private int maxConnections = 50;
+
+    /** 풀에서 연결을 얻기 위해 기다리는 최대 시간 (ms) */
+    private long pendingAcquireTimeoutMs = 60000;
+
+    /** 유휴 연결 유지 시간 (ms) */
+    private long maxIdleTimeMs = 30000;
+
+    /** 응답 본문 최대 버퍼 크기 (MB) */
+    private int maxInMemorySizeMb = 16;
+
+    /** 엔드포인트별 타임아웃 (키: precedents, requirements, detailed-regulations ...) */
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    public int connectTimeoutMs(String endpoint) {
+        Endpoint config = endpoints.get(endpoint);
+        return config != null && config.getConnectTimeoutMs() != null ? config.getConnectTimeoutMs() : connectTimeoutMs;
+    }
+
+    public long responseTimeoutMs(String endpoint) {
+        Endpoint config = endpoints.get(endpoint);
+        return config != null && config.getResponseTimeoutMs() != null ? config.getResponseTimeoutMs() : responseTimeoutMs;
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private Integer connectTimeoutMs;
+        private Long responseTimeoutMs;
+    }
+}
@@ -0,0 +1,103 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 엔진 엔드포인트별 서킷 브레이커 / 적응형 타임아웃 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.engine.resilience")
+@Getter
+@Setter
+public class AiEngineResilienceProperties {
+
+    /** 기본 정책 */
+    private Policy defaults = new Policy();
+
+    /** 엔드포인트별 정책 (키: precedents, requirements, hs-code-graph, chat ...) - 지정한 항목만 기본 정책 위에 덮어씀 */
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    public Policy policy(String endpoint) {
+        Endpoint config = endpoints.get(endpoint);
+        return config != null ? config.applyTo(defaults) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /** 실패율(%)이 이 값 이상이면 서킷 OPEN */
+        private int failureRateThreshold = 50;
+
+        /** 실패율 계산에 쓰는 최근 호출 수 */
+        private int slidingWindowSize = 20;
+
+        /** 실패율을 판단하기 위한 최소 호출 수 */
+        private int minimumCalls = 10;
+
+        /** OPEN 유지 시간 (초) - 지나면 HALF_OPEN으로 시험 호출 허용 */
+        private long openDurationSeconds = 30;
+
+        /** HALF_OPEN 상태에서 허용할 시험 호출 수 (모두 성공하면 CLOSED) */
+        private int halfOpenPermittedCalls = 2;
+
+        /** 적응형 타임아웃 계산에 쓰는 최근 성공 응답 수 */
+        private int latencyWindowSize = 100;
+
+        /** 적응형 타임아웃을 적용하기 위한 최소 표본 수 (부족하면 최대 타임아웃 사용) */
+        private int minLatencySamples = 20;
+
+        /** 타임아웃 기준 백분위 (0~1) */
+        private double timeoutPercentile = 0.99;
+
+        /** 백분위 지연 시간에 곱할 배수 */
+        private double timeoutMultiplier = 2.0;
+
+        /** 적응형 타임아웃 하한 (ms) */
+        private long minTimeoutMs = 5000;
+
+        /** 적응형 타임아웃 상한 (ms) */
+        private long maxTimeoutMs = 1200000;
+    }
+
+    /**
+     * 엔드포인트별 정책 (null인 항목은 기본 정책 값 사용)
+     */
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private Integer failureRateThreshold;
+        private Integer slidingWindowSize;
+        private Integer minimumCalls;
+        private Long openDurationSeconds;
+        private Integer halfOpenPermittedCalls;
+        private Integer latencyWindowSize;
+        private Integer minLatencySamples;
+        private Double timeoutPercentile;
+        private Double timeoutMultiplier;
+        private Long minTimeoutMs;
+        private Long maxTimeoutMs;
+
+        Policy applyTo(Policy defaults) {
+            Policy policy = new Policy();
+            policy.setFailureRateThreshold(failureRateThreshold != null ? failureRateThreshold : defaults.getFailureRateThreshold());
+            policy.setSlidingWindowSize(slidingWindowSize != null ? slidingWindowSize : defaults.getSlidingWindowSize());
+            policy.setMinimumCalls(minimumCalls != null ? minimumCalls : defaults.getMinimumCalls());
+            policy.setOpenDurationSeconds(openDurationSeconds != null ? openDurationSeconds : defaults.getOpenDurationSeconds());
+            policy.setHalfOpenPermittedCalls(halfOpenPermittedCalls != null ? halfOpenPermittedCalls : defaults.getHalfOpenPermittedCalls());
+            policy.setLatencyWindowSize(latencyWindowSize != null ? latencyWindowSize : defaults.getLatencyWindowSize());
+            policy.setMinLatencySamples(minLatencySamples != null ? minLatencySamples : defaults.getMinLatencySamples());
+            policy.setTimeoutPercentile(timeoutPercentile != null ? timeoutPercentile : defaults.getTimeoutPercentile());
+            policy.setTimeoutMultiplier(timeoutMultiplier != null ? timeoutMultiplier : defaults.getTimeoutMultiplier());
+            policy.setMinTimeoutMs(minTimeoutMs != null ? minTimeoutMs : defaults.getMinTimeoutMs());
+            policy.setMaxTimeoutMs(maxTimeoutMs != null ? maxTimeoutMs : defaults.getMaxTimeoutMs());
+            return policy;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 누락된 요구사항 분석 백필 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.backfill")
+@Getter
+@Setter
+public class AnalysisBackfillProperties {
+
+    /** 백필 실행 여부 */
+    private boolean enabled = true;
+
+    /** 한 번에 확인할 상품 수 (keyset 페이지 크기) */
+    private int batchSize = 200;
+
+    /** 분당 AI 엔진에 보낼 최대 분석 수 (큐 작업의 실행 예정 시각을 이 간격으로 분산) */
+    private int ratePerMinute = 30;
+
+    /** 백필 임대 유지 시간 (분, 배치마다 연장 - 노드가 죽으면 이 시간 후 다른 노드가 이어서 진행) */
+    private long leaseMinutes = 5;
+}
@@ -0,0 +1,33 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 분석 타입별 동시 실행 상한 (벌크헤드) 설정
+ * 한 분석 타입이 느려져도 다른 분석 타입의 실행 슬롯을 잠식하지 않도록 타입마다 별도 상한을 둠
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.bulkhead")
+@Getter
+@Setter
+public class AnalysisBulkheadProperties {
+
+    /** 개별 설정이 없는 분석 타입의 동시 실행 상한 */
+    private int defaultMaxConcurrent = 2;
+
+    /** 분석 타입별 동시 실행 상한 (키: precedents, requirements, detailed_regulations ...) */
+    private Map<String, Integer> maxConcurrent = new HashMap<>();
+
+    /** 슬롯이 없어 실행하지 못한 분석 타입을 다시 시도하기까지의 지연 (초) */
+    private long deferSeconds = 30;
+
+    public int getMaxConcurrent(String analysisType) {
+        return maxConcurrent.getOrDefault(analysisType, defaultMaxConcurrent);
+    }
+}
@@ -0,0 +1,33 @@
+package com.suracle.backend_api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class AnalysisQueueConfig {
+
+    /**
+     * 분석 큐 작업 전용 스레드 풀
+     * 워커가 빈 슬롯 수만큼만 작업을 가져오므로 대기열은 두지 않음 (상한 = workerPoolSize)
+     * virtual 실행 모드에서는 같은 상한을 유지한 채 가상 스레드로 실행
+     */
+    @Bean(name = "analysisQueueExecutor")
+    public ThreadPoolTaskExecutor analysisQueueExecutor(AnalysisQueueProperties properties,
+                                                        ExecutionModeProperties executionMode) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkerPoolSize());
+        executor.setMaxPoolSize(properties.getWorkerPoolSize());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("analysis-worker-");
+        executor.setVirtualThreads(executionMode.isVirtualThreads());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 큐(analysis_queue) 워커 설정
+ * 워커 풀 크기, 폴링 주기, 재시도/백오프 정책을 관리
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.queue")
+@Getter
+@Setter
+public class AnalysisQueueProperties {
+
+    /** 워커 활성화 여부 (false면 큐 적재만 하고 처리하지 않음) */
+    private boolean enabled = true;
+
+    /** 동시에 진행할 수 있는 최대 작업 수 (작업 시작용 워커 스레드 수) */
+    private int workerPoolSize = 4;
+
+    /** 한 번의 폴링에서 가져올 최대 작업 수 */
+    private int batchSize = 10;
+
+    /** 최대 재시도 횟수 (초과 시 FAILED) */
+    private int maxRetries = 3;
+
+    /** 재시도 백오프 기본 간격 (초) - 재시도마다 2배 증가 */
+    private long backoffBaseSeconds = 30;
+
+    /** 재시도 백오프 최대 간격 (초) */
+    private long backoffMaxSeconds = 1800;
+
+    /**
+     * PROCESSING 상태로 이 시간(분) 이상 머문 작업은 노드 장애로 보고 재처리
+     * 살아 있는 워커의 작업이 복구되지 않도록 가장 긴 분석의 최대 소요 시간보다 충분히 길게 잡음
+     * (요구사항 분석 AI 호출 최대 20분 + 다른 노드의 같은 분석 대기 최대 20분(cluster-max-wait-ms) + 여유)
+     */
+    private long processingTimeoutMinutes = 60;
+
+    /** 상품 등록 시 적재되는 작업의 기본 우선순위 (높을수록 먼저 처리) */
+    private int defaultPriority = 5;
+}
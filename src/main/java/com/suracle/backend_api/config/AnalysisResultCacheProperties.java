@@ -0,0 +1,25 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 결과 메모리 캐시 설정 (product_analysis_cache 앞단 1차 캐시)
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.result-cache")
+@Getter
+@Setter
+public class AnalysisResultCacheProperties {
+
+    /** false면 항상 DB에서 조회 */
+    private boolean enabled = true;
+
+    /** 캐시가 차지할 수 있는 최대 메모리 (MB, 파싱된 결과의 추정 크기 기준) */
+    private long maxSizeMb = 64;
+
+    /** 저장 후 만료 시간 (분) - 다른 노드의 갱신을 반영하기 위한 상한 */
+    private long ttlMinutes = 30;
+}
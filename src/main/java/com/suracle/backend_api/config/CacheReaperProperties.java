@@ -0,0 +1,38 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 캐시 정리 설정
+ * 한 번의 큰 DELETE 대신 작은 배치로 나눠 잠금 시간과 WAL 급증을 줄임
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.reaper")
+@Getter
+@Setter
+public class CacheReaperProperties {
+
+    /** false면 정리하지 않음 */
+    private boolean enabled = true;
+
+    /** 실행 주기 (cron) */
+    private String cron = "0 */10 * * * *";
+
+    /** 배치 하나에서 삭제할 최대 행 수 */
+    private int batchSize = 500;
+
+    /** 실행 한 번에 테이블당 최대 배치 수 (남은 행은 다음 실행에서 이어서 삭제) */
+    private int maxBatchesPerTable = 20;
+
+    /** 배치 사이 대기 시간 (ms) */
+    private long pauseBetweenBatchesMs = 50;
+
+    /** 요구사항 분석 캐시는 만료 후 이 시간이 지나야 삭제 (워머가 만료 항목도 다시 채울 수 있도록) */
+    private long requirementsGraceHours = 24;
+
+    /** 무효(is_valid = false) 분석 행은 마지막 갱신 후 이 기간이 지나면 삭제 (일) */
+    private long invalidAnalysisRetentionDays = 7;
+}
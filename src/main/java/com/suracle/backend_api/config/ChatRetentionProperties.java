@@ -0,0 +1,35 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 세션/메시지 보존 정책 설정
+ * created_at 기준으로 보존 기간이 지난 행을 작은 배치로 나눠 삭제
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.retention")
+@Getter
+@Setter
+public class ChatRetentionProperties {
+
+    /** false면 주기 실행하지 않음 (POST /api/chat/cleanup 수동 실행은 가능) */
+    private boolean enabled = true;
+
+    /** 실행 주기 (cron) */
+    private String cron = "0 20 * * * *";
+
+    /** 보존 기간 (시간) */
+    private int retentionHours = 24;
+
+    /** 배치 하나에서 삭제할 최대 행 수 */
+    private int batchSize = 1000;
+
+    /** 실행 한 번에 테이블당 최대 배치 수 (남은 행은 다음 실행에서 이어서 삭제) */
+    private int maxBatchesPerRun = 100;
+
+    /** 배치 사이 대기 시간 (ms) */
+    private long pauseBetweenBatchesMs = 20;
+}
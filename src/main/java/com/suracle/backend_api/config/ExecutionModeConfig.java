@@ -0,0 +1,112 @@
+package com.suracle.backend_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 실행 모드(execution.mode)에 따른 실행기 구성
+ * virtual 모드에서는 Tomcat 요청 처리, 정부 API 병렬 호출을 가상 스레드로 실행하고
+ * DB 접근은 커넥션 풀 크기의 세마포어로 제한 (분석 큐 워커는 AnalysisQueueConfig 참고)
+ */
+@Slf4j
+@Configuration
+public class ExecutionModeConfig {
+
+    /**
+     * Tomcat 요청 처리 스레드 (virtual 모드에서만 교체)
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> executionModeProtocolHandlerCustomizer(
+            ExecutionModeProperties properties) {
+        if (properties.getMode() == ExecutionModeProperties.Mode.VIRTUAL && !properties.isVirtualThreads()) {
+            log.warn("⚠️ execution.mode=virtual 이지만 JDK 21 미만이라 플랫폼 스레드로 동작합니다 (현재: {})",
+                    System.getProperty("java.version"));
+        }
+        if (!properties.isVirtualThreads()) {
+            return handler -> { };
+        }
+        log.info("🧵 가상 스레드 실행 모드 - Tomcat 요청 처리, 분석 큐 워커, 정부 API 호출");
+        return handler -> handler.setExecutor(new VirtualThreadTaskExecutor("tomcat-handler-"));
+    }
+
+    /**
+     * 정부 API 병렬 호출 실행기
+     * platform 모드에서는 고정 크기 풀 (포화 시 거절 - 요청 스레드에서 대신 실행하면 수집 마감 시간을 넘길 수 있으므로
+     * 호출부에서 RejectedExecutionException을 받아 해당 기관을 timed_out으로 처리)
+     */
+    @Bean(name = "govApiExecutor")
+    public Executor govApiExecutor(ExecutionModeProperties properties) {
+        if (properties.isVirtualThreads()) {
+            return new VirtualThreadTaskExecutor("gov-api-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getGovApiPoolSize());
+        executor.setMaxPoolSize(properties.getGovApiPoolSize());
+        executor.setQueueCapacity(properties.getGovApiPoolSize() * 4);
+        executor.setThreadNamePrefix("gov-api-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 요건 수집 키워드 AI 추출 실행기 (백그라운드 전용, 공유 스케줄러와 분리)
+     * 대기열이 가득 차면 거절 - 호출부는 로컬 추출 결과만 사용
+     */
+    @Bean(name = "keywordExtractionExecutor")
+    public Executor keywordExtractionExecutor(KeywordExtractionProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("keyword-extract-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * virtual 모드에서 DataSource를 BoundedDataSource로 감쌈
+     * (동시 사용 상한 기본값 = Hikari 최대 풀 크기, 대기 시간 = Hikari connectionTimeout)
+     */
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiter(ObjectProvider<ExecutionModeProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+                    return bean;
+                }
+                ExecutionModeProperties mode = properties.getObject();
+                if (!mode.isVirtualThreads()) {
+                    return bean;
+                }
+
+                int maxConcurrency = mode.getJdbcMaxConcurrency();
+                long acquireTimeoutMs = 30_000;
+                if (dataSource instanceof HikariDataSource hikari) {
+                    if (maxConcurrency <= 0) {
+                        maxConcurrency = hikari.getMaximumPoolSize();
+                    }
+                    acquireTimeoutMs = hikari.getConnectionTimeout();
+                }
+                if (maxConcurrency <= 0) {
+                    maxConcurrency = 10;
+                }
+
+                log.info("🔒 DB 동시 접근 제한 - {}: 최대 {}개", beanName, maxConcurrency);
+                return new BoundedDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블로킹 I/O 실행 모드 설정
+ * platform: 기존 플랫폼 스레드 풀 (Tomcat 요청 스레드, 분석 큐 워커, 정부 API 호출 풀)
+ * virtual: 위 실행기를 가상 스레드로 전환 (JDK 21 이상에서만 적용, 미만이면 platform으로 동작)
+ */
+@Component
+@ConfigurationProperties(prefix = "execution")
+@Getter
+@Setter
+public class ExecutionModeProperties {
+
+    public enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    /** 실행 모드 */
+    private Mode mode = Mode.PLATFORM;
+
+    /** platform 모드에서 정부 API 병렬 호출에 쓰는 스레드 수 */
+    private int govApiPoolSize = 16;
+
+    /** 동시에 DB 커넥션을 쥘 수 있는 최대 스레드 수 (0이면 커넥션 풀 최대 크기) */
+    private int jdbcMaxConcurrency = 0;
+
+    /**
+     * 가상 스레드를 실제로 사용하는지 여부 (virtual 모드 + JDK 21 이상)
+     */
+    public boolean isVirtualThreads() {
+        return mode == Mode.VIRTUAL && isVirtualThreadsSupported();
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+}
@@ -0,0 +1,53 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 정부 API 검색 결과 캐시 설정 (search_result_cache)
+ * 기관별 신선 기간(TTL)이 지나면 기존 결과를 반환하면서 백그라운드에서 갱신하고,
+ * 신선 기간 + stale 허용 기간이 지나면 다시 동기 호출
+ * 결과가 없거나 실패한 호출은 원인별로 짧게 부정 캐시 (영구적인 404는 길게, 일시적 5xx는 짧게)
+ */
+@Component
+@ConfigurationProperties(prefix = "requirements.cache")
+@Getter
+@Setter
+public class GovApiCacheProperties {
+
+    /** false면 항상 정부 API를 직접 호출 */
+    private boolean enabled = true;
+
+    /** 기관별 설정이 없을 때의 신선 기간 (분) */
+    private long defaultTtlMinutes = 1440;
+
+    /** 기관별 신선 기간 (분, 키: fda/usda/epa/cpsc/census) */
+    private Map<String, Long> ttlMinutes = new HashMap<>();
+
+    /** 신선 기간이 지난 뒤에도 기존 결과를 반환할 수 있는 기간 (분) */
+    private long staleWindowMinutes = 10080;
+
+    /**
+     * 부정 캐시 유지 기간 (분, 키: not-found/empty/client-error/parse-error/transient-error)
+     * 0이면 해당 원인은 캐시하지 않음
+     */
+    private Map<String, Long> negativeTtlMinutes = new HashMap<>(Map.of(
+            "not-found", 360L,
+            "empty", 360L,
+            "client-error", 60L,
+            "parse-error", 30L,
+            "transient-error", 2L));
+
+    public long ttlMinutes(String agency) {
+        return ttlMinutes.getOrDefault(agency.toLowerCase(), defaultTtlMinutes);
+    }
+
+    public long negativeTtlMinutes(String outcome) {
+        return negativeTtlMinutes.getOrDefault(outcome.toLowerCase().replace('_', '-'), 0L);
+    }
+}
@@ -0,0 +1,35 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 정부 API 기관별 호출 제한 (토큰 버킷)
+ * 시간당 허용량 우선순위: agency_search_strategies.rate_limit_per_hour → perHour 설정 → ApiEndpointsManager 제한 문구
+ */
+@Component
+@ConfigurationProperties(prefix = "requirements.rate-limit")
+@Getter
+@Setter
+public class GovApiRateLimitProperties {
+
+    /** false면 제한 없이 호출 */
+    private boolean enabled = true;
+
+    /** 토큰이 없을 때 기다릴 수 있는 최대 시간 (ms, 0이면 바로 실패) */
+    private long maxWaitMs = 2000;
+
+    /** 몰아서 호출할 수 있는 양 (초 단위 허용량, 최소 1건) */
+    private long burstSeconds = 60;
+
+    /** agency_search_strategies 재조회 주기 (ms) */
+    private long refreshIntervalMs = 60000;
+
+    /** 테이블에 값이 없을 때의 기관별 시간당 허용량 (키: fda/usda/epa/cpsc/census 등) */
+    private Map<String, Integer> perHour = new HashMap<>();
+}
@@ -0,0 +1,65 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 클라이언트 설정 (RestTemplate 커넥션 풀)
+ * 호출 대상별 프로파일(ai-engine, gov-api, hs-code)로 타임아웃과 풀 크기를 분리
+ */
+@Component
+@ConfigurationProperties(prefix = "http.client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    /** 프로파일 이름 - AI 엔진 (FastAPI) */
+    public static final String AI_ENGINE = "ai-engine";
+
+    /** 프로파일 이름 - 정부 API (FDA, USDA, EPA, Census, CPSC, FCC ...) */
+    public static final String GOV_API = "gov-api";
+
+    /** 프로파일 이름 - AI 엔진 HS코드 추천 (요구사항 분석보다 짧은 타임아웃) */
+    public static final String HS_CODE = "hs-code";
+
+    /** 프로파일별 설정 (키: ai-engine, gov-api, hs-code) */
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    public Profile profile(String name) {
+        return profiles.getOrDefault(name, new Profile());
+    }
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        /** 연결 타임아웃 (ms) */
+        private long connectTimeoutMs = 10000;
+
+        /** 응답(소켓) 타임아웃 (ms) */
+        private long readTimeoutMs = 30000;
+
+        /** 풀에서 연결을 얻기 위해 기다리는 최대 시간 (ms) */
+        private long connectionRequestTimeoutMs = 5000;
+
+        /** 풀 전체 최대 연결 수 */
+        private int maxTotal = 50;
+
+        /** 호스트별 기본 최대 연결 수 */
+        private int defaultMaxPerHost = 10;
+
+        /** 호스트별 최대 연결 수 (키: https://api.fda.gov 형태의 URL) */
+        private Map<String, Integer> maxPerHost = new HashMap<>();
+
+        /** 유휴 연결 정리 기준 (초) */
+        private long idleEvictSeconds = 30;
+
+        /** 연결 최대 수명 (초) - DNS 변경 대응 */
+        private long connectionTtlSeconds = 300;
+    }
+}
@@ -0,0 +1,39 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요건 수집 키워드 추출 설정
+ * 정규화된 상품명별로 AI 엔진 추출 결과를 메모리에 보관하고, 캐시에 없으면 로컬 추출 결과로 바로 진행
+ * AI 엔진 호출은 전용 스레드 풀에서 서킷 브레이커(extract-keywords 정책)를 거쳐 실행
+ */
+@Component
+@ConfigurationProperties(prefix = "requirements.keywords")
+@Getter
+@Setter
+public class KeywordExtractionProperties {
+
+    /** false면 AI 엔진을 호출하지 않고 로컬 추출만 사용 */
+    private boolean aiEnabled = true;
+
+    /** 캐시 최대 항목 수 (상품명 기준, 초과 시 오래 안 쓴 항목부터 제거) */
+    private long maxEntries = 10_000;
+
+    /** 캐시 유지 시간 (시간) */
+    private long ttlHours = 24;
+
+    /** 추출 키워드 최대 개수 */
+    private int topK = 5;
+
+    /** AI 엔진 호출 실패 후 같은 상품명을 다시 호출하지 않는 시간 (초) */
+    private long failureTtlSeconds = 60;
+
+    /** 백그라운드 추출 전용 스레드 수 */
+    private int poolSize = 2;
+
+    /** 백그라운드 추출 대기열 크기 (가득 차면 이번 미스는 로컬 결과만 사용) */
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,23 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 요약 캐시 설정 (llm_summary_cache)
+ * 수집된 정부 문서의 해시가 같으면 저장된 요약을 재사용
+ */
+@Component
+@ConfigurationProperties(prefix = "requirements.summary-cache")
+@Getter
+@Setter
+public class LlmSummaryCacheProperties {
+
+    /** false면 요약 캐시를 조회/저장하지 않음 */
+    private boolean enabled = true;
+
+    /** 요약 유효 기간 (일) - 문서가 그대로여도 이 기간이 지나면 다시 요약 */
+    private long ttlDays = 30;
+}
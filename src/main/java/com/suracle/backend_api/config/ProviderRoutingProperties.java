@@ -0,0 +1,49 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 기관별 데이터 소스 선택 설정 (agency_search_strategies.search_provider 기준)
+ * hybrid 기관은 무료 API가 정상이고 빠르면 무료 API, 아니면 예산 안에서 유료 검색(tavily)으로 전환
+ */
+@Component
+@ConfigurationProperties(prefix = "requirements.routing")
+@Getter
+@Setter
+public class ProviderRoutingProperties {
+
+    /** false면 항상 무료 API 사용 */
+    private boolean enabled = true;
+
+    /**
+     * 하루 유료 검색 예산 (USD, cost_per_request 합계 기준)
+     * 노드마다 따로 집계하므로 여러 노드로 운영하면 전체 예산 ÷ 노드 수로 설정
+     */
+    private BigDecimal dailyBudget = new BigDecimal("5.00");
+
+    /** 무료 API를 정상으로 보는 최소 성공률 */
+    private double minSuccessRate = 0.8;
+
+    /** 무료 API를 빠르다고 보는 최대 평균 응답 시간 (ms) */
+    private long maxLatencyMs = 5000;
+
+    /** 이보다 표본이 적으면 무료 API를 정상으로 간주 */
+    private int minSamples = 5;
+
+    /** 유료 검색으로 전환된 hybrid 기관 요청 중 무료 API로 보내 상태를 확인할 비율 (0~1) */
+    private double probeRate = 0.1;
+
+    /** 성공률/응답 시간 지수 이동 평균 가중치 (클수록 최근 호출 비중이 큼) */
+    private double ewmaAlpha = 0.2;
+
+    /** agency_search_strategies 재조회 주기 (ms) */
+    private long refreshIntervalMs = 60000;
+
+    /** 선택 기록 보관 기간 (일) */
+    private int auditRetentionDays = 30;
+}
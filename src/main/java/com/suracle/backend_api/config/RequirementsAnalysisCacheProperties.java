@@ -0,0 +1,58 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요구사항 분석 결과 캐시 설정 (requirements_analysis_cache)
+ * 강제 갱신이 아닌 요청은 유효한 캐시가 있으면 AI 엔진을 호출하지 않음
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.requirements-cache")
+@Getter
+@Setter
+public class RequirementsAnalysisCacheProperties {
+
+    /** false면 캐시를 조회/저장하지 않음 */
+    private boolean enabled = true;
+
+    /** 분석 결과 유효 기간 (시간) */
+    private long ttlHours = 72;
+
+    /** 결과 형식 버전 - 바꾸면 이전 버전 항목은 적중하지 않고 워머가 새로 채움 */
+    private String version = "1";
+
+    /** 인기 HS코드 캐시 워머 */
+    private Warmer warmer = new Warmer();
+
+    @Getter
+    @Setter
+    public static class Warmer {
+
+        /** false면 미리 갱신하지 않음 */
+        private boolean enabled = true;
+
+        /** 실행 간격 (ms) */
+        private long intervalMs = 600_000;
+
+        /** 사용 빈도 상위 몇 개의 HS코드를 대상으로 할지 */
+        private int topN = 50;
+
+        /** 최근 이 시간 안에 사용된 HS코드도 대상에 포함 (상위 N개 한도 안에서) */
+        private long recentHours = 24;
+
+        /** 만료 몇 분 전부터 미리 갱신할지 */
+        private long refreshAheadMinutes = 180;
+
+        /** 시간당 AI 엔진 호출 예산 (사용자 요청과 별도로 워머가 쓸 수 있는 최대 호출 수) */
+        private int maxCallsPerHour = 20;
+
+        /** 동시에 진행할 갱신 수 */
+        private int concurrency = 1;
+
+        /** 워밍 임대 유지 시간 (분, 항목마다 연장 - 한 번의 분석 최대 소요 시간보다 길게) */
+        private long leaseMinutes = 30;
+    }
+}
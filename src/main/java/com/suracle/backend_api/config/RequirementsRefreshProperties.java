@@ -0,0 +1,35 @@
+package com.suracle.backend_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품별 요구사항 분석 재사용 / 갱신 설정 (product_analysis_cache)
+ * 신선 기간이 끝나기 전에 확률적으로 미리 갱신하고 (XFetch), HS코드당 한 곳만 갱신하도록 임대를 사용
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis.requirements-refresh")
+@Getter
+@Setter
+public class RequirementsRefreshProperties {
+
+    /** 분석 결과를 재사용하는 기간 (일) */
+    private long freshDays = 7;
+
+    /** false면 신선 기간이 끝난 뒤에만 갱신 */
+    private boolean earlyRefreshEnabled = true;
+
+    /**
+     * 조기 갱신 기준 시간 (분, XFetch의 delta - 대략 재계산에 걸리는 시간)
+     * 만료까지 남은 시간이 delta × beta × -ln(난수)보다 짧으면 갱신 (평균 delta × beta분 일찍)
+     */
+    private long earlyRefreshDeltaMinutes = 60;
+
+    /** 조기 갱신 강도 (XFetch의 beta, 클수록 더 일찍/넓게 분산) */
+    private double earlyRefreshBeta = 1.0;
+
+    /** 갱신 임대 유지 시간 (분) - 요구사항 분석 응답 타임아웃보다 길게 */
+    private long leaseMinutes = 25;
+}
@@ -1,35 +1,138 @@
 package com.suracle.backend_api.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
 
+import java.net.InetAddress;
+import java.net.URI;
+
+/**
+ * 외부 HTTP 호출용 RestTemplate 설정
+ * 호출 대상별 프로파일(ai-engine, gov-api, hs-code)마다 keep-alive 커넥션 풀을 분리하고
+ * 풀 사용률/대기 시간 지표를 http.client.pool.* 로 노출
+ */
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
-    
+
+    /**
+     * AI 엔진(FastAPI) 호출용 HTTP 클라이언트
+     */
+    @Bean
+    public CloseableHttpClient aiEngineHttpClient(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return createHttpClient(HttpClientProperties.AI_ENGINE, properties.profile(HttpClientProperties.AI_ENGINE), meterRegistry);
+    }
+
+    /**
+     * 정부 API(FDA, USDA, EPA, Census, CPSC, FCC ...) 호출용 HTTP 클라이언트
+     */
+    @Bean
+    public CloseableHttpClient govApiHttpClient(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return createHttpClient(HttpClientProperties.GOV_API, properties.profile(HttpClientProperties.GOV_API), meterRegistry);
+    }
+
+    /**
+     * AI 엔진 HS코드 추천 호출용 HTTP 클라이언트
+     * 요구사항 분석(최대 20분)용 ai-engine 풀과 분리해 사용자 대기 요청에 짧은 타임아웃 적용
+     */
+    @Bean
+    public CloseableHttpClient hsCodeHttpClient(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return createHttpClient(HttpClientProperties.HS_CODE, properties.profile(HttpClientProperties.HS_CODE), meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate aiEngineRestTemplate(@Qualifier("aiEngineHttpClient") CloseableHttpClient httpClient) {
+        return createRestTemplate(httpClient);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        
-        // 타임아웃 설정 (백그라운드 AI 분석: Tavily Search + 스크래핑 + GPT)
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(10000);   // 10초 연결 타임아웃
-        factory.setReadTimeout(1200000);     // 600초 (10분) 읽기 타임아웃 - 백그라운드 작업
-        
-        restTemplate.setRequestFactory(factory);
-        
+    public RestTemplate govApiRestTemplate(@Qualifier("govApiHttpClient") CloseableHttpClient httpClient) {
+        return createRestTemplate(httpClient);
+    }
+
+    @Bean
+    public RestTemplate hsCodeRestTemplate(@Qualifier("hsCodeHttpClient") CloseableHttpClient httpClient) {
+        return createRestTemplate(httpClient);
+    }
+
+    private RestTemplate createRestTemplate(CloseableHttpClient httpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
         // JSON 메시지 컨버터 추가
         restTemplate.getMessageConverters().add(new MappingJackson2HttpMessageConverter());
-        
+
         // 공통 헤더 인터셉터 추가 (EPA CompTox, CPSC 등 헤더 요구 API 대응)
         restTemplate.getInterceptors().add((request, body, execution) -> {
             request.getHeaders().add("Accept", "application/json");
             request.getHeaders().add("User-Agent", "LawGenie-Backend/1.0");
             return execution.execute(request, body);
         });
-        
+
         return restTemplate;
     }
+
+    private CloseableHttpClient createHttpClient(String name, HttpClientProperties.Profile profile, MeterRegistry meterRegistry) {
+        Timer leaseWaitTimer = Timer.builder("http.client.pool.wait")
+                .description("풀에서 연결을 얻기까지 기다린 시간")
+                .tag("profile", name)
+                .register(meterRegistry);
+
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(leaseWaitTimer);
+        connectionManager.setMaxTotal(profile.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(profile.getDefaultMaxPerHost());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(profile.getConnectTimeoutMs()))
+                .setSocketTimeout(Timeout.ofMilliseconds(profile.getReadTimeoutMs()))
+                .setTimeToLive(TimeValue.ofSeconds(profile.getConnectionTtlSeconds()))
+                .build());
+        profile.getMaxPerHost().forEach((url, max) -> connectionManager.setMaxPerRoute(toRoute(url), max));
+
+        Gauge.builder("http.client.pool.leased", connectionManager, manager -> manager.getTotalStats().getLeased())
+                .description("사용 중인 연결 수").tag("profile", name).register(meterRegistry);
+        Gauge.builder("http.client.pool.available", connectionManager, manager -> manager.getTotalStats().getAvailable())
+                .description("유휴 연결 수").tag("profile", name).register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", connectionManager, manager -> manager.getTotalStats().getPending())
+                .description("연결을 기다리는 요청 수").tag("profile", name).register(meterRegistry);
+        Gauge.builder("http.client.pool.max", connectionManager, manager -> manager.getTotalStats().getMax())
+                .description("풀 최대 연결 수").tag("profile", name).register(meterRegistry);
+
+        log.info("HTTP 커넥션 풀 생성 - 프로파일: {}, 최대: {}, 호스트별 기본: {}, 호스트별 지정: {}",
+                name, profile.getMaxTotal(), profile.getDefaultMaxPerHost(), profile.getMaxPerHost());
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(profile.getConnectionRequestTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(profile.getReadTimeoutMs()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(profile.getIdleEvictSeconds()))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /**
+     * 설정 URL(https://api.fda.gov)을 풀 라우트 키로 변환 (포트 생략 시 스킴 기본 포트)
+     */
+    private HttpRoute toRoute(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), (InetAddress) null, secure);
+    }
 }
@@ -0,0 +1,50 @@
+package com.suracle.backend_api.controller;
+
+import com.suracle.backend_api.service.resilience.AiEngineCircuitBreakers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 엔진 서킷 브레이커 상태 조회 / 수동 초기화
+ */
+@RestController
+@RequestMapping("/api/ai-engine")
+@RequiredArgsConstructor
+@Slf4j
+public class AiEngineResilienceController {
+
+    private final AiEngineCircuitBreakers circuitBreakers;
+
+    /**
+     * 엔드포인트별 서킷 상태, 실패율, 지연 시간 백분위, 현재 타임아웃
+     */
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<Map<String, Object>> getCircuitBreakers() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("circuitBreakers", circuitBreakers.snapshots());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 서킷 브레이커 수동 초기화 (CLOSED로 전환)
+     */
+    @PostMapping("/circuit-breakers/{endpoint}/reset")
+    public ResponseEntity<Map<String, Object>> resetCircuitBreaker(@PathVariable String endpoint) {
+        Map<String, Object> response = new HashMap<>();
+        if (!circuitBreakers.reset(endpoint)) {
+            response.put("success", false);
+            response.put("message", "서킷 브레이커를 찾을 수 없습니다: " + endpoint);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        response.put("success", true);
+        response.put("message", "서킷 브레이커를 초기화했습니다: " + endpoint);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,5 +1,8 @@
 package com.suracle.backend_api.controller;
 
+import com.suracle.backend_api.repository.requirements.ProviderRoutingDecisionRepository;
+import com.suracle.backend_api.service.http.GovApiRateLimiter;
+import com.suracle.backend_api.service.http.ProviderRouter;
 import com.suracle.backend_api.service.http.RequirementsApiClient;
 import com.suracle.backend_api.config.ApiEndpointsManager;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,9 @@ public class ApiEndpointsController {
     
     private final RequirementsApiClient requirementsApiClient;
     private final ApiEndpointsManager apiEndpointsManager;
+    private final GovApiRateLimiter govApiRateLimiter;
+    private final ProviderRouter providerRouter;
+    private final ProviderRoutingDecisionRepository providerRoutingDecisionRepository;
     
     /**
      * 모든 API 엔드포인트 정보 조회
@@ -116,4 +122,40 @@ public class ApiEndpointsController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 기관별 호출 제한 현황 (시간당 허용량, 남은 토큰, 다음 토큰까지 남은 시간, 허용량 출처)
+     * 한 번이라도 호출된 기관만 표시
+     */
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimits() {
+        try {
+            Map<String, Object> body = new java.util.HashMap<>();
+            body.put("agencies", govApiRateLimiter.getStatus());
+            body.put("timestamp", java.time.Instant.now().toString());
+            return ResponseEntity.ok(body);
+        } catch (Exception e) {
+            log.error("❌ 호출 제한 현황 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 기관별 데이터 소스 선택 현황 (전략, 무료 API 상태, 오늘 유료 검색 비용)과 최근 선택 기록
+     */
+    @GetMapping("/routing")
+    public ResponseEntity<Map<String, Object>> getRouting(
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "50") int limit
+    ) {
+        try {
+            Map<String, Object> body = new java.util.HashMap<>(providerRouter.getStatus());
+            body.put("recentDecisions", providerRoutingDecisionRepository.findRecent(
+                    org.springframework.data.domain.PageRequest.of(0, Math.max(1, Math.min(limit, 500)))));
+            body.put("timestamp", java.time.Instant.now().toString());
+            return ResponseEntity.ok(body);
+        } catch (Exception e) {
+            log.error("❌ 데이터 소스 선택 현황 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.suracle.backend_api.controller;
+
+import com.suracle.backend_api.config.AnalysisResultCacheProperties;
+import com.suracle.backend_api.config.GovApiCacheProperties;
+import com.suracle.backend_api.config.LlmSummaryCacheProperties;
+import com.suracle.backend_api.config.RequirementsAnalysisCacheProperties;
+import com.suracle.backend_api.config.RequirementsRefreshProperties;
+import com.suracle.backend_api.service.cache.AnalysisPayloadStore;
+import com.suracle.backend_api.service.cache.AnalysisResultCache;
+import com.suracle.backend_api.service.cache.CacheMetrics;
+import com.suracle.backend_api.service.cache.CacheReaper;
+import com.suracle.backend_api.service.cache.RequirementsCacheWarmer;
+import com.suracle.backend_api.service.requirements.KeywordExtractionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시 계층 현황 (적중률, 원본 조회 시간, 제거 건수와 현재 TTL 설정)
+ * TTL 조정 근거로 사용 - 값은 프로세스 시작 이후 누적 (여러 노드면 노드별)
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatsController {
+
+    private final CacheMetrics cacheMetrics;
+    private final AnalysisResultCache analysisResultCache;
+    private final AnalysisPayloadStore analysisPayloadStore;
+    private final RequirementsCacheWarmer requirementsCacheWarmer;
+    private final CacheReaper cacheReaper;
+    private final KeywordExtractionService keywordExtractionService;
+    private final AnalysisResultCacheProperties analysisResultCacheProperties;
+    private final GovApiCacheProperties govApiCacheProperties;
+    private final LlmSummaryCacheProperties llmSummaryCacheProperties;
+    private final RequirementsAnalysisCacheProperties requirementsAnalysisCacheProperties;
+    private final RequirementsRefreshProperties requirementsRefreshProperties;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("caches", cacheMetrics.summary());
+            response.put("memoryTier", analysisResultCache.stats());
+            response.put("payloads", analysisPayloadStore.stats());
+            response.put("warmer", requirementsCacheWarmer.getStatus());
+            response.put("reaper", cacheReaper.getStatus());
+            response.put("keywords", keywordExtractionService.stats());
+            response.put("ttl", ttlSettings());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("캐시 현황 조회 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", "캐시 현황 조회 실패: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private Map<String, Object> ttlSettings() {
+        Map<String, Object> ttl = new LinkedHashMap<>();
+        ttl.put(CacheMetrics.ANALYSIS_RESULT_MEMORY + ".minutes", analysisResultCacheProperties.getTtlMinutes());
+        ttl.put(CacheMetrics.SEARCH_RESULT + ".defaultMinutes", govApiCacheProperties.getDefaultTtlMinutes());
+        ttl.put(CacheMetrics.SEARCH_RESULT + ".agencyMinutes", govApiCacheProperties.getTtlMinutes());
+        ttl.put(CacheMetrics.SEARCH_RESULT + ".staleWindowMinutes", govApiCacheProperties.getStaleWindowMinutes());
+        ttl.put(CacheMetrics.SEARCH_RESULT + ".negativeMinutes", govApiCacheProperties.getNegativeTtlMinutes());
+        ttl.put(CacheMetrics.LLM_SUMMARY + ".days", llmSummaryCacheProperties.getTtlDays());
+        ttl.put(CacheMetrics.REQUIREMENTS_ANALYSIS + ".hours", requirementsAnalysisCacheProperties.getTtlHours());
+        ttl.put(CacheMetrics.PRODUCT_ANALYSIS_REUSE + ".freshDays", requirementsRefreshProperties.getFreshDays());
+        ttl.put(CacheMetrics.PRODUCT_ANALYSIS_REUSE + ".earlyRefreshDeltaMinutes",
+                requirementsRefreshProperties.isEarlyRefreshEnabled() ? requirementsRefreshProperties.getEarlyRefreshDeltaMinutes() : 0);
+        return ttl;
+    }
+}
@@ -6,6 +6,7 @@ import com.suracle.backend_api.dto.chat.ChatSessionRequestDto;
 import com.suracle.backend_api.dto.chat.ChatSessionResponseDto;
 import com.suracle.backend_api.entity.chat.enums.ChatSessionStatus;
 import com.suracle.backend_api.entity.chat.enums.ChatSessionType;
+import com.suracle.backend_api.service.ChatRetentionService;
 import com.suracle.backend_api.service.ChatService2;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -27,6 +29,7 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService2 chatService;
+    private final ChatRetentionService chatRetentionService;
 
     /**
      * 새 채팅 세션 생성
@@ -225,6 +228,16 @@ public class ChatController {
         }
     }
 
+    /**
+     * 마지막 만료 데이터 정리 결과 (삭제 건수, 소요 시간)
+     * 
+     * @return 정리 결과
+     */
+    @GetMapping("/cleanup/status")
+    public ResponseEntity<Map<String, Object>> getCleanupStatus() {
+        return ResponseEntity.ok(chatRetentionService.getLastReport());
+    }
+
     /**
      * 만료된 데이터 정리 (관리자용)
      * 
@@ -2,6 +2,11 @@ package com.suracle.backend_api.controller;
 
 import com.suracle.backend_api.service.AiWorkflowService;
 import com.suracle.backend_api.service.ProductService;
+import com.suracle.backend_api.service.ProductStartupAnalysisService;
+import com.suracle.backend_api.service.cache.AnalysisPayloadStore;
+import com.suracle.backend_api.service.cache.AnalysisResultCache;
+import com.suracle.backend_api.service.event.AnalysisProgressBroadcaster;
+import com.suracle.backend_api.service.event.AnalysisProgressEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.suracle.backend_api.entity.cache.ProductAnalysisCache;
 import com.suracle.backend_api.entity.product.Product;
@@ -9,17 +14,25 @@ import com.suracle.backend_api.repository.ProductRepository;
 import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,9 +43,17 @@ public class ProductAnalysisController {
 
     private final AiWorkflowService aiWorkflowService;
     private final ProductService productService;
+    private final ProductStartupAnalysisService productStartupAnalysisService;
     private final ProductRepository productRepository;
     private final ProductAnalysisCacheRepository productAnalysisCacheRepository;
+    private final AnalysisResultCache analysisResultCache;
+    private final AnalysisPayloadStore analysisPayloadStore;
     private final ObjectMapper objectMapper;
+    private final AnalysisProgressBroadcaster analysisProgressBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** SSE 연결 유지용 주석 이벤트 간격 (프록시 유휴 타임아웃 방지) */
+    private static final Duration SSE_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
 
     /**
      * 상품 분석 실행 (요구사항, 관세, 판례)
@@ -40,57 +61,31 @@ public class ProductAnalysisController {
      * @return 분석 실행 결과
      */
     @PostMapping("/{productId}/analyze")
-    public ResponseEntity<Map<String, Object>> triggerAnalysis(@PathVariable String productId) {
-        try {
-            log.info("상품 분석 실행 요청 - 상품 ID: {}", productId);
-            
-            // 상품 존재 확인
-            Optional<Product> productOpt = productRepository.findByProductId(productId);
-            if (productOpt.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "상품을 찾을 수 없습니다: " + productId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
-            
-            Product product = productOpt.get();
-            
-            // HS코드 확인
-            if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
-            
-            // AI 분석 실행
-            Map<String, Object> analysisResult = aiWorkflowService.executePrecedentsAnalysis(product);
-            
-            // 결과 저장
-            productService.saveAnalysisResult(product, analysisResult);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "상품 분석이 완료되었습니다.");
-            response.put("productId", productId);
-            response.put("analysisType", "precedents");
-            response.put("confidenceScore", analysisResult.get("confidence_score"));
-            response.put("isValid", analysisResult.get("is_valid"));
-            
-            log.info("상품 분석 완료 - 상품 ID: {}, 신뢰도: {}", productId, analysisResult.get("confidence_score"));
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("상품 분석 실행 실패 - 상품 ID: {}", productId, e);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "상품 분석 실행 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("productId", productId);
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public Mono<ResponseEntity<Map<String, Object>>> triggerAnalysis(@PathVariable String productId) {
+        log.info("상품 분석 실행 요청 - 상품 ID: {}", productId);
+
+        return withAnalyzableProduct(productId, product -> aiWorkflowService.executePrecedentsAnalysisAsync(product)
+                .publishOn(Schedulers.boundedElastic())
+                .map(analysisResult -> {
+                    // 결과 저장
+                    productService.saveAnalysisResult(product, analysisResult);
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "상품 분석이 완료되었습니다.");
+                    response.put("productId", productId);
+                    response.put("analysisType", "precedents");
+                    response.put("confidenceScore", analysisResult.get("confidence_score"));
+                    response.put("isValid", analysisResult.get("is_valid"));
+
+                    log.info("상품 분석 완료 - 상품 ID: {}, 신뢰도: {}", productId, analysisResult.get("confidence_score"));
+
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(e -> {
+                    log.error("상품 분석 실행 실패 - 상품 ID: {}", productId, e);
+                    return Mono.just(errorResponse(productId, "상품 분석 실행 중 오류가 발생했습니다: ", e));
+                });
     }
 
     /**
@@ -99,71 +94,56 @@ public class ProductAnalysisController {
      * @return 분석 실행 결과
      */
     @PostMapping("/{productId}/analyze/requirements")
-    public ResponseEntity<Map<String, Object>> triggerRequirementsAnalysis(@PathVariable String productId) {
-        try {
-            log.info("요구사항 분석 실행 요청 - 상품 ID: {}", productId);
-            
-            // 상품 존재 확인
-            Optional<Product> productOpt = productRepository.findByProductId(productId);
-            if (productOpt.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "상품을 찾을 수 없습니다: " + productId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
-            
-            Product product = productOpt.get();
-            
-            // HS코드 확인
-            if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
-            
-            // AI 요구사항 분석 실행
-            Map<String, Object> analysisResult = aiWorkflowService.executeRequirementsAnalysis(product);
-            
-            // 결과 저장
-            productService.saveAnalysisResult(product, analysisResult);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "요구사항 분석이 완료되었습니다.");
-            response.put("productId", productId);
-            response.put("analysisType", "requirements");
-            response.put("hsCode", product.getHsCode());
-            response.put("productName", product.getProductName());
-            
-            // 요구사항 분석 결과 추가
-            if (analysisResult.containsKey("recommended_agencies")) {
-                response.put("recommendedAgencies", analysisResult.get("recommended_agencies"));
-            }
-            if (analysisResult.containsKey("llm_summary")) {
-                response.put("llmSummary", analysisResult.get("llm_summary"));
-            }
-            if (analysisResult.containsKey("processing_time_ms")) {
-                response.put("processingTimeMs", analysisResult.get("processing_time_ms"));
-            }
-            if (analysisResult.containsKey("cache_hit")) {
-                response.put("cacheHit", analysisResult.get("cache_hit"));
-            }
-            
-            log.info("요구사항 분석 완료 - 상품 ID: {}, HS코드: {}", productId, product.getHsCode());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("요구사항 분석 실행 실패 - 상품 ID: {}", productId, e);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "요구사항 분석 실행 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("productId", productId);
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public Mono<ResponseEntity<Map<String, Object>>> triggerRequirementsAnalysis(@PathVariable String productId) {
+        log.info("요구사항 분석 실행 요청 - 상품 ID: {}", productId);
+
+        return withAnalyzableProduct(productId, product -> aiWorkflowService.executeRequirementsAnalysisAsync(product)
+                .publishOn(Schedulers.boundedElastic())
+                .map(analysisResult -> {
+                    // 오류 응답(연결 실패 기본값 포함)은 저장하지 않음 - 저장하면 신선 기간 동안 재분석되지 않고 같은 HS코드 상품에 공유됨
+                    if (productService.isEngineErrorResult(analysisResult)) {
+                        log.warn("요구사항 분석 오류 응답 - 저장하지 않음, 상품 ID: {}", productId);
+                        Map<String, Object> response = new HashMap<>();
+                        response.put("success", false);
+                        response.put("message", "요구사항 분석에 실패했습니다. 잠시 후 다시 시도해주세요.");
+                        response.put("productId", productId);
+                        response.put("analysisType", "requirements");
+                        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(response);
+                    }
+
+                    // 결과 저장
+                    productService.saveRequirementsAnalysisResult(product, analysisResult);
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "요구사항 분석이 완료되었습니다.");
+                    response.put("productId", productId);
+                    response.put("analysisType", "requirements");
+                    response.put("hsCode", product.getHsCode());
+                    response.put("productName", product.getProductName());
+
+                    // 요구사항 분석 결과 추가
+                    if (analysisResult.containsKey("recommended_agencies")) {
+                        response.put("recommendedAgencies", analysisResult.get("recommended_agencies"));
+                    }
+                    if (analysisResult.containsKey("llm_summary")) {
+                        response.put("llmSummary", analysisResult.get("llm_summary"));
+                    }
+                    if (analysisResult.containsKey("processing_time_ms")) {
+                        response.put("processingTimeMs", analysisResult.get("processing_time_ms"));
+                    }
+                    if (analysisResult.containsKey("cache_hit")) {
+                        response.put("cacheHit", analysisResult.get("cache_hit"));
+                    }
+
+                    log.info("요구사항 분석 완료 - 상품 ID: {}, HS코드: {}", productId, product.getHsCode());
+
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(e -> {
+                    log.error("요구사항 분석 실행 실패 - 상품 ID: {}", productId, e);
+                    return Mono.just(errorResponse(productId, "요구사항 분석 실행 중 오류가 발생했습니다: ", e));
+                });
     }
 
     /**
@@ -226,212 +206,264 @@ public class ProductAnalysisController {
      * @return 세부 규정 분석 결과
      */
     @PostMapping("/{productId}/analyze/detailed-regulations")
-    public ResponseEntity<Map<String, Object>> triggerDetailedRegulationsAnalysis(@PathVariable String productId) {
-        try {
-            log.info("세부 규정 분석 실행 요청 - 상품 ID: {}", productId);
-            
-            // 상품 존재 확인
-            Optional<Product> productOpt = productRepository.findByProductId(productId);
-            if (productOpt.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "상품을 찾을 수 없습니다: " + productId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
-            
-            Product product = productOpt.get();
-            
-            // HS코드 확인
-            if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
-            
-            // AI 세부 규정 분석 실행
-            Map<String, Object> analysisResult = aiWorkflowService.executeDetailedRegulationsAnalysis(product);
-            
-            // 결과 저장
-            productService.saveAnalysisResult(product, analysisResult);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "세부 규정 분석이 완료되었습니다.");
-            response.put("productId", productId);
-            response.put("analysisType", "detailed_regulations");
-            response.put("hsCode", product.getHsCode());
-            response.put("productName", product.getProductName());
-            
-            // 세부 규정 분석 결과 추가
-            if (analysisResult.containsKey("extracted_regulations")) {
-                response.put("extractedRegulations", analysisResult.get("extracted_regulations"));
-            }
-            if (analysisResult.containsKey("phase_results")) {
-                response.put("phaseResults", analysisResult.get("phase_results"));
-            }
-            if (analysisResult.containsKey("sources")) {
-                response.put("sources", analysisResult.get("sources"));
-            }
-            if (analysisResult.containsKey("confidence")) {
-                response.put("confidenceScore", analysisResult.get("confidence"));
-            }
-            
-            log.info("세부 규정 분석 완료 - 상품 ID: {}, HS코드: {}", productId, product.getHsCode());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("세부 규정 분석 실행 실패 - 상품 ID: {}", productId, e);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "세부 규정 분석 실행 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("productId", productId);
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public Mono<ResponseEntity<Map<String, Object>>> triggerDetailedRegulationsAnalysis(@PathVariable String productId) {
+        log.info("세부 규정 분석 실행 요청 - 상품 ID: {}", productId);
+
+        return withAnalyzableProduct(productId, product -> aiWorkflowService.executeDetailedRegulationsAnalysisAsync(product)
+                .publishOn(Schedulers.boundedElastic())
+                .map(analysisResult -> {
+                    // 결과 저장
+                    productService.saveAnalysisResult(product, "detailed_regulations", analysisResult);
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "세부 규정 분석이 완료되었습니다.");
+                    response.put("productId", productId);
+                    response.put("analysisType", "detailed_regulations");
+                    response.put("hsCode", product.getHsCode());
+                    response.put("productName", product.getProductName());
+
+                    // 세부 규정 분석 결과 추가
+                    if (analysisResult.containsKey("extracted_regulations")) {
+                        response.put("extractedRegulations", analysisResult.get("extracted_regulations"));
+                    }
+                    if (analysisResult.containsKey("phase_results")) {
+                        response.put("phaseResults", analysisResult.get("phase_results"));
+                    }
+                    if (analysisResult.containsKey("sources")) {
+                        response.put("sources", analysisResult.get("sources"));
+                    }
+                    if (analysisResult.containsKey("confidence")) {
+                        response.put("confidenceScore", analysisResult.get("confidence"));
+                    }
+
+                    log.info("세부 규정 분석 완료 - 상품 ID: {}, HS코드: {}", productId, product.getHsCode());
+
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(e -> {
+                    log.error("세부 규정 분석 실행 실패 - 상품 ID: {}", productId, e);
+                    return Mono.just(errorResponse(productId, "세부 규정 분석 실행 중 오류가 발생했습니다: ", e));
+                });
     }
 
     /**
      * 검사 절차 및 방법 분석만 실행 (Phase 2)
      */
     @PostMapping("/{productId}/analyze/testing-procedures")
-    public ResponseEntity<Map<String, Object>> triggerTestingProceduresAnalysis(@PathVariable String productId) {
-        try {
-            log.info("검사 절차 분석 실행 요청 - 상품 ID: {}", productId);
+    public Mono<ResponseEntity<Map<String, Object>>> triggerTestingProceduresAnalysis(@PathVariable String productId) {
+        log.info("검사 절차 분석 실행 요청 - 상품 ID: {}", productId);
 
-            Optional<Product> productOpt = productRepository.findByProductId(productId);
-            if (productOpt.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "상품을 찾을 수 없습니다: " + productId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
+        return withAnalyzableProduct(productId, product -> aiWorkflowService.executeTestingProceduresAnalysisAsync(product)
+                .publishOn(Schedulers.boundedElastic())
+                .map(analysisResult -> {
+                    productService.saveAnalysisResult(product, "testing_procedures", analysisResult);
 
-            Product product = productOpt.get();
-            if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "검사 절차 분석이 완료되었습니다.");
+                    response.put("productId", productId);
+                    response.put("analysisType", "testing_procedures");
+                    response.put("hsCode", product.getHsCode());
+                    response.put("productName", product.getProductName());
+                    response.putAll(analysisResult);
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(e -> {
+                    log.error("검사 절차 분석 실행 실패 - 상품 ID: {}", productId, e);
+                    return Mono.just(errorResponse(productId, "검사 절차 분석 중 오류가 발생했습니다: ", e));
+                });
+    }
 
-            Map<String, Object> analysisResult = aiWorkflowService.executeTestingProceduresAnalysis(product);
+    /**
+     * 처벌 및 벌금 분석만 실행 (Phase 3)
+     */
+    @PostMapping("/{productId}/analyze/penalties")
+    public Mono<ResponseEntity<Map<String, Object>>> triggerPenaltiesAnalysis(@PathVariable String productId) {
+        log.info("처벌/벌금 분석 실행 요청 - 상품 ID: {}", productId);
 
-            productService.saveAnalysisResult(product, analysisResult);
+        return withAnalyzableProduct(productId, product -> aiWorkflowService.executePenaltiesAnalysisAsync(product)
+                .publishOn(Schedulers.boundedElastic())
+                .map(analysisResult -> {
+                    productService.saveAnalysisResult(product, "penalties", analysisResult);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "검사 절차 분석이 완료되었습니다.");
-            response.put("productId", productId);
-            response.put("analysisType", "testing_procedures");
-            response.put("hsCode", product.getHsCode());
-            response.put("productName", product.getProductName());
-            response.putAll(analysisResult);
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "처벌/벌금 분석이 완료되었습니다.");
+                    response.put("productId", productId);
+                    response.put("analysisType", "penalties");
+                    response.put("hsCode", product.getHsCode());
+                    response.put("productName", product.getProductName());
+                    response.putAll(analysisResult);
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(e -> {
+                    log.error("처벌/벌금 분석 실행 실패 - 상품 ID: {}", productId, e);
+                    return Mono.just(errorResponse(productId, "처벌/벌금 분석 중 오류가 발생했습니다: ", e));
+                });
+    }
 
-            return ResponseEntity.ok(response);
+    /**
+     * 유효기간/갱신 분석만 실행 (Phase 4)
+     */
+    @PostMapping("/{productId}/analyze/validity")
+    public Mono<ResponseEntity<Map<String, Object>>> triggerValidityAnalysis(@PathVariable String productId) {
+        log.info("유효기간/갱신 분석 실행 요청 - 상품 ID: {}", productId);
 
-        } catch (Exception e) {
-            log.error("검사 절차 분석 실행 실패 - 상품 ID: {}", productId, e);
+        return withAnalyzableProduct(productId, product -> aiWorkflowService.executeValidityAnalysisAsync(product)
+                .publishOn(Schedulers.boundedElastic())
+                .map(analysisResult -> {
+                    productService.saveAnalysisResult(product, "validity", analysisResult);
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "유효기간/갱신 분석이 완료되었습니다.");
+                    response.put("productId", productId);
+                    response.put("analysisType", "validity");
+                    response.put("hsCode", product.getHsCode());
+                    response.put("productName", product.getProductName());
+                    response.putAll(analysisResult);
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(e -> {
+                    log.error("유효기간/갱신 분석 실행 실패 - 상품 ID: {}", productId, e);
+                    return Mono.just(errorResponse(productId, "유효기간/갱신 분석 중 오류가 발생했습니다: ", e));
+                });
+    }
+
+    /**
+     * 요구사항 일괄 분석 (HS코드별로 묶어 AI 엔진 호출 1회, 결과는 그룹 내 모든 상품에 저장)
+     * 요청 예: { "productIds": ["PROD-2025-001", "PROD-2025-002"], "forceRefresh": false }
+     * @return HS코드 그룹별 처리 결과
+     */
+    @PostMapping("/analyze/requirements/batch")
+    public Mono<ResponseEntity<Map<String, Object>>> triggerRequirementsBatchAnalysis(@RequestBody Map<String, Object> request) {
+        Object rawProductIds = request.get("productIds");
+        if (!(rawProductIds instanceof List<?> productIdList) || productIdList.isEmpty()) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
-            response.put("message", "검사 절차 분석 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("productId", productId);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            response.put("message", "productIds가 필요합니다.");
+            return Mono.just(ResponseEntity.badRequest().body(response));
         }
+
+        List<String> productIds = productIdList.stream().map(String::valueOf).distinct().toList();
+        boolean forceRefresh = Boolean.TRUE.equals(request.get("forceRefresh"));
+        log.info("요구사항 일괄 분석 요청 - 상품 수: {}, 강제 갱신: {}", productIds.size(), forceRefresh);
+
+        List<Product> products = productRepository.findByProductIdIn(productIds);
+        List<String> foundIds = products.stream().map(Product::getProductId).toList();
+        List<String> notFound = productIds.stream().filter(id -> !foundIds.contains(id)).toList();
+        List<String> missingHsCode = products.stream()
+                .filter(product -> product.getHsCode() == null || product.getHsCode().trim().isEmpty())
+                .map(Product::getProductId)
+                .toList();
+
+        return productService.executeRequirementsBatchAnalysis(products, forceRefresh)
+                .map(groups -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "요구사항 일괄 분석이 완료되었습니다.");
+                    response.put("analysisType", "requirements");
+                    response.put("groupCount", groups.size());
+                    response.put("groups", groups);
+                    response.put("notFoundProductIds", notFound);
+                    response.put("missingHsCodeProductIds", missingHsCode);
+
+                    log.info("요구사항 일괄 분석 완료 - 상품 수: {}, HS코드 그룹 수: {}", products.size(), groups.size());
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> {
+                    log.error("요구사항 일괄 분석 실패", e);
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", false);
+                    response.put("message", "요구사항 일괄 분석 중 오류가 발생했습니다: " + e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+                });
     }
 
     /**
-     * 처벌 및 벌금 분석만 실행 (Phase 3)
+     * 요구사항 분석 백필 진행 현황 (체크포인트 위치, 큐 대기/완료/실패 건수)
      */
-    @PostMapping("/{productId}/analyze/penalties")
-    public ResponseEntity<Map<String, Object>> triggerPenaltiesAnalysis(@PathVariable String productId) {
+    @GetMapping("/analysis/backfill/status")
+    public ResponseEntity<Map<String, Object>> getBackfillStatus() {
         try {
-            log.info("처벌/벌금 분석 실행 요청 - 상품 ID: {}", productId);
-
-            Optional<Product> productOpt = productRepository.findByProductId(productId);
-            if (productOpt.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "상품을 찾을 수 없습니다: " + productId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
-            Product product = productOpt.get();
-            if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
-
-            Map<String, Object> analysisResult = aiWorkflowService.executePenaltiesAnalysis(product);
-            productService.saveAnalysisResult(product, analysisResult);
-
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "처벌/벌금 분석이 완료되었습니다.");
-            response.put("productId", productId);
-            response.put("analysisType", "penalties");
-            response.put("hsCode", product.getHsCode());
-            response.put("productName", product.getProductName());
-            response.putAll(analysisResult);
+            response.put("backfill", productStartupAnalysisService.getBackfillStatus());
             return ResponseEntity.ok(response);
-
         } catch (Exception e) {
-            log.error("처벌/벌금 분석 실행 실패 - 상품 ID: {}", productId, e);
+            log.error("백필 진행 현황 조회 실패", e);
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
-            response.put("message", "처벌/벌금 분석 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("productId", productId);
+            response.put("message", "백필 진행 현황 조회 중 오류가 발생했습니다: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
 
     /**
-     * 유효기간/갱신 분석만 실행 (Phase 4)
+     * 분석 진행 상황 실시간 스트림 (SSE)
+     * 연결 시 현재 완료된 분석 타입을 snapshot 이벤트로 한 번 보내고,
+     * 이후에는 분석 시작/완료/실패 이벤트를 발생 즉시 전달 (폴링 불필요)
+     * @param productId 상품 ID
      */
-    @PostMapping("/{productId}/analyze/validity")
-    public ResponseEntity<Map<String, Object>> triggerValidityAnalysis(@PathVariable String productId) {
-        try {
-            log.info("유효기간/갱신 분석 실행 요청 - 상품 ID: {}", productId);
+    @GetMapping(value = "/{productId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Object>>> streamAnalysisProgress(@PathVariable String productId) {
+        log.info("분석 진행 스트림 구독 - 상품 ID: {}", productId);
 
-            Optional<Product> productOpt = productRepository.findByProductId(productId);
-            if (productOpt.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "상품을 찾을 수 없습니다: " + productId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
-            Product product = productOpt.get();
-            if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
+        Optional<Product> productOpt = productRepository.findByProductId(productId);
+        if (productOpt.isEmpty()) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("success", false);
+            data.put("message", "상품을 찾을 수 없습니다: " + productId);
+            return Flux.just(ServerSentEvent.<Map<String, Object>>builder().event("error").data(data).build());
+        }
+        Product product = productOpt.get();
 
-            Map<String, Object> analysisResult = aiWorkflowService.executeValidityAnalysis(product);
-            productService.saveAnalysisResult(product, analysisResult);
+        // 구독을 먼저 연결해 snapshot 조회 중 발생한 이벤트도 놓치지 않음
+        Flux<ServerSentEvent<Map<String, Object>>> live = analysisProgressBroadcaster.subscribe(productId)
+                .map(event -> {
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("productId", event.getProductId());
+                    data.put("analysisType", event.getAnalysisType());
+                    data.put("phase", event.getPhase());
+                    data.put("message", event.getMessage());
+                    data.put("occurredAt", event.getOccurredAt().toString());
+                    return ServerSentEvent.<Map<String, Object>>builder()
+                            .event("analysis")
+                            .data(data)
+                            .build();
+                });
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "유효기간/갱신 분석이 완료되었습니다.");
-            response.put("productId", productId);
-            response.put("analysisType", "validity");
-            response.put("hsCode", product.getHsCode());
-            response.put("productName", product.getProductName());
-            response.putAll(analysisResult);
-            return ResponseEntity.ok(response);
+        Flux<ServerSentEvent<Map<String, Object>>> snapshot = Mono.fromCallable(() -> analysisSnapshot(product))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(data -> ServerSentEvent.<Map<String, Object>>builder()
+                        .event("snapshot")
+                        .data(data)
+                        .build())
+                .flux();
 
-        } catch (Exception e) {
-            log.error("유효기간/갱신 분석 실행 실패 - 상품 ID: {}", productId, e);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "유효기간/갱신 분석 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("productId", productId);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Flux<ServerSentEvent<Map<String, Object>>> heartbeat = Flux.interval(SSE_HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<Map<String, Object>>builder().comment("keep-alive").build());
+
+        return Flux.merge(live, snapshot, heartbeat)
+                .doFinally(signal -> log.info("분석 진행 스트림 종료 - 상품 ID: {}, 신호: {}", productId, signal));
+    }
+
+    /**
+     * 스트림 연결 시 한 번만 보내는 현재 분석 상태
+     */
+    private Map<String, Object> analysisSnapshot(Product product) {
+        List<String> completedTypes = productAnalysisCacheRepository.findByProductId(product.getId()).stream()
+                .map(ProductAnalysisCache::getAnalysisType)
+                .distinct()
+                .toList();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("success", true);
+        data.put("productId", product.getProductId());
+        data.put("hsCode", product.getHsCode());
+        data.put("completedAnalysisTypes", completedTypes);
+        return data;
     }
 
     /**
@@ -459,10 +491,8 @@ public class ProductAnalysisController {
             boolean hasHsCode = product.getHsCode() != null && !product.getHsCode().trim().isEmpty();
             
             // 분석 진행 상황 확인
-            boolean precedentsComplete = productAnalysisCacheRepository
-                    .findByProductIdAndAnalysisType(product.getId(), "precedents").isPresent();
-            boolean requirementsComplete = productAnalysisCacheRepository
-                    .findByProductIdAndAnalysisType(product.getId(), "requirements").isPresent();
+            boolean precedentsComplete = analysisResultCache.get(product.getId(), "precedents").isPresent();
+            boolean requirementsComplete = analysisResultCache.get(product.getId(), "requirements").isPresent();
             
             boolean analysisInProgress = hasHsCode && (!precedentsComplete || !requirementsComplete);
             boolean analysisComplete = hasHsCode && precedentsComplete && requirementsComplete;
@@ -564,7 +594,7 @@ public class ProductAnalysisController {
             ProductAnalysisCache cache;
             if (existingCache.isPresent()) {
                 cache = existingCache.get();
-                cache.setAnalysisResult(objectMapper.valueToTree(analysisResult));
+                analysisPayloadStore.attach(cache, product.getHsCode(), objectMapper.valueToTree(analysisResult));
                 cache.setConfidenceScore(BigDecimal.valueOf(confidenceScore));
                 cache.setIsValid(isValid);
                 cache.setUpdatedAt(LocalDateTime.now());
@@ -572,13 +602,16 @@ public class ProductAnalysisController {
                 cache = ProductAnalysisCache.builder()
                     .product(product)
                     .analysisType(analysisType)
-                    .analysisResult(objectMapper.valueToTree(analysisResult))
                     .confidenceScore(BigDecimal.valueOf(confidenceScore))
                     .isValid(isValid)
                     .build();
+                analysisPayloadStore.attach(cache, product.getHsCode(), objectMapper.valueToTree(analysisResult));
             }
             
             productAnalysisCacheRepository.save(cache);
+            analysisResultCache.evict(product.getId(), analysisType);
+            eventPublisher.publishEvent(AnalysisProgressEvent.of(
+                    product.getProductId(), analysisType, AnalysisProgressEvent.Phase.COMPLETED, null));
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -624,6 +657,7 @@ public class ProductAnalysisController {
             
             if (cacheOpt.isPresent()) {
                 productAnalysisCacheRepository.delete(cacheOpt.get());
+                analysisResultCache.evict(product.getId(), analysis_type);
                 log.info("분석 캐시 삭제 완료 - 상품 ID: {}, 분석타입: {}", product.getId(), analysis_type);
             }
             
@@ -641,4 +675,39 @@ public class ProductAnalysisController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    /**
+     * 상품 존재 및 HS코드 확인 후 분석 실행 (분석 결과는 논블로킹으로 기다림)
+     */
+    private Mono<ResponseEntity<Map<String, Object>>> withAnalyzableProduct(
+            String productId, Function<Product, Mono<ResponseEntity<Map<String, Object>>>> analysis) {
+        // 상품 존재 확인
+        Optional<Product> productOpt = productRepository.findByProductId(productId);
+        if (productOpt.isEmpty()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "상품을 찾을 수 없습니다: " + productId);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(response));
+        }
+
+        Product product = productOpt.get();
+
+        // HS코드 확인
+        if (product.getHsCode() == null || product.getHsCode().trim().isEmpty()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "HS코드가 없어 분석을 실행할 수 없습니다.");
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response));
+        }
+
+        return analysis.apply(product);
+    }
+
+    private ResponseEntity<Map<String, Object>> errorResponse(String productId, String messagePrefix, Throwable e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", messagePrefix + e.getMessage());
+        response.put("productId", productId);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    }
 }
@@ -4,22 +4,32 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.suracle.backend_api.service.cache.LlmSummaryCacheService;
+import com.suracle.backend_api.service.http.CachingRequirementsApiClient;
+import com.suracle.backend_api.service.http.GovApiPayload;
+import com.suracle.backend_api.service.http.GovApiProjections;
+import com.suracle.backend_api.service.http.ProviderRouter;
 import com.suracle.backend_api.service.http.RequirementsApiClient;
+import com.suracle.backend_api.service.requirements.KeywordExtractionService;
 import com.suracle.backend_api.service.util.ChemicalNameMapper;
-import com.suracle.backend_api.service.util.EnglishNameUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 요건 수집 전용 컨트롤러 (AI Engine Helper)
@@ -29,10 +39,13 @@ import java.util.*;
  * <p>주요 기능:
  * <ul>
  *   <li>GET /api/requirements/collect: 정부 API 데이터 수집 및 정규화</li>
- *   <li>키워드 추출 (AI Engine API 호출 → fallback 휴리스틱)</li>
- *   <li>다중 정부 API 호출 (FDA, USDA, EPA, Census)</li>
+ *   <li>키워드 추출 (상품명별 AI Engine 결과 캐시, 캐시에 없으면 로컬 추출 후 백그라운드에서 AI Engine 호출)</li>
+ *   <li>다중 정부 API 동시 호출 (FDA, USDA, EPA, Census) + 전체 마감 시간 (미응답 기관은 timed_out citation)</li>
  *   <li>OR 쿼리 지원 (여러 키워드 동시 검색)</li>
  *   <li>Citations 생성 (출처 URL 포함)</li>
+ *   <li>search_result_cache 기반 결과 캐시 (stale-while-revalidate)</li>
+ *   <li>응답은 필요한 필드만 스트리밍으로 읽음 (전체 트리는 includeRawData=true일 때만)</li>
+ *   <li>수집 문서 해시 기반 LLM 요약 재사용 (llm_summary_cache)</li>
  * </ul>
  * 
  * <p>호출 API:
@@ -53,12 +66,26 @@ import java.util.*;
 @Slf4j
 public class RequirementsCollectorController {
 
-    private final RequirementsApiClient client;
-    private final RestTemplate restTemplate;
+    private final CachingRequirementsApiClient client;
+    @Qualifier("govApiExecutor")
+    private final Executor govApiExecutor;
+    private final LlmSummaryCacheService llmSummaryCacheService;
+    private final KeywordExtractionService keywordExtractionService;
+    private final ProviderRouter providerRouter;
     private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** raw_data 키 (수집 문서 해시에도 같은 키 사용) */
+    private static final String RAW_FDA_FOOD_ENFORCEMENT = "fda_food_enforcement";
+    private static final String RAW_USDA_FDC = "usda_fdc";
+    private static final String RAW_EPA_COMPTOX = "epa_comptox";
+    private static final String RAW_CENSUS_IMPORTS = "census_imports";
+
+    /** 기관 수집 결과 없음 (캐시 조회 단계에서 미스 판단에 사용) */
+    private static final Consumer<CollectedData> NO_DATA = data -> { };
     
-    @Value("${ai.requirements-analysis.url:http://localhost:8000}")
-    private String aiEngineUrl;
+    /** 정부 API 수집 전체 마감 시간 (ms, 기관별 호출은 동시에 진행) */
+    @Value("${requirements.collect.deadline-ms:12000}")
+    private long collectDeadlineMs;
 
     /**
      * 요건 수집 메인 엔드포인트
@@ -78,8 +105,8 @@ public class RequirementsCollectorController {
             log.info("📥 요건 수집 요청 - product: {}, hs: {}", product, hs);
 
             // 1. 키워드 정규화 및 추출 (AI Engine 사용)
-            String normalizedKeyword = normalizeProductKeyword(product);
-            List<String> keywords = extractKeywordsWithAi(product);
+            String normalizedKeyword = keywordExtractionService.normalize(product);
+            List<String> keywords = keywordExtractionService.extract(product, hs);
             String chemicalName = ChemicalNameMapper.toChemicalName(normalizedKeyword);
             
             System.out.println("🔄 정규화 완료:");
@@ -95,7 +122,7 @@ public class RequirementsCollectorController {
             CollectedData collectedData = collectFromApis(normalizedKeyword, keywords, chemicalName, hs);
 
             // 3. 요건 추출
-            ExtractedRequirements extracted = extractRequirements(collectedData);
+            ExtractedRequirements extracted = extractRequirements(collectedData, hs);
 
             // 4. 응답 구성
             ObjectNode response = objectMapper.createObjectNode();
@@ -108,10 +135,26 @@ public class RequirementsCollectorController {
             // 요건 데이터
             response.set("requirements", buildRequirementsNode(extracted));
             
-            // 출처 정보 (citations)
+            // 출처 정보 (citations) - 마감 시간 안에 응답하지 않은 기관은 status=timed_out
             response.set("citations", buildCitationsNode(collectedData));
+            response.put("partial", !collectedData.timedOutAgencies.isEmpty());
+            response.set("timed_out_sources", objectMapper.valueToTree(collectedData.timedOutAgencies));
+            // 기관별 데이터 소스 (provider != free_api면 AI 엔진이 해당 유료 검색으로 수집)
+            response.set("provider_routing", buildRoutingNode(collectedData));
+
+            // 수집 문서 해시 + 같은 문서에 대한 LLM 요약이 있으면 함께 전달 (AI 엔진은 재요약 생략)
+            // 기관별 내용 해시로 계산하므로 원본 트리를 만들지 않음
+            String documentsHash = llmSummaryCacheService.documentsHash(collectedData.contentHashes);
+            response.put("raw_documents_hash", documentsHash);
+            llmSummaryCacheService.findValid(hs, product, documentsHash).ifPresentOrElse(
+                summary -> {
+                    response.set("cached_llm_summary", summary);
+                    response.put("llm_summary_cached", true);
+                },
+                () -> response.put("llm_summary_cached", false)
+            );
 
-            // 원본 데이터 (선택)
+            // 원본 데이터 (선택 - 요청한 경우에만 전체 트리 생성)
             if (includeRawData) {
                 response.set("raw_data", buildRawDataNode(collectedData));
             }
@@ -133,264 +176,274 @@ public class RequirementsCollectorController {
     }
 
     /**
-     * 제품 키워드 정규화
-     */
-    private String normalizeProductKeyword(String product) {
-        if (product == null || product.isBlank()) {
-            return "";
-        }
-        
-        // 한글 → 영문 변환
-        String english = EnglishNameUtil.toEnglishQuery(product);
-        
-        // 소문자 변환 및 공백 정리
-        return english.toLowerCase().trim();
-    }
-    
-    /**
-     * AI Engine을 사용하여 키워드 추출
+     * LLM 요약 저장 (AI 엔진이 새로 요약한 경우 호출)
      * 
-     * 우선순위:
-     * 1. AI Engine API 호출 (OpenAI/HF)
-     * 2. 로컬 휴리스틱 (폴백)
+     * @param request hs_code, product_name, raw_documents_hash, summary, model_used, tokens_used, cost
      */
-    private List<String> extractKeywordsWithAi(String product) {
-        try {
-            // AI Engine API 호출
-            String url = aiEngineUrl + "/requirements/extract-keywords";
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("product_name", product);
-            requestBody.put("product_description", "");
-            requestBody.put("top_k", 5);
-            requestBody.put("method", "auto");  // OpenAI → HF → Heuristic
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            log.debug("📡 AI Engine 키워드 추출 호출: {}", url);
-            
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                    url,
-                    entity,
-                    (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                @SuppressWarnings("unchecked")
-                List<String> keywords = (List<String>) result.get("keywords");
-                String method = (String) result.get("method_used");
-                
-                log.info("✅ AI 키워드 추출 성공 - 방법: {}, 키워드: {}", method, keywords);
-                
-                return keywords != null ? keywords : List.of();
-            }
-            
-        } catch (Exception e) {
-            log.warn("⚠️ AI 키워드 추출 실패, 로컬 휴리스틱 사용: {}", e.getMessage());
-        }
-        
-        // 폴백: 로컬 휴리스틱 키워드 추출
-        return extractKeywords(product);
+    @PostMapping("/summary-cache")
+    public ResponseEntity<Map<String, Object>> saveLlmSummary(@RequestBody Map<String, Object> request) {
+        Map<String, Object> response = new HashMap<>();
+        String hsCode = (String) request.get("hs_code");
+        String productName = (String) request.get("product_name");
+        String documentsHash = (String) request.get("raw_documents_hash");
+        Object summary = request.get("summary");
+
+        if (hsCode == null || productName == null || documentsHash == null || summary == null) {
+            response.put("success", false);
+            response.put("message", "hs_code, product_name, raw_documents_hash, summary는 필수입니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        llmSummaryCacheService.save(hsCode, productName, documentsHash, objectMapper.valueToTree(summary),
+                (String) request.get("model_used"),
+                request.get("tokens_used") instanceof Number tokens ? tokens.intValue() : null,
+                request.get("cost") instanceof Number cost ? new java.math.BigDecimal(cost.toString()) : null);
+
+        response.put("success", true);
+        response.put("message", "LLM 요약 저장 완료");
+        return ResponseEntity.ok(response);
     }
 
     /**
-     * 제품명에서 핵심 키워드 추출 (공백 기준 분리 + 불용어 제거)
+     * 정부 API에서 데이터 수집 (OR 쿼리 사용)
+     * 캐시에 결과가 있는 기관은 바로 사용하고, 나머지만 소스를 선택해 호출
+     * 기관별 호출은 govApiExecutor에서 동시에 실행하고, 요청 전체 마감 시간까지 끝난 결과만 호출 순서대로 합침
+     * 마감까지 끝나지 않은 기관은 timed_out citation으로 표시 (호출은 계속 진행되어 결과가 캐시에 저장됨)
      */
-    private List<String> extractKeywords(String product) {
-        if (product == null || product.isBlank()) {
-            return List.of();
+    private CollectedData collectFromApis(String keyword, List<String> keywords, String chemicalName, String hsCode) {
+        Map<String, Supplier<Consumer<CollectedData>>> sources = new LinkedHashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        sources.put("FDA", () -> collectFda(keyword, keywords));
+        categories.put("FDA", "Food Enforcement");
+        sources.put("USDA", () -> collectUsda(keyword, keywords));
+        categories.put("USDA", "FoodData Central");
+        if (chemicalName != null && !chemicalName.isBlank()) {
+            sources.put("EPA", () -> collectEpa(chemicalName));
+            categories.put("EPA", "CompTox Dashboard");
         }
-        
-        // 정규화된 키워드
-        String normalized = normalizeProductKeyword(product);
-        
-        // 공백 기준 분리
-        String[] tokens = normalized.split("\\s+");
-        
-        // 불용어 제거 및 필터링
-        Set<String> stopWords = Set.of("the", "a", "an", "and", "or", "for", "with", "of", "in", "to", "on", "by");
-        List<String> keywords = new ArrayList<>();
-        
-        for (String token : tokens) {
-            if (!token.isBlank() && token.length() >= 3 && !stopWords.contains(token)) {
-                keywords.add(token);
-            }
+        if (hsCode != null && !hsCode.isBlank()) {
+            sources.put("Census", () -> collectCensus(hsCode));
+            categories.put("Census", "International Trade HS");
         }
-        
-        // 카테고리 키워드 우선순위 부여
-        // HS 코드 첫 2자리로 카테고리 판단
-        List<String> priorityKeywords = new ArrayList<>();
-        List<String> normalKeywords = new ArrayList<>();
-        
-        // HS 코드 기반 카테고리 키워드 (동적 생성)
-        Set<String> categoryKeywords = getCategoryKeywordsByHsPrefix(
-            product != null && product.length() >= 2 ? product.substring(0, 2) : ""
-        );
-        
-        for (String kw : keywords) {
-            if (categoryKeywords.contains(kw)) {
-                priorityKeywords.add(kw);
+
+        // 캐시(search_result_cache)에 결과가 있는 기관은 그대로 사용 - 소스 선택(유료 검색 예산 포함)은 캐시 미스 기관만
+        Map<String, Consumer<CollectedData>> cachedResults = new LinkedHashMap<>();
+        sources.forEach((agency, source) -> {
+            try {
+                Consumer<CollectedData> cached = client.cacheOnly(source);
+                if (cached != NO_DATA) {
+                    cachedResults.put(agency, cached);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ {} 캐시 조회 실패 - 소스 선택 후 호출: {}", agency, e.getMessage());
+            }
+        });
+        Set<String> misses = new LinkedHashSet<>(sources.keySet());
+        misses.removeAll(cachedResults.keySet());
+
+        // 기관별 소스 선택 - 유료 검색으로 전환된 기관은 무료 API를 호출하지 않고 AI 엔진에 맡김
+        Map<String, ProviderRouter.Route> routes = misses.isEmpty() ? Map.of() : providerRouter.route(misses, hsCode);
+        List<ApiCall> calls = new ArrayList<>();
+        CollectedData data = new CollectedData();
+        sources.forEach((agency, source) -> {
+            Consumer<CollectedData> cached = cachedResults.get(agency);
+            if (cached != null) {
+                data.routes.put(agency, new ProviderRouter.Route(agency, ProviderRouter.FREE_API, "cached"));
+                calls.add(new ApiCall(agency, categories.get(agency), CompletableFuture.completedFuture(cached)));
+                return;
+            }
+            ProviderRouter.Route route = routes.get(agency);
+            data.routes.put(agency, route);
+            if (route.isFreeApi()) {
+                calls.add(submitApiCall(agency, categories.get(agency), source));
             } else {
-                normalKeywords.add(kw);
+                data.citations.add(Citation.routed(agency, categories.get(agency), route.provider()));
+            }
+        });
+
+        try {
+            CompletableFuture.allOf(calls.stream().map(ApiCall::future).toArray(CompletableFuture[]::new))
+                    .get(collectDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️ 정부 API 수집 마감 시간({}ms) 초과 - 완료된 기관만 반환", collectDeadlineMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 기관별 실패는 submitApiCall에서 처리되므로 여기까지 오지 않음
+        }
+
+        for (ApiCall call : calls) {
+            if (call.future().isDone()) {
+                call.future().join().accept(data);
+            } else {
+                data.timedOutAgencies.add(call.agency());
+                data.citations.add(Citation.timedOut(call.agency(), call.category(), collectDeadlineMs));
             }
         }
-        
-        // 우선순위 키워드를 앞에 배치
-        List<String> result = new ArrayList<>();
-        result.addAll(priorityKeywords);
-        result.addAll(normalKeywords);
-        
-        // 최대 5개까지만
-        return result.stream().limit(5).toList();
+        return data;
     }
-    
+
     /**
-     * HS 코드 접두사 기반 카테고리 키워드 반환
+     * 기관별 호출 제출 (실패 시 해당 기관만 비워 둠)
+     * 실행기가 포화되어 거절되면 요청 스레드에서 대신 실행하지 않고 timed_out으로 표시 (마감 시간 보장)
      */
-    private Set<String> getCategoryKeywordsByHsPrefix(String hsPrefix) {
-        // HS 코드 2자리 기반 카테고리 매핑
-        Map<String, Set<String>> hsCategoryMap = Map.of(
-            "33", Set.of("serum", "cream", "cosmetic", "skincare", "lotion", "mask", "perfume"),
-            "21", Set.of("food", "beverage", "supplement", "vitamin", "extract", "ginseng"),
-            "19", Set.of("food", "rice", "noodle", "pasta", "cereal"),
-            "20", Set.of("food", "kimchi", "vegetable", "preserved"),
-            "84", Set.of("device", "equipment", "machine", "computer", "laptop"),
-            "85", Set.of("device", "equipment", "electronic", "telephone", "wireless"),
-            "95", Set.of("toy", "game", "play", "children")
-        );
-        
-        // 기본 카테고리 키워드
-        Set<String> defaultKeywords = Set.of(
-            "serum", "cream", "cosmetic", "food", "device", "equipment"
-        );
-        
-        return hsCategoryMap.getOrDefault(hsPrefix, defaultKeywords);
+    private ApiCall submitApiCall(String agency, String category, Supplier<Consumer<CollectedData>> call) {
+        CompletableFuture<Consumer<CollectedData>> future;
+        try {
+            future = CompletableFuture.supplyAsync(call, govApiExecutor)
+                    .exceptionally(e -> {
+                        log.warn("⚠️ {} API 호출 실패: {}", agency, e.getMessage());
+                        return NO_DATA;
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 정부 API 실행기 포화 - {} 호출 생략 (timed_out)", agency);
+            future = CompletableFuture.completedFuture(data -> {
+                data.timedOutAgencies.add(agency);
+                data.citations.add(Citation.timedOut(agency, category, collectDeadlineMs));
+            });
+        }
+        return new ApiCall(agency, category, future);
+    }
+
+    private record ApiCall(String agency, String category, CompletableFuture<Consumer<CollectedData>> future) {
     }
 
     /**
-     * 정부 API에서 데이터 수집 (OR 쿼리 사용)
+     * FDA Food Enforcement (OR 쿼리 우선, 실패 시 단일 키워드)
      */
-    private CollectedData collectFromApis(String keyword, List<String> keywords, String chemicalName, String hsCode) {
-        CollectedData data = new CollectedData();
-
-        // FDA Food Enforcement (OR 쿼리 우선, 실패 시 단일 키워드)
+    private Consumer<CollectedData> collectFda(String keyword, List<String> keywords) {
         if (keywords != null && !keywords.isEmpty()) {
-            client.callOpenFdaFoodEnforcementWithKeywords(keywords).ifPresentOrElse(
-                json -> {
-                    data.fdaFoodEnforcement = json;
-                    String keywordsStr = String.join(" OR ", keywords);
+            Optional<GovApiPayload> orResult = client.callOpenFdaFoodEnforcementWithKeywords(keywords);
+            if (orResult.isPresent()) {
+                String keywordsStr = String.join(" OR ", keywords);
+                List<GovApiProjections.FdaEnforcement> enforcements = GovApiProjections.fdaEnforcements(orResult.get().json());
+                String contentHash = orResult.get().contentHash();
+                log.info("✅ FDA OR 쿼리 성공: {} 키워드, {} 결과", keywords.size(), enforcements.size());
+                return data -> {
+                    data.addSource(RAW_FDA_FOOD_ENFORCEMENT, orResult.get(), contentHash);
+                    data.fdaEnforcements = enforcements;
                     data.citations.add(new Citation(
                         "FDA",
                         "Food Enforcement",
                         "https://api.fda.gov/food/enforcement.json?search=" + keywordsStr,
                         "FDA Food Enforcement Reports (OR query)"
                     ));
-                    log.info("✅ FDA OR 쿼리 성공: {} 키워드", keywords.size());
-                },
-                () -> {
-                    // OR 쿼리 실패 시 단일 키워드로 재시도
-                    log.warn("⚠️ FDA OR 쿼리 실패, 단일 키워드로 재시도");
-                    client.callOpenFdaFoodEnforcement(keyword).ifPresent(json -> {
-                        data.fdaFoodEnforcement = json;
+                };
+            }
+            // OR 쿼리 실패 시 단일 키워드로 재시도
+            log.warn("⚠️ FDA OR 쿼리 실패, 단일 키워드로 재시도");
+        }
+
+        return client.callOpenFdaFoodEnforcement(keyword)
+                .<Consumer<CollectedData>>map(payload -> {
+                    List<GovApiProjections.FdaEnforcement> enforcements = GovApiProjections.fdaEnforcements(payload.json());
+                    String contentHash = payload.contentHash();
+                    return data -> {
+                        data.addSource(RAW_FDA_FOOD_ENFORCEMENT, payload, contentHash);
+                        data.fdaEnforcements = enforcements;
                         data.citations.add(new Citation(
                             "FDA",
                             "Food Enforcement",
                             "https://api.fda.gov/food/enforcement.json?search=" + keyword,
                             "FDA Food Enforcement Reports"
                         ));
-                    });
-                }
-            );
-        } else {
-            // 키워드 없으면 단일 검색
-            client.callOpenFdaFoodEnforcement(keyword).ifPresent(json -> {
-                data.fdaFoodEnforcement = json;
-                data.citations.add(new Citation(
-                    "FDA",
-                    "Food Enforcement",
-                    "https://api.fda.gov/food/enforcement.json?search=" + keyword,
-                    "FDA Food Enforcement Reports"
-                ));
-            });
-        }
+                    };
+                })
+                .orElse(NO_DATA);
+    }
 
-        // USDA FoodData Central (공백으로 자동 OR 처리됨)
+    /**
+     * USDA FoodData Central (공백으로 자동 OR 처리됨)
+     */
+    private Consumer<CollectedData> collectUsda(String keyword, List<String> keywords) {
         String usdaQuery = keywords != null && !keywords.isEmpty() 
                 ? String.join(" ", keywords) 
                 : keyword;
-        
-        client.callUsdaFoodDataCentralSearch(usdaQuery, null).ifPresent(json -> {
-            data.usdaFdc = json;
-            data.citations.add(new Citation(
-                "USDA",
-                "FoodData Central",
-                "https://api.nal.usda.gov/fdc/v1/foods/search?query=" + usdaQuery,
-                "USDA FoodData Central Database"
-            ));
-            log.info("✅ USDA 검색 성공: {}", usdaQuery);
-        });
 
-        // EPA CompTox (화학물질 - 정식명 우선)
-        if (chemicalName != null && !chemicalName.isBlank()) {
-            client.callEpaCompToxSearch(chemicalName).ifPresent(json -> {
-                data.epaCompTox = json;
-                data.citations.add(new Citation(
-                    "EPA",
-                    "CompTox Dashboard",
-                    "https://comptox.epa.gov/dashboard/api/chemical/search?search=" + chemicalName,
-                    "EPA CompTox Chemicals Dashboard"
-                ));
-                log.info("✅ EPA CompTox 검색 성공: {}", chemicalName);
-            });
-        }
+        return client.callUsdaFoodDataCentralSearch(usdaQuery, null)
+                .<Consumer<CollectedData>>map(payload -> {
+                    List<GovApiProjections.UsdaFood> foods = GovApiProjections.usdaFoods(payload.json());
+                    String contentHash = payload.contentHash();
+                    log.info("✅ USDA 검색 성공: {}", usdaQuery);
+                    return data -> {
+                        data.addSource(RAW_USDA_FDC, payload, contentHash);
+                        data.usdaFoods = foods;
+                        data.citations.add(new Citation(
+                            "USDA",
+                            "FoodData Central",
+                            "https://api.nal.usda.gov/fdc/v1/foods/search?query=" + usdaQuery,
+                            "USDA FoodData Central Database"
+                        ));
+                    };
+                })
+                .orElse(NO_DATA);
+    }
 
-        // Census International Trade (HS 코드)
-        if (hsCode != null && !hsCode.isBlank()) {
-            YearMonth latestMonth = YearMonth.now();
-            String year = String.valueOf(latestMonth.getYear());
-            String month = String.format("%02d", latestMonth.getMonthValue());
-
-            client.callCensusInternationalTradeHs(hsCode, "imports", year, month).ifPresent(json -> {
-                data.censusImports = json;
-                data.citations.add(new Citation(
-                    "Census",
-                    "International Trade HS",
-                    String.format("https://api.census.gov/data/timeseries/intltrade/imports/hs?HS=%s&time=%s-%s", 
-                            hsCode, year, month),
-                    "Census Bureau International Trade Statistics"
-                ));
-                log.info("✅ Census HS 검색 성공: {}", hsCode);
-            });
-        }
+    /**
+     * EPA CompTox (화학물질 - 정식명 우선)
+     */
+    private Consumer<CollectedData> collectEpa(String chemicalName) {
+        return client.callEpaCompToxSearch(chemicalName)
+                .<Consumer<CollectedData>>map(payload -> {
+                    List<GovApiProjections.EpaChemical> chemicals = GovApiProjections.epaChemicals(payload.json());
+                    String contentHash = payload.contentHash();
+                    log.info("✅ EPA CompTox 검색 성공: {}", chemicalName);
+                    return data -> {
+                        data.addSource(RAW_EPA_COMPTOX, payload, contentHash);
+                        data.epaChemicals = chemicals;
+                        data.citations.add(new Citation(
+                            "EPA",
+                            "CompTox Dashboard",
+                            "https://comptox.epa.gov/dashboard/api/chemical/search?search=" + chemicalName,
+                            "EPA CompTox Chemicals Dashboard"
+                        ));
+                    };
+                })
+                .orElse(NO_DATA);
+    }
 
-        return data;
+    /**
+     * Census International Trade (HS 코드)
+     */
+    private Consumer<CollectedData> collectCensus(String hsCode) {
+        YearMonth latestMonth = YearMonth.now();
+        String year = String.valueOf(latestMonth.getYear());
+        String month = String.format("%02d", latestMonth.getMonthValue());
+
+        return client.callCensusInternationalTradeHs(hsCode, "imports", year, month)
+                .<Consumer<CollectedData>>map(payload -> {
+                    GovApiProjections.CensusTable table = GovApiProjections.censusTable(payload.json());
+                    String contentHash = payload.contentHash();
+                    log.info("✅ Census HS 검색 성공: {}", hsCode);
+                    return data -> {
+                        data.addSource(RAW_CENSUS_IMPORTS, payload, contentHash);
+                        data.censusImports = table;
+                        data.citations.add(new Citation(
+                            "Census",
+                            "International Trade HS",
+                            String.format("https://api.census.gov/data/timeseries/intltrade/imports/hs?HS=%s&time=%s-%s", 
+                                    hsCode, year, month),
+                            "Census Bureau International Trade Statistics"
+                        ));
+                    };
+                })
+                .orElse(NO_DATA);
     }
 
     /**
      * 수집된 데이터에서 요건 추출
      */
-    private ExtractedRequirements extractRequirements(CollectedData data) {
+    private ExtractedRequirements extractRequirements(CollectedData data, String hsCode) {
         ExtractedRequirements requirements = new ExtractedRequirements();
 
         // FDA Food Enforcement에서 추출
-        if (data.fdaFoodEnforcement != null) {
-            extractFromFdaFoodEnforcement(data.fdaFoodEnforcement, requirements);
-        }
+        extractFromFdaFoodEnforcement(data.fdaEnforcements, hsCode, requirements);
 
         // USDA FDC에서 추출
-        if (data.usdaFdc != null) {
-            extractFromUsdaFdc(data.usdaFdc, requirements);
-        }
+        extractFromUsdaFdc(data.usdaFoods, hsCode, requirements);
 
         // EPA CompTox에서 추출
-        if (data.epaCompTox != null) {
-            extractFromEpaCompTox(data.epaCompTox, requirements);
-        }
+        extractFromEpaCompTox(data.epaChemicals, requirements);
 
         // Census에서 추출
         if (data.censusImports != null) {
@@ -403,14 +456,13 @@ public class RequirementsCollectorController {
     /**
      * FDA Food Enforcement 데이터에서 요건 추출
      */
-    private void extractFromFdaFoodEnforcement(JsonNode data, ExtractedRequirements requirements) {
-        if (!data.has("results")) return;
-
-        for (JsonNode result : data.get("results")) {
-            String classification = result.path("classification").asText("");
-            String reason = result.path("reason_for_recall").asText("");
-            String reportDate = result.path("report_date").asText("");
-            String recallDate = result.path("recall_initiation_date").asText("");
+    private void extractFromFdaFoodEnforcement(List<GovApiProjections.FdaEnforcement> results, String hsCode,
+                                               ExtractedRequirements requirements) {
+        for (GovApiProjections.FdaEnforcement result : results) {
+            String classification = result.classification();
+            String reason = result.reasonForRecall();
+            String reportDate = result.reportDate();
+            String recallDate = result.recallInitiationDate();
 
             if (containsRequirementKeywords(reason) || containsRequirementKeywords(classification)) {
                 RequirementItem item = new RequirementItem();
@@ -420,7 +472,7 @@ public class RequirementsCollectorController {
                 item.description = reason;
                 item.source = "FDA Food Enforcement Reports";
                 item.confidence = 0.8;
-                item.keywords = extractKeywords(reason + " " + classification);
+                item.keywords = keywordExtractionService.extractLocal(reason + " " + classification, hsCode);
                 
                 // 날짜 정보 추가 (YYYYMMDD → YYYY-MM-DD)
                 if (!recallDate.isEmpty()) {
@@ -451,12 +503,10 @@ public class RequirementsCollectorController {
     /**
      * USDA FDC 데이터에서 요건 추출
      */
-    private void extractFromUsdaFdc(JsonNode data, ExtractedRequirements requirements) {
-        if (!data.has("foods")) return;
-
-        for (JsonNode food : data.get("foods")) {
-            String description = food.path("description").asText("");
-            String dataType = food.path("dataType").asText("");
+    private void extractFromUsdaFdc(List<GovApiProjections.UsdaFood> foods, String hsCode, ExtractedRequirements requirements) {
+        for (GovApiProjections.UsdaFood food : foods) {
+            String description = food.description();
+            String dataType = food.dataType();
 
             RequirementItem item = new RequirementItem();
             item.agency = "USDA";
@@ -465,7 +515,7 @@ public class RequirementsCollectorController {
             item.description = "Data Type: " + dataType;
             item.source = "USDA FoodData Central";
             item.confidence = 0.6;
-            item.keywords = extractKeywords(description);
+            item.keywords = keywordExtractionService.extractLocal(description, hsCode);
 
             requirements.addItem(item);
         }
@@ -474,31 +524,30 @@ public class RequirementsCollectorController {
     /**
      * EPA CompTox 데이터에서 요건 추출
      */
-    private void extractFromEpaCompTox(JsonNode data, ExtractedRequirements requirements) {
-        if (data.isArray()) {
-            for (JsonNode chemical : data) {
-                String name = chemical.path("preferredName").asText("");
-                String casrn = chemical.path("casrn").asText("");
+    private void extractFromEpaCompTox(List<GovApiProjections.EpaChemical> chemicals, ExtractedRequirements requirements) {
+        for (GovApiProjections.EpaChemical chemical : chemicals) {
+            String name = chemical.preferredName();
+            String casrn = chemical.casrn();
 
-                RequirementItem item = new RequirementItem();
-                item.agency = "EPA";
-                item.category = "chemical_safety";
-                item.title = "Chemical: " + name;
-                item.description = "CASRN: " + casrn;
-                item.source = "EPA CompTox Dashboard";
-                item.confidence = 0.7;
-                item.keywords = List.of(name, casrn);
+            RequirementItem item = new RequirementItem();
+            item.agency = "EPA";
+            item.category = "chemical_safety";
+            item.title = "Chemical: " + name;
+            item.description = "CASRN: " + casrn;
+            item.source = "EPA CompTox Dashboard";
+            item.confidence = 0.7;
+            item.keywords = List.of(name, casrn);
 
-                requirements.addItem(item);
-            }
+            requirements.addItem(item);
         }
     }
 
     /**
      * Census 데이터에서 요건 추출
      */
-    private void extractFromCensus(JsonNode data, ExtractedRequirements requirements) {
-        if (!data.isArray() || data.size() < 2) return;
+    private void extractFromCensus(GovApiProjections.CensusTable table, ExtractedRequirements requirements) {
+        // 첫 행은 헤더 - 데이터 행이 있어야 통계가 있는 것
+        if (table.rows().isEmpty()) return;
 
         RequirementItem item = new RequirementItem();
         item.agency = "Census";
@@ -588,6 +637,19 @@ public class RequirementsCollectorController {
         return array;
     }
 
+    /**
+     * 기관별 데이터 소스 노드 구성
+     */
+    private ObjectNode buildRoutingNode(CollectedData data) {
+        ObjectNode node = objectMapper.createObjectNode();
+        data.routes.forEach((agency, route) -> {
+            ObjectNode entry = node.putObject(agency);
+            entry.put("provider", route.provider());
+            entry.put("reason", route.reason());
+        });
+        return node;
+    }
+
     /**
      * Citations 노드 구성
      */
@@ -600,6 +662,7 @@ public class RequirementsCollectorController {
             node.put("category", citation.category);
             node.put("url", citation.url);
             node.put("title", citation.title);
+            node.put("status", citation.status);
             array.add(node);
         }
         
@@ -607,35 +670,33 @@ public class RequirementsCollectorController {
     }
 
     /**
-     * 원본 데이터 노드 구성
+     * 원본 데이터 노드 구성 (includeRawData=true일 때만 - 여기서 처음 전체 트리를 만듦)
      */
     private ObjectNode buildRawDataNode(CollectedData data) {
         ObjectNode node = objectMapper.createObjectNode();
-        
-        if (data.fdaFoodEnforcement != null) {
-            node.set("fda_food_enforcement", data.fdaFoodEnforcement);
-        }
-        if (data.usdaFdc != null) {
-            node.set("usda_fdc", data.usdaFdc);
-        }
-        if (data.epaCompTox != null) {
-            node.set("epa_comptox", data.epaCompTox);
-        }
-        if (data.censusImports != null) {
-            node.set("census_imports", data.censusImports);
-        }
-        
+        data.rawPayloads.forEach((source, payload) -> node.set(source, payload.tree()));
         return node;
     }
 
     // ===== 내부 데이터 클래스 =====
 
     private static class CollectedData {
-        JsonNode fdaFoodEnforcement;
-        JsonNode usdaFdc;
-        JsonNode epaCompTox;
-        JsonNode censusImports;
+        List<GovApiProjections.FdaEnforcement> fdaEnforcements = List.of();
+        List<GovApiProjections.UsdaFood> usdaFoods = List.of();
+        List<GovApiProjections.EpaChemical> epaChemicals = List.of();
+        GovApiProjections.CensusTable censusImports;
+        /** 원본 응답 (raw_data 키 → 응답) */
+        Map<String, GovApiPayload> rawPayloads = new LinkedHashMap<>();
+        /** 원본 응답 내용 해시 (raw_data 키 → 해시) */
+        Map<String, String> contentHashes = new LinkedHashMap<>();
         List<Citation> citations = new ArrayList<>();
+        List<String> timedOutAgencies = new ArrayList<>();
+        Map<String, ProviderRouter.Route> routes = new LinkedHashMap<>();
+
+        void addSource(String source, GovApiPayload payload, String contentHash) {
+            rawPayloads.put(source, payload);
+            contentHashes.put(source, contentHash);
+        }
     }
 
     private static class Citation {
@@ -643,6 +704,7 @@ public class RequirementsCollectorController {
         String category;
         String url;
         String title;
+        String status = "ok"; // ok | timed_out | routed
 
         Citation(String agency, String category, String url, String title) {
             this.agency = agency;
@@ -650,6 +712,20 @@ public class RequirementsCollectorController {
             this.url = url;
             this.title = title;
         }
+
+        static Citation timedOut(String agency, String category, long deadlineMs) {
+            Citation citation = new Citation(agency, category, null,
+                    agency + " " + category + " - no response within " + deadlineMs + "ms");
+            citation.status = "timed_out";
+            return citation;
+        }
+
+        static Citation routed(String agency, String category, String provider) {
+            Citation citation = new Citation(agency, category, null,
+                    agency + " " + category + " - delegated to " + provider + " search");
+            citation.status = "routed";
+            return citation;
+        }
     }
 
     private static class ExtractedRequirements {
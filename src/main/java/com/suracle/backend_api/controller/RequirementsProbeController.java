@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.client.RestTemplate;
 
  
@@ -59,6 +60,7 @@ public class RequirementsProbeController {
     private final RequirementsApiClient client;
     private final ApiKeysProperties keys;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    @Qualifier("aiEngineRestTemplate")
     private final RestTemplate restTemplate;
 
     @GetMapping(value = "/all", produces = "application/json; charset=UTF-8")
@@ -0,0 +1,42 @@
+package com.suracle.backend_api.entity.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.suracle.backend_api.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 분석 결과 본문 (내용 해시 기준으로 한 번만 저장)
+ * 같은 HS코드의 여러 상품이 같은 결과를 가지면 product_analysis_cache 행들이 이 행 하나를 가리킴
+ */
+@Entity
+@Table(name = "analysis_payloads", indexes = {
+    @Index(name = "idx_analysis_payloads_hs_type", columnList = "hs_code, analysis_type"),
+    @Index(name = "idx_analysis_payloads_updated_at", columnList = "updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisPayload extends BaseEntity {
+
+  @Id
+  @Column(name = "content_hash", length = 64)
+  private String contentHash; // SHA-256(분석 타입 + 정규화된 JSON)
+
+  @Column(name = "analysis_type", nullable = false, length = 50)
+  private String analysisType;
+
+  @Column(name = "hs_code", length = 20)
+  private String hsCode; // 처음 저장한 상품의 HS코드 (조회/통계용)
+
+  @Column(name = "content", nullable = false, columnDefinition = "json")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private JsonNode content;
+
+  @Column(name = "size_bytes")
+  private Long sizeBytes; // 정규화된 JSON 크기
+}
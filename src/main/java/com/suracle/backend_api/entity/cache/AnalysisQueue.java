@@ -8,7 +8,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "analysis_queue")
+@Table(name = "analysis_queue", indexes = {
+    @Index(name = "idx_analysis_queue_status_scheduled", columnList = "status, scheduled_at")
+})
 @Getter 
 @Setter
 @NoArgsConstructor
@@ -50,6 +52,12 @@ public class AnalysisQueue extends BaseEntity  {
   @Column(name = "retry_count")
   private Integer retryCount;
 
+  @Column(name = "locked_by", length = 100)
+  private String lockedBy; // 작업을 가져간 워커 노드 식별자 (hostname:pid)
+
+  @Column(name = "source", length = 30)
+  private String source; // 적재 경로 (BACKFILL 등, 상품 등록 시에는 null)
+
   public enum QueueStatus {
     PENDING, PROCESSING, COMPLETED, FAILED
   }
@@ -0,0 +1,50 @@
+package com.suracle.backend_api.entity.cache;
+
+import com.suracle.backend_api.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백필 진행 위치 (재시작 시 마지막으로 처리한 상품 다음부터 이어서 진행)
+ */
+@Entity
+@Table(name = "backfill_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillCheckpoint extends BaseEntity {
+
+  @Id
+  @Column(name = "name", length = 50)
+  private String name; // 백필 작업 이름 (예: requirements)
+
+  @Column(name = "last_product_id")
+  private Integer lastProductId; // 마지막으로 확인한 상품 PK (keyset 기준)
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", length = 20)
+  private CheckpointStatus status;
+
+  @Column(name = "scanned_count")
+  private Long scannedCount;
+
+  @Column(name = "enqueued_count")
+  private Long enqueuedCount;
+
+  @Column(name = "skipped_count")
+  private Long skippedCount;
+
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+
+  public enum CheckpointStatus {
+    RUNNING, COMPLETED
+  }
+}
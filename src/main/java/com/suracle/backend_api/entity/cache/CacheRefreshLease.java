@@ -0,0 +1,33 @@
+package com.suracle.backend_api.entity.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 갱신 임대 (키당 한 곳만 원본을 다시 계산하고, 나머지는 기존 값을 계속 사용)
+ * 갱신 중 노드가 죽어도 expires_at이 지나면 다른 호출자가 가져갈 수 있음
+ */
+@Entity
+@Table(name = "cache_refresh_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRefreshLease {
+
+  @Id
+  @Column(name = "lease_key", length = 255)
+  private String leaseKey; // 예: requirements:330499
+
+  @Column(name = "holder", nullable = false, length = 150)
+  private String holder; // 갱신 중인 노드 + 상품 (pid@hostname:상품ID)
+
+  @Column(name = "acquired_at", nullable = false)
+  private LocalDateTime acquiredAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
@@ -12,7 +12,7 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "product_analysis_cache", uniqueConstraints = @UniqueConstraint(columnNames = { "product_id",
-    "analysis_type" }))
+    "analysis_type" }), indexes = @Index(name = "idx_product_analysis_cache_valid_updated", columnList = "is_valid, updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,9 +31,13 @@ public class ProductAnalysisCache extends BaseEntity {
   @Column(name = "analysis_type", nullable = false, length = 50)
   private String analysisType; // 'tariff_1qty', 'tariff_10qty', 'requirements', 'precedents'
 
-  @Column(name = "analysis_result", nullable = false, columnDefinition = "json")
+  @Column(name = "analysis_result", nullable = true, columnDefinition = "json")
   @JdbcTypeCode(SqlTypes.JSON)
-  private JsonNode analysisResult;
+  private JsonNode analysisResult; // 공유 본문(payload)을 쓰지 않는 기존 행만 직접 보관
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "payload_hash")
+  private AnalysisPayload payload; // 내용 해시로 공유되는 분석 결과 본문
 
   @Column(name = "sources", nullable = true, columnDefinition = "json")
   @JdbcTypeCode(SqlTypes.JSON)
@@ -44,4 +48,19 @@ public class ProductAnalysisCache extends BaseEntity {
 
   @Column(name = "is_valid", nullable = false)
   private Boolean isValid;
+
+  /**
+   * 분석 결과 (공유 본문이 있으면 본문, 없으면 행에 직접 저장된 값)
+   */
+  public JsonNode getAnalysisResult() {
+    return payload != null ? payload.getContent() : analysisResult;
+  }
+
+  /**
+   * 공유 본문 연결 (행에 직접 저장된 값은 비움)
+   */
+  public void attachPayload(AnalysisPayload payload) {
+    this.payload = payload;
+    this.analysisResult = null;
+  }
 }
@@ -8,7 +8,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+    @Index(name = "idx_chat_messages_created_at", columnList = "created_at"),
+    @Index(name = "idx_chat_messages_session_id", columnList = "session_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,7 +8,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "chat_sessions")
+@Table(name = "chat_sessions", indexes = @Index(name = "idx_chat_sessions_created_at", columnList = "created_at"))
 @Getter
 @Setter
 @NoArgsConstructor
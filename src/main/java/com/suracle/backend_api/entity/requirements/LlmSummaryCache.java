@@ -6,13 +6,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "llm_summary_cache",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"hs_code", "product_name", "raw_documents_hash"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"hs_code", "product_name", "raw_documents_hash"}),
+       indexes = @Index(name = "idx_llm_summary_cache_expires_at", columnList = "expires_at"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,7 +26,7 @@ public class LlmSummaryCache {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(name = "hs_code", nullable = false, length = 10)
+    @Column(name = "hs_code", nullable = false, length = 20)
     private String hsCode;
     
     @Column(name = "product_name", nullable = false, length = 255)
@@ -33,6 +36,7 @@ public class LlmSummaryCache {
     private String rawDocumentsHash;
     
     @Column(name = "summary_result", nullable = false, columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
     private String summaryResult; // JSON 문자열로 저장
     
     @Column(name = "model_used", nullable = false, length = 50)
@@ -0,0 +1,54 @@
+package com.suracle.backend_api.entity.requirements;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 기관별 데이터 소스 선택 기록 (감사용)
+ */
+@Entity
+@Table(name = "provider_routing_decisions",
+       indexes = @Index(name = "idx_provider_routing_decisions_decided_at", columnList = "decided_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderRoutingDecision {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "agency", nullable = false, length = 20)
+    private String agency;
+    
+    @Column(name = "strategy", length = 20)
+    private String strategy; // agency_search_strategies.search_provider (없으면 null)
+    
+    @Column(name = "provider", nullable = false, length = 20)
+    private String provider; // 선택된 소스: 'free_api', 'tavily'
+    
+    @Column(name = "reason", nullable = false, length = 50)
+    private String reason; // 예: healthy, unhealthy, slow, budget_exhausted
+    
+    @Column(name = "success_rate", precision = 5, scale = 4)
+    private BigDecimal successRate; // 판단 시점의 무료 API 성공률 (표본 부족이면 null)
+    
+    @Column(name = "latency_ms")
+    private Long latencyMs; // 판단 시점의 무료 API 평균 응답 시간
+    
+    @Column(name = "estimated_cost", precision = 10, scale = 6)
+    private BigDecimal estimatedCost; // 유료 소스 선택 시 건당 비용
+    
+    @Column(name = "hs_code", length = 20)
+    private String hsCode;
+    
+    @Column(name = "decided_at", nullable = false)
+    private LocalDateTime decidedAt;
+}
@@ -6,12 +6,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "requirements_analysis_cache",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"hs_code", "product_name"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"hs_code", "product_name"}),
+       indexes = @Index(name = "idx_requirements_analysis_cache_expires_at", columnList = "expires_at"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,13 +25,14 @@ public class RequirementsAnalysisCache {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(name = "hs_code", nullable = false, length = 10)
+    @Column(name = "hs_code", nullable = false, length = 20)
     private String hsCode;
     
     @Column(name = "product_name", nullable = false, length = 255)
     private String productName;
     
     @Column(name = "analysis_result", nullable = false, columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
     private String analysisResult; // JSON 문자열로 저장
     
     @Column(name = "cache_key", nullable = false, unique = true, length = 255)
@@ -40,6 +44,9 @@ public class RequirementsAnalysisCache {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
     
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt; // 마지막 갱신 시각 (사용자 요청 또는 캐시 워머)
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
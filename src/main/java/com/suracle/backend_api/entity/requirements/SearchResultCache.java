@@ -6,11 +6,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "search_result_cache")
+@Table(name = "search_result_cache",
+       indexes = @Index(name = "idx_search_result_cache_expires_at", columnList = "expires_at"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,10 +24,10 @@ public class SearchResultCache {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(name = "hs_code", nullable = false, length = 10)
-    private String hsCode;
+    @Column(name = "hs_code", length = 20)
+    private String hsCode; // HS코드 기반 조회가 아니면 null
     
-    @Column(name = "product_name", nullable = false, length = 255)
+    @Column(name = "product_name", length = 255)
     private String productName;
     
     @Column(name = "agency", nullable = false, length = 20)
@@ -34,13 +37,23 @@ public class SearchResultCache {
     private String searchQuery;
     
     @Column(name = "search_results", nullable = false, columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
     private String searchResults; // JSON 문자열로 저장
     
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 저장 시 계산한 결과 내용 해시 (meta 제외) - 조회할 때 다시 파싱하지 않음
+    
+    @Column(name = "negative_outcome", length = 20)
+    private String negativeOutcome; // 결과 없음/실패를 기억하는 부정 캐시면 원인 (NOT_FOUND, TRANSIENT_ERROR 등), 정상 결과면 null
+    
     @Column(name = "cache_key", nullable = false, unique = true, length = 255)
     private String cacheKey;
     
+    @Column(name = "refresh_after")
+    private LocalDateTime refreshAfter; // 이 시각 이후 조회는 기존 결과를 반환하고 백그라운드에서 갱신
+    
     @Column(name = "expires_at", nullable = false)
-    private LocalDateTime expiresAt;
+    private LocalDateTime expiresAt; // 이 시각 이후에는 사용하지 않음
     
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
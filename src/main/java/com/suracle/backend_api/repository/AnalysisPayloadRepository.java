@@ -0,0 +1,44 @@
+package com.suracle.backend_api.repository;
+
+import com.suracle.backend_api.entity.cache.AnalysisPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AnalysisPayloadRepository extends JpaRepository<AnalysisPayload, String> {
+
+    /**
+     * 본문 저장 (같은 해시가 이미 있으면 updated_at만 갱신 - 동시 저장 시에도 한 행만 남음)
+     * 재사용하는 본문도 updated_at이 새로 찍혀, 예전에 참조가 끊겼던 본문이 연결 전에 정리되지 않음
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO analysis_payloads (content_hash, analysis_type, hs_code, content, size_bytes, created_at, updated_at) " +
+            "VALUES (:hash, :analysisType, :hsCode, CAST(:content AS json), :sizeBytes, now(), now()) " +
+            "ON CONFLICT (content_hash) DO UPDATE SET updated_at = now()", nativeQuery = true)
+    int upsert(@Param("hash") String hash,
+                       @Param("analysisType") String analysisType,
+                       @Param("hsCode") String hsCode,
+                       @Param("content") String content,
+                       @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * 어떤 상품도 가리키지 않는 본문 일부 삭제 (최대 limit건, 최근에 저장/재사용되어 아직 연결 전일 수 있는 본문은 제외)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM analysis_payloads WHERE content_hash IN (SELECT p.content_hash FROM analysis_payloads p " +
+            "WHERE p.updated_at < :touchedBefore " +
+            "AND NOT EXISTS (SELECT 1 FROM product_analysis_cache c WHERE c.payload_hash = p.content_hash) " +
+            "ORDER BY p.updated_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteUnreferencedBatch(@Param("touchedBefore") LocalDateTime touchedBefore, @Param("limit") int limit);
+
+    @Query("SELECT COALESCE(SUM(p.sizeBytes), 0) FROM AnalysisPayload p")
+    long sumSizeBytes();
+}
@@ -1,13 +1,18 @@
 package com.suracle.backend_api.repository;
 
 import com.suracle.backend_api.entity.cache.AnalysisQueue;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AnalysisQueueRepository extends JpaRepository<AnalysisQueue, Integer> {
@@ -27,4 +32,90 @@ public interface AnalysisQueueRepository extends JpaRepository<AnalysisQueue, In
      * 상품 ID와 상태로 분석 큐 항목 조회
      */
     List<AnalysisQueue> findByProductIdAndStatusOrderByCreatedAtDesc(Integer productId, AnalysisQueue.QueueStatus status);
+
+    /**
+     * 실행 가능한 대기 작업을 행 잠금과 함께 조회 (여러 노드가 동시에 폴링해도 같은 작업을 가져가지 않음)
+     * 반드시 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 PROCESSING으로 전환해야 함
+     */
+    @Query(value = "SELECT * FROM analysis_queue " +
+                   "WHERE status = 'PENDING' AND (scheduled_at IS NULL OR scheduled_at <= :now) " +
+                   "ORDER BY priority DESC NULLS LAST, scheduled_at ASC NULLS FIRST " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<AnalysisQueue> lockPendingAnalyses(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 작업 실행용 조회 (상품 정보 함께 로딩)
+     */
+    @Query("SELECT a FROM AnalysisQueue a JOIN FETCH a.product WHERE a.id = :id")
+    Optional<AnalysisQueue> findWithProductById(@Param("id") Integer id);
+
+    /**
+     * 대기 작업 적재 (상품에 대기/처리 중인 작업이 이미 있으면 아무것도 하지 않음)
+     * uq_analysis_queue_active_product 부분 유니크 인덱스 기준이라 여러 노드가 동시에 적재해도 한 건만 남음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analysis_queue (product_id, analysis_types, status, priority, scheduled_at, retry_count, source, created_at, updated_at) " +
+                   "VALUES (:productId, CAST(:analysisTypes AS json), 'PENDING', :priority, :scheduledAt, 0, :source, now(), now()) " +
+                   "ON CONFLICT (product_id) WHERE status IN ('PENDING', 'PROCESSING') DO NOTHING",
+           nativeQuery = true)
+    int insertIfNoActive(@Param("productId") Integer productId,
+                         @Param("analysisTypes") String analysisTypes,
+                         @Param("priority") int priority,
+                         @Param("scheduledAt") LocalDateTime scheduledAt,
+                         @Param("source") String source);
+
+    /**
+     * 상품의 가장 최근 작업 (상태별)
+     */
+    Optional<AnalysisQueue> findFirstByProductIdAndStatusOrderByIdDesc(Integer productId, AnalysisQueue.QueueStatus status);
+
+    /**
+     * 상품에 아직 끝나지 않은 작업이 있는지 확인 (중복 적재 방지)
+     */
+    @Query("SELECT COUNT(a) > 0 FROM AnalysisQueue a WHERE a.product.id = :productId AND a.status IN :statuses")
+    boolean existsByProductIdAndStatusIn(@Param("productId") Integer productId,
+                                         @Param("statuses") Collection<AnalysisQueue.QueueStatus> statuses);
+
+    /**
+     * 작업을 가져간 워커가 아직 처리 중인 작업만 행 잠금과 함께 조회
+     * 처리 시간 초과로 복구되었거나 다른 워커가 다시 가져간 작업이면 empty (늦게 끝난 실행이 상태를 덮어쓰지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AnalysisQueue a WHERE a.id = :id AND a.status = 'PROCESSING' AND a.lockedBy = :workerId")
+    Optional<AnalysisQueue> findProcessingByIdAndLockedBy(@Param("id") Integer id, @Param("workerId") String workerId);
+
+    /**
+     * 처리 시간 초과 작업 복구 (작업을 가져간 노드가 죽은 경우)
+     * 재시도 횟수가 maxRetries를 넘으면 다시 대기시키지 않고 FAILED로 종료
+     */
+    @Modifying
+    @Query(value = "UPDATE analysis_queue SET " +
+                   "status = CASE WHEN COALESCE(retry_count, 0) + 1 > :maxRetries THEN 'FAILED' ELSE 'PENDING' END, " +
+                   "completed_at = CASE WHEN COALESCE(retry_count, 0) + 1 > :maxRetries THEN :now ELSE completed_at END, " +
+                   "locked_by = NULL, scheduled_at = :now, " +
+                   "retry_count = COALESCE(retry_count, 0) + 1, error_message = 'processing timeout', updated_at = :now " +
+                   "WHERE status = 'PROCESSING' AND started_at < :cutoff",
+           nativeQuery = true)
+    int releaseStaleProcessing(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now,
+                               @Param("maxRetries") int maxRetries);
+
+    /**
+     * 주어진 상품들 중 아직 끝나지 않은 작업이 있는 상품 PK 목록 (배치 단위 중복 확인)
+     */
+    @Query("SELECT DISTINCT a.product.id FROM AnalysisQueue a WHERE a.product.id IN :productIds AND a.status IN :statuses")
+    List<Integer> findProductIdsWithStatusIn(@Param("productIds") Collection<Integer> productIds,
+                                             @Param("statuses") Collection<AnalysisQueue.QueueStatus> statuses);
+
+    /**
+     * 적재 경로별 상태 집계 [status, count]
+     */
+    @Query("SELECT a.status, COUNT(a) FROM AnalysisQueue a WHERE a.source = :source GROUP BY a.status")
+    List<Object[]> countByStatusForSource(@Param("source") String source);
+
+    /**
+     * 적재 경로별 가장 늦은 대기 작업 실행 예정 시각 (백필 재개 시 간격 유지용)
+     */
+    @Query("SELECT MAX(a.scheduledAt) FROM AnalysisQueue a WHERE a.source = :source AND a.status = 'PENDING'")
+    Optional<LocalDateTime> findLatestPendingScheduledAt(@Param("source") String source);
 }
@@ -0,0 +1,9 @@
+package com.suracle.backend_api.repository;
+
+import com.suracle.backend_api.entity.cache.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+}
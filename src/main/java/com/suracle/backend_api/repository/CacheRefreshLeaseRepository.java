@@ -0,0 +1,52 @@
+package com.suracle.backend_api.repository;
+
+import com.suracle.backend_api.entity.cache.CacheRefreshLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CacheRefreshLeaseRepository extends JpaRepository<CacheRefreshLease, String> {
+
+    /**
+     * 임대 획득 (없거나 만료된 경우에만, 같은 보유자면 연장)
+     * @return 1이면 획득, 0이면 다른 보유자가 유효한 임대를 쥐고 있음
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO cache_refresh_leases (lease_key, holder, acquired_at, expires_at) " +
+            "VALUES (:leaseKey, :holder, :now, :expiresAt) " +
+            "ON CONFLICT (lease_key) DO UPDATE SET holder = EXCLUDED.holder, acquired_at = EXCLUDED.acquired_at, " +
+            "expires_at = EXCLUDED.expires_at " +
+            "WHERE cache_refresh_leases.expires_at <= :now OR cache_refresh_leases.holder = EXCLUDED.holder", nativeQuery = true)
+    int tryAcquire(@Param("leaseKey") String leaseKey,
+                   @Param("holder") String holder,
+                   @Param("now") LocalDateTime now,
+                   @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 유효한 임대가 있는지 확인
+     */
+    boolean existsByLeaseKeyAndExpiresAtAfter(String leaseKey, LocalDateTime now);
+
+    /**
+     * 임대 반납 (보유자가 같을 때만)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM cache_refresh_leases WHERE lease_key = :leaseKey AND holder = :holder", nativeQuery = true)
+    int release(@Param("leaseKey") String leaseKey, @Param("holder") String holder);
+
+    /**
+     * 만료된 임대 삭제 (반납되지 못한 행 정리)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM cache_refresh_leases WHERE expires_at < :now", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -6,9 +6,11 @@ import com.suracle.backend_api.entity.chat.enums.MessageType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,12 +50,28 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Intege
     List<ChatMessage> findBySessionIdAndMessageTypeOrderByCreatedAtAsc(Integer sessionId, MessageType messageType);
     
     /**
-     * 만료된 메시지 조회 (일정 시간 이전에 생성된 메시지)
+     * 보존 기간이 지난 메시지 일부 삭제 (created_at 순으로 최대 limit건)
      * @param expiredTime 만료 시간
-     * @return 만료된 메시지 목록
+     * @param limit 최대 삭제 건수
+     * @return 삭제된 메시지 수
      */
-    @Query("SELECT cm FROM ChatMessage cm WHERE cm.createdAt < :expiredTime")
-    List<ChatMessage> findExpiredMessages(@Param("expiredTime") LocalDateTime expiredTime);
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM chat_messages WHERE id IN (SELECT id FROM chat_messages WHERE created_at < :expiredTime " +
+            "ORDER BY created_at LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("expiredTime") LocalDateTime expiredTime, @Param("limit") int limit);
+    
+    /**
+     * 보존 기간이 지난 세션에 속한 메시지 일부 삭제 (세션보다 나중에 생성된 메시지 포함, 최대 limit건)
+     * @param expiredTime 만료 시간
+     * @param limit 최대 삭제 건수
+     * @return 삭제된 메시지 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM chat_messages WHERE id IN (SELECT m.id FROM chat_messages m " +
+            "JOIN chat_sessions s ON s.id = m.session_id WHERE s.created_at < :expiredTime LIMIT :limit)", nativeQuery = true)
+    int deleteBatchOfExpiredSessions(@Param("expiredTime") LocalDateTime expiredTime, @Param("limit") int limit);
     
     /**
      * 세션의 마지막 메시지 조회
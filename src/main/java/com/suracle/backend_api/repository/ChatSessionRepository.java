@@ -4,9 +4,11 @@ import com.suracle.backend_api.entity.chat.ChatSession;
 import com.suracle.backend_api.entity.chat.enums.ChatSessionStatus;
 import com.suracle.backend_api.entity.chat.enums.ChatSessionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,12 +36,17 @@ public interface ChatSessionRepository extends JpaRepository<ChatSession, Intege
             Integer userId, ChatSessionType sessionType, ChatSessionStatus status);
     
     /**
-     * 만료된 세션 조회 (일정 시간 이전에 생성된 세션)
+     * 보존 기간이 지나고 남은 메시지가 없는 세션 일부 삭제 (created_at 순으로 최대 limit건)
      * @param expiredTime 만료 시간
-     * @return 만료된 세션 목록
+     * @param limit 최대 삭제 건수
+     * @return 삭제된 세션 수
      */
-    @Query("SELECT cs FROM ChatSession cs WHERE cs.createdAt < :expiredTime")
-    List<ChatSession> findExpiredSessions(@Param("expiredTime") LocalDateTime expiredTime);
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM chat_sessions WHERE id IN (SELECT s.id FROM chat_sessions s WHERE s.created_at < :expiredTime " +
+            "AND NOT EXISTS (SELECT 1 FROM chat_messages m WHERE m.session_id = s.id) ORDER BY s.created_at LIMIT :limit)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("expiredTime") LocalDateTime expiredTime, @Param("limit") int limit);
     
     /**
      * 사용자 ID로 최근 세션 조회
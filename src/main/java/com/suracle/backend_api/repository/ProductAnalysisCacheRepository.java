@@ -1,11 +1,15 @@
 package com.suracle.backend_api.repository;
 
 import com.suracle.backend_api.entity.cache.ProductAnalysisCache;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,7 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ProductAnalysisCacheRepository extends JpaRepository<ProductAnalysisCache, Integer> {
+    /**
+     * 상품/분석 유형별 결과 (공유 본문을 함께 조회 - 트랜잭션 밖의 큐 워커, 리액터 스레드에서도 읽을 수 있도록)
+     */
+    @EntityGraph(attributePaths = "payload")
     Optional<ProductAnalysisCache> findByProductIdAndAnalysisType(Integer productId, String analysisType);
+
+    List<ProductAnalysisCache> findByProductId(Integer productId);
     
     @Modifying
     @Transactional
@@ -23,6 +33,38 @@ public interface ProductAnalysisCacheRepository extends JpaRepository<ProductAna
     /**
      * HS코드와 분석 타입으로 캐시 검색 (AI 엔진용)
      */
-    @Query("SELECT p FROM ProductAnalysisCache p WHERE p.product.hsCode = :hsCode AND p.analysisType = :analysisType")
+    @Query("SELECT p FROM ProductAnalysisCache p LEFT JOIN FETCH p.payload WHERE p.product.hsCode = :hsCode AND p.analysisType = :analysisType")
     List<ProductAnalysisCache> findByProductHsCodeAndAnalysisType(@Param("hsCode") String hsCode, @Param("analysisType") String analysisType);
+
+    /**
+     * 주어진 상품들 중 해당 분석 캐시가 있는 상품 PK 목록 (배치 단위 존재 확인)
+     */
+    @Query("SELECT p.product.id FROM ProductAnalysisCache p WHERE p.product.id IN :productIds AND p.analysisType = :analysisType")
+    List<Integer> findProductIdsWithAnalysis(@Param("productIds") Collection<Integer> productIds, @Param("analysisType") String analysisType);
+
+    /**
+     * 오래된 무효 분석 행 조회 (updated_at 순) - [id, 상품 PK, 분석 타입]
+     */
+    @Query("SELECT p.id, p.product.id, p.analysisType FROM ProductAnalysisCache p WHERE p.isValid = false AND p.updatedAt < :before ORDER BY p.updatedAt")
+    List<Object[]> findInvalidBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 무효 분석 행 삭제 (조회 후 다시 유효한 결과로 갱신된 행은 남김)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductAnalysisCache p WHERE p.id IN :ids AND p.isValid = false")
+    int deleteInvalidByIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * updated_at을 지정한 시각으로 되돌림 (다른 상품의 결과를 복사한 행이 원본과 같은 분석 시각을 갖도록)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE product_analysis_cache SET updated_at = :updatedAt WHERE id = :id", nativeQuery = true)
+    int restoreUpdatedAt(@Param("id") Integer id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    long countByPayloadIsNotNull();
+
+    long countByPayloadIsNull();
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,11 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
      */
     Optional<Product> findByProductId(String productId);
 
+    /**
+     * 상품 ID 목록으로 상품 조회 (일괄 분석용)
+     */
+    List<Product> findByProductIdIn(Collection<String> productIds);
+
 
     /**
      * 활성화된 상품 목록 조회
@@ -82,6 +88,12 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.hsCode IS NOT NULL AND p.hsCode != ''")
     List<Product> findByActiveAndHsCodeNotNull();
 
+    /**
+     * 백필용 keyset 페이지 조회 (활성 + HS코드 있음, PK 순)
+     */
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.hsCode IS NOT NULL AND p.hsCode != '' AND p.id > :lastId ORDER BY p.id ASC")
+    List<Product> findBackfillBatchAfter(@Param("lastId") Integer lastId, Pageable pageable);
+
     
     /**
      * 특정 연도의 가장 최근 상품 ID 조회 (PROD-YYYY-### 형식에서 가장 큰 번호)
@@ -1,6 +1,7 @@
 package com.suracle.backend_api.repository.requirements;
 
 import com.suracle.backend_api.entity.requirements.HsCodeAgencyMapping;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,6 +30,12 @@ public interface HsCodeAgencyMappingRepository extends JpaRepository<HsCodeAgenc
     @Query("SELECT h FROM HsCodeAgencyMapping h WHERE h.usageCount > 0 ORDER BY h.usageCount DESC, h.lastUsedAt DESC")
     List<HsCodeAgencyMapping> findTopUsedMappings();
     
+    /**
+     * 사용 빈도가 높은 매핑 상위 N개 조회 (캐시 워머용)
+     */
+    @Query("SELECT h FROM HsCodeAgencyMapping h WHERE h.usageCount > 0 ORDER BY h.usageCount DESC, h.lastUsedAt DESC")
+    List<HsCodeAgencyMapping> findTopUsedMappings(Pageable pageable);
+    
     /**
      * 최근 사용된 매핑 조회
      */
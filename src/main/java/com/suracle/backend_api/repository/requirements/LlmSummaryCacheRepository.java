@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -23,13 +25,42 @@ public interface LlmSummaryCacheRepository extends JpaRepository<LlmSummaryCache
                                                                  @Param("hash") String hash, 
                                                                  @Param("now") LocalDateTime now);
     
+    /**
+     * 요약 결과 저장 또는 갱신 (HS코드 + 상품명 + 문서 해시 기준 upsert)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO llm_summary_cache (hs_code, product_name, raw_documents_hash, summary_result, model_used, tokens_used, cost, expires_at, created_at) " +
+            "VALUES (:hsCode, :productName, :hash, CAST(:summaryResult AS jsonb), :modelUsed, :tokensUsed, :cost, :expiresAt, now()) " +
+            "ON CONFLICT (hs_code, product_name, raw_documents_hash) DO UPDATE SET summary_result = EXCLUDED.summary_result, " +
+            "model_used = EXCLUDED.model_used, tokens_used = EXCLUDED.tokens_used, cost = EXCLUDED.cost, expires_at = EXCLUDED.expires_at",
+            nativeQuery = true)
+    int upsert(@Param("hsCode") String hsCode,
+               @Param("productName") String productName,
+               @Param("hash") String hash,
+               @Param("summaryResult") String summaryResult,
+               @Param("modelUsed") String modelUsed,
+               @Param("tokensUsed") Integer tokensUsed,
+               @Param("cost") BigDecimal cost,
+               @Param("expiresAt") LocalDateTime expiresAt);
+    
     /**
      * 만료된 LLM 캐시 삭제
      */
     @Modifying
+    @Transactional
     @Query("DELETE FROM LlmSummaryCache l WHERE l.expiresAt < :now")
     int deleteExpiredCache(@Param("now") LocalDateTime now);
     
+    /**
+     * 만료된 LLM 캐시 일부 삭제 (expires_at 순으로 최대 limit건, 다른 트랜잭션이 잡고 있는 행은 건너뜀)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM llm_summary_cache WHERE id IN (SELECT id FROM llm_summary_cache WHERE expires_at < :now " +
+            "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
     /**
      * 모델별 사용 통계 조회
      */
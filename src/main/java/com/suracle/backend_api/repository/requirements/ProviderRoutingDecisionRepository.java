@@ -0,0 +1,38 @@
+package com.suracle.backend_api.repository.requirements;
+
+import com.suracle.backend_api.entity.requirements.ProviderRoutingDecision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProviderRoutingDecisionRepository extends JpaRepository<ProviderRoutingDecision, Long> {
+    
+    /**
+     * 기간 내 유료 소스 예상 비용 합계 (예산 계산용)
+     */
+    @Query("SELECT COALESCE(SUM(d.estimatedCost), 0) FROM ProviderRoutingDecision d WHERE d.decidedAt >= :since AND d.provider <> 'free_api'")
+    BigDecimal sumEstimatedCostSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 최근 선택 기록
+     */
+    @Query("SELECT d FROM ProviderRoutingDecision d ORDER BY d.decidedAt DESC")
+    List<ProviderRoutingDecision> findRecent(Pageable pageable);
+    
+    /**
+     * 보관 기간이 지난 기록 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM provider_routing_decisions WHERE decided_at < :before", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
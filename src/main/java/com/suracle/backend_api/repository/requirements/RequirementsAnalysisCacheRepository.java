@@ -0,0 +1,66 @@
+package com.suracle.backend_api.repository.requirements;
+
+import com.suracle.backend_api.entity.requirements.RequirementsAnalysisCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RequirementsAnalysisCacheRepository extends JpaRepository<RequirementsAnalysisCache, Long> {
+    
+    /**
+     * 캐시 키와 버전으로 유효한 분석 결과 조회
+     */
+    @Query("SELECT r FROM RequirementsAnalysisCache r WHERE r.cacheKey = :cacheKey AND r.version = :version AND r.expiresAt > :now")
+    Optional<RequirementsAnalysisCache> findValid(@Param("cacheKey") String cacheKey,
+                                                  @Param("version") String version,
+                                                  @Param("now") LocalDateTime now);
+    
+    /**
+     * 주어진 HS코드들의 캐시 중 곧 만료되거나 이미 만료된 항목 조회 (만료 임박 순)
+     */
+    @Query("SELECT r FROM RequirementsAnalysisCache r WHERE r.hsCode IN :hsCodes AND (r.expiresAt < :refreshBefore OR r.version <> :version) ORDER BY r.expiresAt ASC")
+    List<RequirementsAnalysisCache> findRefreshCandidates(@Param("hsCodes") Collection<String> hsCodes,
+                                                          @Param("refreshBefore") LocalDateTime refreshBefore,
+                                                          @Param("version") String version);
+    
+    /**
+     * 캐시 항목이 하나라도 있는 HS코드 조회
+     */
+    @Query("SELECT DISTINCT r.hsCode FROM RequirementsAnalysisCache r WHERE r.hsCode IN :hsCodes")
+    List<String> findCachedHsCodes(@Param("hsCodes") Collection<String> hsCodes);
+    
+    /**
+     * 분석 결과 저장 또는 갱신 (캐시 키 기준 upsert)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO requirements_analysis_cache (hs_code, product_name, analysis_result, cache_key, version, expires_at, refreshed_at, created_at) " +
+            "VALUES (:hsCode, :productName, CAST(:analysisResult AS jsonb), :cacheKey, :version, :expiresAt, now(), now()) " +
+            "ON CONFLICT (cache_key) DO UPDATE SET analysis_result = EXCLUDED.analysis_result, version = EXCLUDED.version, " +
+            "expires_at = EXCLUDED.expires_at, refreshed_at = EXCLUDED.refreshed_at",
+            nativeQuery = true)
+    int upsert(@Param("hsCode") String hsCode,
+               @Param("productName") String productName,
+               @Param("analysisResult") String analysisResult,
+               @Param("cacheKey") String cacheKey,
+               @Param("version") String version,
+               @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * 만료된 분석 캐시 일부 삭제 (expires_at 순으로 최대 limit건, 다른 트랜잭션이 잡고 있는 행은 건너뜀)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM requirements_analysis_cache WHERE id IN (SELECT id FROM requirements_analysis_cache WHERE expires_at < :now " +
+            "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,9 +21,31 @@ public interface SearchResultCacheRepository extends JpaRepository<SearchResultC
     Optional<SearchResultCache> findByCacheKey(String cacheKey);
     
     /**
-     * HS코드와 기관으로 검색 결과 조회
+     * 검색 결과 저장 또는 갱신 (캐시 키 기준 upsert, 부정 캐시면 negativeOutcome에 원인, contentHash는 null)
      */
-    @Query("SELECT s FROM SearchResultCache s WHERE s.hsCode = :hsCode AND s.agency = :agency AND s.expiresAt > :now")
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO search_result_cache (cache_key, agency, hs_code, product_name, search_query, search_results, content_hash, negative_outcome, refresh_after, expires_at, created_at) " +
+            "VALUES (:cacheKey, :agency, :hsCode, :productName, :searchQuery, CAST(:searchResults AS jsonb), :contentHash, :negativeOutcome, :refreshAfter, :expiresAt, now()) " +
+            "ON CONFLICT (cache_key) DO UPDATE SET search_results = EXCLUDED.search_results, content_hash = EXCLUDED.content_hash, " +
+            "negative_outcome = EXCLUDED.negative_outcome, " +
+            "refresh_after = EXCLUDED.refresh_after, expires_at = EXCLUDED.expires_at", nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey,
+               @Param("agency") String agency,
+               @Param("hsCode") String hsCode,
+               @Param("productName") String productName,
+               @Param("searchQuery") String searchQuery,
+               @Param("searchResults") String searchResults,
+               @Param("contentHash") String contentHash,
+               @Param("negativeOutcome") String negativeOutcome,
+               @Param("refreshAfter") LocalDateTime refreshAfter,
+               @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * HS코드와 기관으로 검색 결과 조회 (부정 캐시 제외)
+     */
+    @Query("SELECT s FROM SearchResultCache s WHERE s.hsCode = :hsCode AND s.agency = :agency AND s.expiresAt > :now " +
+           "AND s.negativeOutcome IS NULL")
     List<SearchResultCache> findValidByHsCodeAndAgency(@Param("hsCode") String hsCode, 
                                                        @Param("agency") String agency, 
                                                        @Param("now") LocalDateTime now);
@@ -31,13 +54,23 @@ public interface SearchResultCacheRepository extends JpaRepository<SearchResultC
      * 만료된 캐시 삭제
      */
     @Modifying
+    @Transactional
     @Query("DELETE FROM SearchResultCache s WHERE s.expiresAt < :now")
     int deleteExpiredCache(@Param("now") LocalDateTime now);
     
     /**
-     * 특정 HS코드의 모든 캐시 조회
+     * 만료된 캐시 일부 삭제 (expires_at 순으로 최대 limit건, 다른 트랜잭션이 잡고 있는 행은 건너뜀)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM search_result_cache WHERE id IN (SELECT id FROM search_result_cache WHERE expires_at < :now " +
+            "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    /**
+     * 특정 HS코드의 모든 캐시 조회 (부정 캐시 제외)
      */
-    @Query("SELECT s FROM SearchResultCache s WHERE s.hsCode = :hsCode AND s.expiresAt > :now")
+    @Query("SELECT s FROM SearchResultCache s WHERE s.hsCode = :hsCode AND s.expiresAt > :now AND s.negativeOutcome IS NULL")
     List<SearchResultCache> findValidByHsCode(@Param("hsCode") String hsCode, @Param("now") LocalDateTime now);
     
     /**
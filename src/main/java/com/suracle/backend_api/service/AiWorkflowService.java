@@ -1,133 +1,153 @@
 package com.suracle.backend_api.service;
 
 import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.service.cache.CacheMetrics;
+import com.suracle.backend_api.service.cache.LlmSummaryCacheService;
+import com.suracle.backend_api.service.cache.RequirementsAnalysisCacheService;
+import com.suracle.backend_api.service.http.AiEngineClient;
+import com.suracle.backend_api.service.util.ClusterLease;
+import com.suracle.backend_api.service.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+/**
+ * AI 엔진 분석 호출
+ * executeXxxAnalysisAsync: 리액티브 API (응답 대기 중 스레드를 점유하지 않음, 조합용)
+ * executeXxxAnalysis: 기존 호출부를 위한 블로킹 API
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiWorkflowService {
 
-    private final RestTemplate restTemplate;
-    
+    private final AiEngineClient aiEngineClient;
+    private final ClusterLease clusterLease;
+    private final LlmSummaryCacheService llmSummaryCacheService;
+    private final RequirementsAnalysisCacheService requirementsAnalysisCacheService;
+    private final CacheMetrics cacheMetrics;
+
+    /** 요구사항 분석 single-flight (키: HS코드 + 상품명 + 강제 갱신 여부) */
+    private final SingleFlight<String, Map<String, Object>> requirementsFlights = new SingleFlight<>();
+
+    @Value("${ai.requirements-analysis.batch-concurrency:4}")
+    private int requirementsBatchConcurrency;
+
+    @Value("${analysis.single-flight.cluster-enabled:false}")
+    private boolean clusterSingleFlightEnabled;
+
+    @Value("${analysis.single-flight.cluster-poll-interval-ms:2000}")
+    private long clusterPollIntervalMs;
+
+    @Value("${analysis.single-flight.cluster-max-wait-ms:1200000}")
+    private long clusterMaxWaitMs;
+
+    @Value("${analysis.single-flight.cluster-lease-minutes:25}")
+    private long clusterLeaseMinutes;
+
     @Value("${ai.workflow.url:http://localhost:8000}")
     private String aiWorkflowUrl;
-    
+
     @Value("${ai.precedents-analysis.url:http://localhost:8000}")
     private String precedentsAnalysisUrl;
-    
+
     @Value("${ai.requirements-analysis.url:http://localhost:8000}")
     private String requirementsAnalysisUrl;
 
+    @Value("${ai.detailed-regulations-analysis.url:http://localhost:8000}")
+    private String detailedRegulationsAnalysisUrl;
+
+    @Value("${ai.penalties-analysis.url:http://localhost:8000}")
+    private String penaltiesAnalysisUrl;
+
+    @Value("${ai.testing-procedures-analysis.url:http://localhost:8000}")
+    private String testingProceduresAnalysisUrl;
+
+    @Value("${ai.validity-analysis.url:http://localhost:8000}")
+    private String validityAnalysisUrl;
+
     /**
      * AI 워크플로우 실행 (전체 분석)
      */
     public Map<String, Object> executeAiWorkflow(Product product) {
-        try {
-            log.info("AI 워크플로우 실행 시작 - 상품 ID: {}, 상품명: {}", product.getProductId(), product.getProductName());
-            
-            // 요청 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("product_name", product.getProductName());
-            requestData.put("description", product.getDescription());
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("origin_country", product.getOriginCountry());
-            requestData.put("price", product.getPrice());
-            requestData.put("fob_price", product.getFobPrice());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-            
-            // AI 워크플로우 호출 (현재는 precedents-analysis만 호출)
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                precedentsAnalysisUrl + "/analyze-precedents",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                if (result != null) {
-                    log.info("AI 워크플로우 실행 완료 - 상품 ID: {}, 신뢰도: {}", 
-                            product.getProductId(), result.get("confidence_score"));
-                    return result;
-                }
-            }
-            log.error("AI 워크플로우 실행 실패 - 상품 ID: {}, 상태코드: {}", 
-                    product.getProductId(), response.getStatusCode());
-            return getDefaultAnalysisResult();
-            
-        } catch (Exception e) {
-            log.error("AI 워크플로우 실행 중 오류 발생 - 상품 ID: {}, 오류: {}", 
-                     product.getProductId(), e.getMessage(), e);
-            return getDefaultAnalysisResult();
-        }
+        return executeAiWorkflowAsync(product).block();
+    }
+
+    public Mono<Map<String, Object>> executeAiWorkflowAsync(Product product) {
+        log.info("AI 워크플로우 실행 시작 - 상품 ID: {}, 상품명: {}", product.getProductId(), product.getProductName());
+
+        // 요청 데이터 구성
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("product_name", product.getProductName());
+        requestData.put("description", product.getDescription());
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("origin_country", product.getOriginCountry());
+        requestData.put("price", product.getPrice());
+        requestData.put("fob_price", product.getFobPrice());
+
+        // AI 워크플로우 호출 (현재는 precedents-analysis만 호출)
+        return aiEngineClient.post("precedents", precedentsAnalysisUrl + "/analyze-precedents", requestData)
+                .doOnNext(result -> log.info("AI 워크플로우 실행 완료 - 상품 ID: {}, 신뢰도: {}",
+                        product.getProductId(), result.get("confidence_score")))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("AI 워크플로우 실행 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getDefaultAnalysisResult();
+                }))
+                .onErrorResume(e -> {
+                    log.error("AI 워크플로우 실행 중 오류 발생 - 상품 ID: {}, 오류: {}",
+                            product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getDefaultAnalysisResult());
+                });
     }
 
     /**
      * 판례 분석만 실행
      */
     public Map<String, Object> executePrecedentsAnalysis(Product product) {
-        try {
-            log.info("판례 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
-            
-            // 요청 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("product_id", product.getProductId());
-            requestData.put("product_name", product.getProductName());
-            requestData.put("description", product.getDescription());
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("origin_country", product.getOriginCountry());
-            requestData.put("price", product.getPrice() != null ? product.getPrice() : 0.0);
-            requestData.put("fob_price", product.getFobPrice() != null ? product.getFobPrice() : 0.0);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-            
-            // precedents-analysis API 호출
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                precedentsAnalysisUrl + "/analyze-precedents",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                if (result != null) {
-                    log.info("판례 분석 완료 - 상품 ID: {}, 성공사례: {}개, 실패사례: {}개, 신뢰도: {}", 
-                            product.getProductId(), 
-                            ((java.util.List<?>) result.getOrDefault("success_cases", java.util.List.of())).size(),
-                            ((java.util.List<?>) result.getOrDefault("failure_cases", java.util.List.of())).size(),
-                            result.get("confidence_score"));
-                    return result;
-                }
-            }
-            log.error("판례 분석 실패 - 상품 ID: {}, 상태코드: {}", 
-                    product.getProductId(), response.getStatusCode());
-            return getDefaultPrecedentsResult();
-            
-        } catch (Exception e) {
-            log.error("판례 분석 중 오류 발생 - 상품 ID: {}, 오류: {}", 
-                     product.getProductId(), e.getMessage(), e);
-            return getDefaultPrecedentsResult();
-        }
+        return executePrecedentsAnalysisAsync(product).block();
+    }
+
+    public Mono<Map<String, Object>> executePrecedentsAnalysisAsync(Product product) {
+        log.info("판례 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
+
+        // 요청 데이터 구성
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("product_id", product.getProductId());
+        requestData.put("product_name", product.getProductName());
+        requestData.put("description", product.getDescription());
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("origin_country", product.getOriginCountry());
+        requestData.put("price", product.getPrice() != null ? product.getPrice() : 0.0);
+        requestData.put("fob_price", product.getFobPrice() != null ? product.getFobPrice() : 0.0);
+
+        // precedents-analysis API 호출
+        return aiEngineClient.post("precedents", precedentsAnalysisUrl + "/analyze-precedents", requestData)
+                .doOnNext(result -> log.info("판례 분석 완료 - 상품 ID: {}, 성공사례: {}개, 실패사례: {}개, 신뢰도: {}",
+                        product.getProductId(),
+                        ((java.util.List<?>) result.getOrDefault("success_cases", java.util.List.of())).size(),
+                        ((java.util.List<?>) result.getOrDefault("failure_cases", java.util.List.of())).size(),
+                        result.get("confidence_score")))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("판례 분석 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getDefaultPrecedentsResult();
+                }))
+                .onErrorResume(e -> {
+                    log.error("판례 분석 중 오류 발생 - 상품 ID: {}, 오류: {}",
+                            product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getDefaultPrecedentsResult());
+                });
     }
 
     /**
@@ -146,51 +166,165 @@ public class AiWorkflowService {
     }
 
     /**
-     * 요구사항 분석 실행
+     * 요구사항 분석 실행 (캐시 무시하고 새로 분석)
      */
     public Map<String, Object> executeRequirementsAnalysis(Product product) {
-        try {
-            log.info("요구사항 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
-            
-            // 요청 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("product_name", product.getProductName());
-            requestData.put("product_description", product.getDescription() != null ? product.getDescription() : "");
-            requestData.put("target_country", "US");
-            requestData.put("force_refresh", true);  // 캐시 무시하고 새로 분석
-            requestData.put("is_new_product", false);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-            
-            // AI Engine 요구사항 분석 API 호출
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                requirementsAnalysisUrl + "/requirements/analyze",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                if (result != null) {
-                    log.info("요구사항 분석 완료 - 상품 ID: {}, 신뢰도: {}", 
-                            product.getProductId(), result.get("metadata"));
-                    return result;
-                }
+        return executeRequirementsAnalysis(product, true);
+    }
+
+    public Map<String, Object> executeRequirementsAnalysis(Product product, boolean forceRefresh) {
+        return executeRequirementsAnalysisAsync(product, forceRefresh).block();
+    }
+
+    public Mono<Map<String, Object>> executeRequirementsAnalysisAsync(Product product) {
+        return executeRequirementsAnalysisAsync(product, true);
+    }
+
+    /**
+     * 요구사항 분석 실행 (single-flight)
+     * 강제 갱신이 아니면 requirements_analysis_cache의 유효한 결과를 먼저 사용
+     * 같은 (HS코드, 상품명)에 대해 진행 중인 분석이 있으면 새로 호출하지 않고 그 결과를 함께 받음
+     * @param forceRefresh true면 저장된 결과와 AI 엔진 캐시를 무시하고 새로 분석
+     */
+    public Mono<Map<String, Object>> executeRequirementsAnalysisAsync(Product product, boolean forceRefresh) {
+        if (forceRefresh) {
+            return executeRequirementsAnalysisFlight(product, true);
+        }
+        // 캐시 조회는 DB 작업이므로 이벤트 루프 밖에서
+        return Mono.fromCallable(() -> requirementsAnalysisCacheService
+                        .findValid(product.getHsCode(), product.getProductName()).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 요구사항 분석 캐시 조회 실패 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return executeRequirementsAnalysisFlight(product, false)
+                            .doOnNext(result -> cacheMetrics.recordLoad(
+                                    CacheMetrics.REQUIREMENTS_ANALYSIS, System.nanoTime() - start));
+                }));
+    }
+
+    private Mono<Map<String, Object>> executeRequirementsAnalysisFlight(Product product, boolean forceRefresh) {
+        // 강제 갱신 요청이 일반 요청의 (캐시일 수 있는) 결과에 합류하지 않도록 키를 나눔
+        String key = requirementsFlightKey(product.getHsCode(), product.getProductName())
+                + (forceRefresh ? "|refresh" : "");
+        if (requirementsFlights.isInFlight(key)) {
+            log.info("🔗 진행 중인 요구사항 분석에 합류 - 상품 ID: {}, 키: {}", product.getProductId(), key);
+        }
+
+        return requirementsFlights.execute(key, () -> clusterSingleFlightEnabled
+                        ? executeRequirementsAnalysisClusterWide(key, product, forceRefresh)
+                        : callRequirementsAnalysis(product, forceRefresh))
+                // 호출자마다 독립된 Map (공유 결과를 서로 수정하지 않도록)
+                .map(result -> (Map<String, Object>) new HashMap<>(result));
+    }
+
+    /**
+     * 요구사항 일괄 분석 (HS코드별 그룹당 AI 엔진 호출 1회)
+     * 같은 HS코드를 가진 상품들은 첫 상품을 대표로 한 번만 분석하고 결과를 공유
+     * @return HS코드 → 분석 결과 (입력 순서 유지)
+     */
+    public Mono<Map<String, Map<String, Object>>> executeRequirementsAnalysisBatchAsync(List<Product> products, boolean forceRefresh) {
+        Map<String, Product> representatives = new LinkedHashMap<>();
+        for (Product product : products) {
+            if (product.getHsCode() == null || product.getHsCode().isBlank()) {
+                continue;
             }
-            log.error("요구사항 분석 실패 - 상품 ID: {}, 상태코드: {}", 
-                    product.getProductId(), response.getStatusCode());
-            return getDefaultRequirementsResult();
-            
-        } catch (Exception e) {
-            log.error("요구사항 분석 중 오류 발생 - 상품 ID: {}, 오류: {}", 
-                     product.getProductId(), e.getMessage(), e);
-            return getDefaultRequirementsResult();
+            representatives.putIfAbsent(product.getHsCode().trim(), product);
         }
+
+        log.info("요구사항 일괄 분석 시작 - 상품 수: {}, HS코드 그룹 수: {}", products.size(), representatives.size());
+
+        return Flux.fromIterable(representatives.entrySet())
+                .flatMap(entry -> executeRequirementsAnalysisAsync(entry.getValue(), forceRefresh)
+                                .map(result -> Map.entry(entry.getKey(), result)),
+                        requirementsBatchConcurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
+
+    /**
+     * 노드 간 single-flight (cache_refresh_leases 임대)
+     * 임대를 얻은 노드만 AI 엔진을 호출하고, 나머지는 완료를 기다린 뒤 AI 엔진 캐시 결과를 사용
+     * 임대는 행으로만 남으므로 분석하는 동안(최대 20분) DB 커넥션을 점유하지 않음
+     */
+    private Mono<Map<String, Object>> executeRequirementsAnalysisClusterWide(String key, Product product, boolean forceRefresh) {
+        String leaseKey = "analysis:requirements:" + key;
+
+        return Mono.fromCallable(() -> clusterLease.tryAcquire(leaseKey, Duration.ofMinutes(clusterLeaseMinutes)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(lease -> {
+                    if (lease.isPresent()) {
+                        return callRequirementsAnalysis(product, forceRefresh)
+                                .doFinally(signal -> Schedulers.boundedElastic().schedule(lease.get()::close));
+                    }
+                    log.info("🔗 다른 노드에서 같은 요구사항 분석 진행 중 - 완료 후 캐시 결과 사용, 키: {}", key);
+                    return awaitClusterPeer(leaseKey)
+                            .then(Mono.defer(() -> callRequirementsAnalysis(product, false)));
+                })
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.warn("⚠️ 분석 임대 사용 불가 - 노드 내 single-flight로 진행, 키: {}, 오류: {}", key, e.getMessage());
+                    return callRequirementsAnalysis(product, forceRefresh);
+                });
+    }
+
+    /**
+     * 다른 노드가 임대를 반납(또는 만료)할 때까지 대기 (최대 대기 시간 초과 시 그대로 진행)
+     */
+    private Mono<Boolean> awaitClusterPeer(String leaseKey) {
+        return Mono.fromCallable(() -> clusterLease.isHeld(leaseKey) ? null : Boolean.TRUE)
+                .subscribeOn(Schedulers.boundedElastic())
+                .repeatWhenEmpty(repeats -> repeats.delayElements(Duration.ofMillis(clusterPollIntervalMs)))
+                .timeout(Duration.ofMillis(clusterMaxWaitMs))
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 다른 노드의 요구사항 분석 대기 중단 - 오류: {}", e.getMessage());
+                    return Mono.just(Boolean.FALSE);
+                });
+    }
+
+    private Mono<Map<String, Object>> callRequirementsAnalysis(Product product, boolean forceRefresh) {
+        log.info("요구사항 분석 실행 시작 - 상품 ID: {}, HS코드: {}, 강제 갱신: {}",
+                product.getProductId(), product.getHsCode(), forceRefresh);
+
+        // 요청 데이터 구성
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("product_name", product.getProductName());
+        requestData.put("product_description", product.getDescription() != null ? product.getDescription() : "");
+        requestData.put("target_country", "US");
+        requestData.put("force_refresh", forceRefresh);  // true면 캐시 무시하고 새로 분석
+        requestData.put("is_new_product", false);
+
+        // AI Engine 요구사항 분석 API 호출
+        return aiEngineClient.post("requirements", requirementsAnalysisUrl + "/requirements/analyze", requestData)
+                .doOnNext(result -> log.info("요구사항 분석 완료 - 상품 ID: {}, 신뢰도: {}",
+                        product.getProductId(), result.get("metadata")))
+                // 새로 만든 LLM 요약은 문서 해시와 함께, 분석 결과는 요구사항 분석 캐시에 저장 (DB 작업이므로 이벤트 루프 밖에서)
+                .doOnNext(result -> Schedulers.boundedElastic().schedule(() -> {
+                    llmSummaryCacheService.captureFromAnalysis(product.getHsCode(), product.getProductName(), result);
+                    requirementsAnalysisCacheService.store(product.getHsCode(), product.getProductName(), result);
+                }))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("요구사항 분석 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getDefaultRequirementsResult();
+                }))
+                .onErrorResume(e -> {
+                    log.error("요구사항 분석 중 오류 발생 - 상품 ID: {}, 오류: {}",
+                            product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getDefaultRequirementsResult());
+                });
+    }
+
+    /**
+     * single-flight 키 (HS코드 + 정규화한 상품명)
+     */
+    public static String requirementsFlightKey(String hsCode, String productName) {
+        String normalizedHsCode = hsCode != null ? hsCode.trim() : "";
+        String normalizedName = productName != null
+                ? productName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)
+                : "";
+        return normalizedHsCode + "|" + normalizedName;
     }
 
     /**
@@ -205,66 +339,41 @@ public class AiWorkflowService {
         result.put("recommended_action", "관세사 상담 권장");
         result.put("confidence_score", 0.0);
         result.put("is_valid", false);
+        result.put("error", true);
         return result;
     }
 
-    @Value("${ai.detailed-regulations-analysis.url:http://localhost:8000}")
-    private String detailedRegulationsAnalysisUrl;
-
-    @Value("${ai.penalties-analysis.url:http://localhost:8000}")
-    private String penaltiesAnalysisUrl;
-
-    @Value("${ai.testing-procedures-analysis.url:http://localhost:8000}")
-    private String testingProceduresAnalysisUrl;
-
-    @Value("${ai.validity-analysis.url:http://localhost:8000}")
-    private String validityAnalysisUrl;
-
     /**
      * 세부 규정 분석 실행 (농약 잔류량, 화학성분 제한, 식품첨가물 기준, EMC 기준 등)
      */
     public Map<String, Object> executeDetailedRegulationsAnalysis(Product product) {
-        try {
-            log.info("세부 규정 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
-            
-            // 요청 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("product_name", product.getProductName());
-            requestData.put("product_description", product.getDescription() != null ? product.getDescription() : "");
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-            
-            // AI Engine 세부 규정 분석 API 호출
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                detailedRegulationsAnalysisUrl + "/detailed-regulations/search",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                if (result != null) {
-                    log.info("세부 규정 분석 완료 - 상품 ID: {}, 카테고리: {}, 신뢰도: {}", 
-                            product.getProductId(), 
-                            result.get("category"),
-                            result.get("confidence"));
-                    return result;
-                }
-            }
-            log.error("세부 규정 분석 실패 - 상품 ID: {}, 상태코드: {}", 
-                    product.getProductId(), response.getStatusCode());
-            return getDefaultDetailedRegulationsResult();
-            
-        } catch (Exception e) {
-            log.error("세부 규정 분석 중 오류 발생 - 상품 ID: {}, 오류: {}", 
-                     product.getProductId(), e.getMessage(), e);
-            return getDefaultDetailedRegulationsResult();
-        }
+        return executeDetailedRegulationsAnalysisAsync(product).block();
+    }
+
+    public Mono<Map<String, Object>> executeDetailedRegulationsAnalysisAsync(Product product) {
+        log.info("세부 규정 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
+
+        // 요청 데이터 구성
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("product_name", product.getProductName());
+        requestData.put("product_description", product.getDescription() != null ? product.getDescription() : "");
+
+        // AI Engine 세부 규정 분석 API 호출
+        return aiEngineClient.post("detailed-regulations", detailedRegulationsAnalysisUrl + "/detailed-regulations/search", requestData)
+                .doOnNext(result -> log.info("세부 규정 분석 완료 - 상품 ID: {}, 카테고리: {}, 신뢰도: {}",
+                        product.getProductId(),
+                        result.get("category"),
+                        result.get("confidence")))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("세부 규정 분석 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getDefaultDetailedRegulationsResult();
+                }))
+                .onErrorResume(e -> {
+                    log.error("세부 규정 분석 중 오류 발생 - 상품 ID: {}, 오류: {}",
+                            product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getDefaultDetailedRegulationsResult());
+                });
     }
 
     /**
@@ -323,41 +432,30 @@ public class AiWorkflowService {
      * 검사 절차 및 방법 분석 실행 (Phase 2)
      */
     public Map<String, Object> executeTestingProceduresAnalysis(Product product) {
-        try {
-            log.info("검사 절차 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
-
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("product_name", product.getProductName());
-            requestData.put("product_description", product.getDescription() != null ? product.getDescription() : "");
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                testingProceduresAnalysisUrl + "/testing-procedures/analyze",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                log.info("검사 절차 분석 완료 - 상품 ID: {}, 주기: {}, 방법 수: {}", 
-                        product.getProductId(),
-                        result.getOrDefault("inspection_cycle", "unknown"),
-                        ((java.util.List<?>) result.getOrDefault("methods", java.util.List.of())).size());
-                return result;
-            }
+        return executeTestingProceduresAnalysisAsync(product).block();
+    }
 
-            log.error("검사 절차 분석 실패 - 상품 ID: {}, 상태코드: {}", product.getProductId(), response.getStatusCode());
-            return getDefaultTestingProceduresResult();
+    public Mono<Map<String, Object>> executeTestingProceduresAnalysisAsync(Product product) {
+        log.info("검사 절차 분석 실행 시작 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
 
-        } catch (Exception e) {
-            log.error("검사 절차 분석 중 오류 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage(), e);
-            return getDefaultTestingProceduresResult();
-        }
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("product_name", product.getProductName());
+        requestData.put("product_description", product.getDescription() != null ? product.getDescription() : "");
+
+        return aiEngineClient.post("testing-procedures", testingProceduresAnalysisUrl + "/testing-procedures/analyze", requestData)
+                .doOnNext(result -> log.info("검사 절차 분석 완료 - 상품 ID: {}, 주기: {}, 방법 수: {}",
+                        product.getProductId(),
+                        result.getOrDefault("inspection_cycle", "unknown"),
+                        ((java.util.List<?>) result.getOrDefault("methods", java.util.List.of())).size()))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("검사 절차 분석 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getDefaultTestingProceduresResult();
+                }))
+                .onErrorResume(e -> {
+                    log.error("검사 절차 분석 중 오류 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getDefaultTestingProceduresResult());
+                });
     }
 
     private Map<String, Object> getDefaultTestingProceduresResult() {
@@ -380,73 +478,63 @@ public class AiWorkflowService {
      * 처벌 및 벌금 분석 실행 (Phase 3)
      */
     public Map<String, Object> executePenaltiesAnalysis(Product product) {
-        try {
-            log.info("처벌/벌금 분석 실행 - 상품 ID: {}, HS: {}", product.getProductId(), product.getHsCode());
-
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("product_name", product.getProductName());
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                penaltiesAnalysisUrl + "/penalties/analyze",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                log.info("처벌/벌금 분석 완료 - 상품 ID: {}, 기관 수: {}", product.getProductId(),
-                        ((java.util.List<?>) result.getOrDefault("agencies", java.util.List.of())).size());
-                return result;
-            }
-            log.error("처벌/벌금 분석 실패 - 상품 ID: {}, 상태코드: {}", product.getProductId(), response.getStatusCode());
-            return Map.of("error", true, "message", "penalties service error");
+        return executePenaltiesAnalysisAsync(product).block();
+    }
 
-        } catch (Exception e) {
-            log.error("처벌/벌금 분석 오류 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage(), e);
-            return Map.of("error", true, "message", e.getMessage());
-        }
+    public Mono<Map<String, Object>> executePenaltiesAnalysisAsync(Product product) {
+        log.info("처벌/벌금 분석 실행 - 상품 ID: {}, HS: {}", product.getProductId(), product.getHsCode());
+
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("product_name", product.getProductName());
+
+        return aiEngineClient.post("penalties", penaltiesAnalysisUrl + "/penalties/analyze", requestData)
+                .doOnNext(result -> log.info("처벌/벌금 분석 완료 - 상품 ID: {}, 기관 수: {}", product.getProductId(),
+                        ((java.util.List<?>) result.getOrDefault("agencies", java.util.List.of())).size()))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("처벌/벌금 분석 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getErrorResult("penalties service error");
+                }))
+                .onErrorResume(e -> {
+                    log.error("처벌/벌금 분석 오류 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getErrorResult(String.valueOf(e.getMessage())));
+                });
     }
 
     /**
      * 유효기간/갱신 분석 실행 (Phase 4)
      */
     public Map<String, Object> executeValidityAnalysis(Product product) {
-        try {
-            log.info("유효기간/갱신 분석 실행 - 상품 ID: {}, HS: {}", product.getProductId(), product.getHsCode());
-
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("hs_code", product.getHsCode());
-            requestData.put("product_name", product.getProductName());
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
-
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map<String, Object>> response = restTemplate.postForEntity(
-                validityAnalysisUrl + "/validity/analyze",
-                entity,
-                (Class<Map<String, Object>>) (Class<?>) Map.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = response.getBody();
-                log.info("유효기간/갱신 분석 완료 - 상품 ID: {}, 기관 수: {}", product.getProductId(),
-                        ((java.util.List<?>) result.getOrDefault("agencies", java.util.List.of())).size());
-                return result;
-            }
-            log.error("유효기간/갱신 분석 실패 - 상품 ID: {}, 상태코드: {}", product.getProductId(), response.getStatusCode());
-            return Map.of("error", true, "message", "validity service error");
+        return executeValidityAnalysisAsync(product).block();
+    }
 
-        } catch (Exception e) {
-            log.error("유효기간/갱신 분석 오류 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage(), e);
-            return Map.of("error", true, "message", e.getMessage());
-        }
+    public Mono<Map<String, Object>> executeValidityAnalysisAsync(Product product) {
+        log.info("유효기간/갱신 분석 실행 - 상품 ID: {}, HS: {}", product.getProductId(), product.getHsCode());
+
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("hs_code", product.getHsCode());
+        requestData.put("product_name", product.getProductName());
+
+        return aiEngineClient.post("validity", validityAnalysisUrl + "/validity/analyze", requestData)
+                .doOnNext(result -> log.info("유효기간/갱신 분석 완료 - 상품 ID: {}, 기관 수: {}", product.getProductId(),
+                        ((java.util.List<?>) result.getOrDefault("agencies", java.util.List.of())).size()))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("유효기간/갱신 분석 실패 - 상품 ID: {}, 빈 응답", product.getProductId());
+                    return getErrorResult("validity service error");
+                }))
+                .onErrorResume(e -> {
+                    log.error("유효기간/갱신 분석 오류 - 상품 ID: {}, 오류: {}", product.getProductId(), e.getMessage(), e);
+                    return Mono.just(getErrorResult(String.valueOf(e.getMessage())));
+                });
+    }
+
+    /**
+     * 처벌/유효기간 분석 오류 결과 반환
+     */
+    private Map<String, Object> getErrorResult(String message) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("error", true);
+        result.put("message", message);
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.suracle.backend_api.service;
+
+import com.suracle.backend_api.config.AnalysisBulkheadProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 분석 타입별 벌크헤드
+ * 슬롯이 없으면 기다리지 않고 즉시 거절하므로 대기 중인 작업이 스레드를 점유하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisBulkhead {
+
+    private final AnalysisBulkheadProperties properties;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /**
+     * 실행 슬롯 획득 시도 (성공 시 반드시 release 호출)
+     */
+    public boolean tryAcquire(String analysisType) {
+        return semaphore(analysisType).tryAcquire();
+    }
+
+    public void release(String analysisType) {
+        semaphore(analysisType).release();
+    }
+
+    /**
+     * 분석 타입별 사용 중 / 최대 슬롯 현황
+     */
+    public Map<String, Map<String, Integer>> snapshot() {
+        Map<String, Map<String, Integer>> snapshot = new LinkedHashMap<>();
+        permits.forEach((analysisType, semaphore) -> {
+            int max = properties.getMaxConcurrent(analysisType);
+            snapshot.put(analysisType, Map.of("in_use", max - semaphore.availablePermits(), "max", max));
+        });
+        return snapshot;
+    }
+
+    private Semaphore semaphore(String analysisType) {
+        return permits.computeIfAbsent(analysisType, type -> new Semaphore(properties.getMaxConcurrent(type)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.suracle.backend_api.service;
+
+import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.service.event.AnalysisProgressEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 단위 분석 팬아웃
+ * 서로 독립적인 분석 타입들을 동시에 실행하고, 각 분석은 끝나는 즉시 결과를 저장
+ * (AI 엔진 응답 대기 중에는 스레드를 점유하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisFanOutService {
+
+    /** 상품 등록 시 실행하는 전체 분석 타입 */
+    public static final List<String> ALL_ANALYSIS_TYPES = List.of(
+            "precedents", "requirements", "detailed_regulations", "testing_procedures", "penalties", "validity");
+
+    private final ProductService productService;
+    private final AnalysisBulkhead analysisBulkhead;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 분석 타입 실행 결과
+     */
+    public enum Outcome {
+        COMPLETED, FAILED, DEFERRED
+    }
+
+    /**
+     * 분석 타입들을 동시에 실행
+     * 벌크헤드 슬롯이 없는 타입은 실행하지 않고 DEFERRED로 돌려줌
+     * @return 모든 분석이 끝나면 완료되는 Mono (타입별 결과, 실패 시 오류 메시지)
+     */
+    public Mono<FanOutResult> dispatch(Product product, List<String> analysisTypes) {
+        FanOutResult result = new FanOutResult();
+        List<Mono<Void>> analyses = new ArrayList<>();
+
+        for (String analysisType : analysisTypes) {
+            analyses.add(Mono.defer(() -> {
+                if (!analysisBulkhead.tryAcquire(analysisType)) {
+                    log.info("⏸️ 분석 슬롯 부족으로 연기 - 상품 ID: {}, 타입: {}", product.getProductId(), analysisType);
+                    result.record(analysisType, Outcome.DEFERRED, null);
+                    publish(product, analysisType, AnalysisProgressEvent.Phase.DEFERRED, null);
+                    return Mono.<Void>empty();
+                }
+
+                publish(product, analysisType, AnalysisProgressEvent.Phase.STARTED, null);
+                return Mono.defer(() -> productService.executeBackgroundAnalysis(product, analysisType))
+                        .doOnSuccess(ignored -> result.record(analysisType, Outcome.COMPLETED, null))
+                        .onErrorResume(error -> {
+                            log.error("❌ 분석 실패 - 상품 ID: {}, 타입: {}, 오류: {}",
+                                    product.getProductId(), analysisType, error.getMessage(), error);
+                            result.record(analysisType, Outcome.FAILED, error.getMessage());
+                            publish(product, analysisType, AnalysisProgressEvent.Phase.FAILED, error.getMessage());
+                            return Mono.empty();
+                        })
+                        .doFinally(signal -> analysisBulkhead.release(analysisType));
+            }));
+        }
+
+        return Mono.when(analyses).thenReturn(result);
+    }
+
+    private void publish(Product product, String analysisType, AnalysisProgressEvent.Phase phase, String message) {
+        eventPublisher.publishEvent(AnalysisProgressEvent.of(product.getProductId(), analysisType, phase, message));
+    }
+
+    /**
+     * 팬아웃 결과 (분석 타입별 결과)
+     */
+    public static class FanOutResult {
+
+        private final Map<String, Outcome> outcomes = new LinkedHashMap<>();
+        private final Map<String, String> errors = new LinkedHashMap<>();
+
+        synchronized void record(String analysisType, Outcome outcome, String errorMessage) {
+            outcomes.put(analysisType, outcome);
+            if (errorMessage != null) {
+                errors.put(analysisType, errorMessage);
+            }
+        }
+
+        public synchronized List<String> typesWith(Outcome outcome) {
+            return outcomes.entrySet().stream()
+                    .filter(entry -> entry.getValue() == outcome)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        public synchronized String errorSummary() {
+            return errors.entrySet().stream()
+                    .map(entry -> entry.getKey() + ": " + entry.getValue())
+                    .reduce((a, b) -> a + "; " + b)
+                    .orElse(null);
+        }
+    }
+}
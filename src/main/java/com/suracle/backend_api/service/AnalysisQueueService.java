@@ -0,0 +1,249 @@
+package com.suracle.backend_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suracle.backend_api.config.AnalysisQueueProperties;
+import com.suracle.backend_api.entity.cache.AnalysisQueue;
+import com.suracle.backend_api.entity.cache.AnalysisQueue.QueueStatus;
+import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.repository.AnalysisQueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 분석 큐(analysis_queue) 상태 전이 관리
+ * PENDING → PROCESSING → COMPLETED / (재시도) PENDING / FAILED
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisQueueService {
+
+    public static final List<QueueStatus> ACTIVE_STATUSES = List.of(QueueStatus.PENDING, QueueStatus.PROCESSING);
+
+    private final AnalysisQueueRepository analysisQueueRepository;
+    private final AnalysisQueueProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 분석 작업 적재 (기본 우선순위)
+     */
+    @Transactional
+    public Optional<AnalysisQueue> enqueue(Product product, List<String> analysisTypes) {
+        return enqueue(product, analysisTypes, properties.getDefaultPriority(), LocalDateTime.now());
+    }
+
+    /**
+     * 분석 작업 적재
+     * 같은 상품에 대기/처리 중인 작업이 있으면 새로 적재하지 않음 (DB 부분 유니크 인덱스로 노드 간에도 보장)
+     */
+    @Transactional
+    public Optional<AnalysisQueue> enqueue(Product product, List<String> analysisTypes, int priority, LocalDateTime scheduledAt) {
+        return enqueue(product, analysisTypes, priority, scheduledAt, null);
+    }
+
+    /**
+     * 분석 작업 적재 (적재 경로 기록 - 경로별 진행 현황 집계용)
+     */
+    @Transactional
+    public Optional<AnalysisQueue> enqueue(Product product, List<String> analysisTypes, int priority,
+                                           LocalDateTime scheduledAt, String source) {
+        if (analysisQueueRepository.existsByProductIdAndStatusIn(product.getId(), ACTIVE_STATUSES)) {
+            log.info("⏭️ 이미 대기/처리 중인 분석 작업 존재 - 상품 ID: {}", product.getProductId());
+            return Optional.empty();
+        }
+
+        // 확인과 적재 사이에 다른 노드가 먼저 적재했으면 유니크 인덱스 충돌로 적재되지 않음
+        int inserted = analysisQueueRepository.insertIfNoActive(product.getId(), writeAnalysisTypes(analysisTypes),
+                priority, scheduledAt, source);
+        if (inserted == 0) {
+            log.info("⏭️ 다른 노드가 먼저 분석 작업 적재 - 상품 ID: {}", product.getProductId());
+            return Optional.empty();
+        }
+
+        Optional<AnalysisQueue> saved = analysisQueueRepository.findFirstByProductIdAndStatusOrderByIdDesc(
+                product.getId(), QueueStatus.PENDING);
+        saved.ifPresent(job -> log.info("📥 분석 작업 적재 - 작업 ID: {}, 상품 ID: {}, 타입: {}, 우선순위: {}",
+                job.getId(), product.getProductId(), analysisTypes, priority));
+        return saved;
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 가져와 PROCESSING으로 전환
+     * SKIP LOCKED 덕분에 다른 노드가 잠근 행은 건너뛰므로 같은 작업이 두 번 실행되지 않음
+     */
+    @Transactional
+    public List<Integer> claimNext(int limit, String workerId) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AnalysisQueue> jobs = analysisQueueRepository.lockPendingAnalyses(now, limit);
+        for (AnalysisQueue job : jobs) {
+            job.setStatus(QueueStatus.PROCESSING);
+            job.setStartedAt(now);
+            job.setLockedBy(workerId);
+        }
+        return jobs.stream().map(AnalysisQueue::getId).toList();
+    }
+
+    /**
+     * 실행용 작업 조회 (상품 정보 포함)
+     */
+    @Transactional(readOnly = true)
+    public Optional<AnalysisQueue> findJob(Integer jobId) {
+        return analysisQueueRepository.findWithProductById(jobId);
+    }
+
+    /**
+     * 작업 완료 처리
+     * 이 워커가 아직 처리 중인 작업일 때만 반영 (처리 시간 초과로 복구된 뒤 늦게 끝난 실행은 무시)
+     */
+    @Transactional
+    public void markCompleted(Integer jobId, String workerId) {
+        findOwned(jobId, workerId).ifPresent(job -> {
+            job.setStatus(QueueStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setErrorMessage(null);
+            job.setLockedBy(null);
+        });
+    }
+
+    /**
+     * 작업 실패 처리
+     * 재시도 횟수가 남아 있으면 실패한 분석 타입만 남겨 지수 백오프 후 다시 PENDING으로 되돌림
+     */
+    @Transactional
+    public void markFailed(Integer jobId, String workerId, List<String> failedTypes, String errorMessage) {
+        markFailed(jobId, workerId, failedTypes, List.of(), errorMessage, 0);
+    }
+
+    /**
+     * 일부 타입 실패 + 일부 타입 연기 처리
+     * 재시도 횟수는 실제로 실행되어 실패한 타입 때문에만 증가하고, 연기된 타입은 재시도가 소진되어도 실패 처리하지 않음
+     * (재시도 소진 시 실패 타입만 빼고 연기된 타입은 재시도 횟수를 초기화해 다시 예약)
+     */
+    @Transactional
+    public void markFailed(Integer jobId, String workerId, List<String> failedTypes, List<String> deferredTypes,
+                           String errorMessage, long deferSeconds) {
+        findOwned(jobId, workerId).ifPresent(job -> {
+            int retryCount = (job.getRetryCount() != null ? job.getRetryCount() : 0) + 1;
+            job.setRetryCount(retryCount);
+            job.setErrorMessage(errorMessage);
+            job.setLockedBy(null);
+
+            if (retryCount > properties.getMaxRetries()) {
+                log.error("❌ 분석 작업 최종 실패 - 작업 ID: {}, 재시도: {}회, 타입: {}, 오류: {}",
+                        jobId, retryCount - 1, failedTypes, errorMessage);
+                if (deferredTypes.isEmpty()) {
+                    job.setStatus(QueueStatus.FAILED);
+                    job.setCompletedAt(LocalDateTime.now());
+                    return;
+                }
+                job.setRetryCount(0);
+                deferJob(job, deferredTypes, deferSeconds);
+                return;
+            }
+
+            List<String> retryTypes = new ArrayList<>(failedTypes);
+            retryTypes.addAll(deferredTypes);
+            long delaySeconds = Math.max(backoffSeconds(retryCount), deferredTypes.isEmpty() ? 0 : deferSeconds);
+            job.setAnalysisTypes(writeAnalysisTypes(retryTypes));
+            job.setStatus(QueueStatus.PENDING);
+            job.setScheduledAt(LocalDateTime.now().plusSeconds(delaySeconds));
+            log.warn("🔁 분석 작업 재시도 예약 - 작업 ID: {}, 재시도: {}/{}, {}초 후, 실패 타입: {}, 연기 타입: {}",
+                    jobId, retryCount, properties.getMaxRetries(), delaySeconds, failedTypes, deferredTypes);
+        });
+    }
+
+    /**
+     * 벌크헤드 슬롯 부족으로 실행하지 못한 분석 타입만 남겨 재시도 횟수 증가 없이 다시 예약
+     */
+    @Transactional
+    public void defer(Integer jobId, String workerId, List<String> deferredTypes, long delaySeconds) {
+        findOwned(jobId, workerId).ifPresent(job -> deferJob(job, deferredTypes, delaySeconds));
+    }
+
+    private void deferJob(AnalysisQueue job, List<String> deferredTypes, long delaySeconds) {
+        job.setAnalysisTypes(writeAnalysisTypes(deferredTypes));
+        job.setStatus(QueueStatus.PENDING);
+        job.setStartedAt(null);
+        job.setLockedBy(null);
+        job.setScheduledAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        log.info("⏸️ 분석 작업 연기 - 작업 ID: {}, {}초 후, 타입: {}", job.getId(), delaySeconds, deferredTypes);
+    }
+
+    /**
+     * 가져갔지만 실행하지 못한 작업을 재시도 횟수 증가 없이 대기 상태로 되돌림 (워커 포화 등)
+     */
+    @Transactional
+    public void release(Integer jobId, String workerId) {
+        findOwned(jobId, workerId).ifPresent(job -> {
+            job.setStatus(QueueStatus.PENDING);
+            job.setStartedAt(null);
+            job.setLockedBy(null);
+        });
+    }
+
+    /**
+     * 처리 시간이 초과된 PROCESSING 작업 복구 (재시도 소진 시 FAILED)
+     */
+    @Transactional
+    public int releaseStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusMinutes(properties.getProcessingTimeoutMinutes());
+        return analysisQueueRepository.releaseStaleProcessing(cutoff, now, properties.getMaxRetries());
+    }
+
+    /**
+     * 이 워커가 가져가 아직 처리 중인 작업 조회 (아니면 상태 갱신을 건너뜀)
+     */
+    private Optional<AnalysisQueue> findOwned(Integer jobId, String workerId) {
+        Optional<AnalysisQueue> job = analysisQueueRepository.findProcessingByIdAndLockedBy(jobId, workerId);
+        if (job.isEmpty()) {
+            log.warn("⚠️ 이미 복구되었거나 다른 워커가 가져간 작업이라 상태 갱신 생략 - 작업 ID: {}, 워커: {}", jobId, workerId);
+        }
+        return job;
+    }
+
+    /**
+     * 작업의 분석 타입 목록 파싱
+     */
+    public List<String> readAnalysisTypes(AnalysisQueue job) {
+        try {
+            return objectMapper.readValue(job.getAnalysisTypes(), new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 분석 타입 파싱 실패 - 작업 ID: {}, 값: {}", job.getId(), job.getAnalysisTypes());
+            return List.of();
+        }
+    }
+
+    private String writeAnalysisTypes(List<String> analysisTypes) {
+        try {
+            return objectMapper.writeValueAsString(analysisTypes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("분석 타입 직렬화 실패: " + analysisTypes, e);
+        }
+    }
+
+    /**
+     * 지수 백오프 + 지터 (base * 2^(n-1), 최대 backoffMaxSeconds)
+     */
+    private long backoffSeconds(int retryCount) {
+        long base = properties.getBackoffBaseSeconds();
+        long delay = base << Math.min(retryCount - 1, 20);
+        delay = Math.min(delay, properties.getBackoffMaxSeconds());
+        long jitter = delay / 5;
+        return jitter > 0 ? delay - jitter + ThreadLocalRandom.current().nextLong(jitter * 2 + 1) : delay;
+    }
+}
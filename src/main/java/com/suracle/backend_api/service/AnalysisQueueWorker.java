@@ -0,0 +1,158 @@
+package com.suracle.backend_api.service;
+
+import com.suracle.backend_api.config.AnalysisBulkheadProperties;
+import com.suracle.backend_api.config.AnalysisQueueProperties;
+import com.suracle.backend_api.entity.cache.AnalysisQueue;
+import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.service.AnalysisFanOutService.FanOutResult;
+import com.suracle.backend_api.service.AnalysisFanOutService.Outcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 큐 워커
+ * 주기적으로 analysis_queue를 폴링해 빈 워커 슬롯 수만큼만 작업을 가져와 실행
+ * (워커 슬롯 = 동시에 진행 중인 작업 수 상한, AI 엔진 응답 대기 중에는 스레드를 점유하지 않음)
+ * (노드 재시작 시에도 작업은 DB에 남아 있으므로 유실되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisQueueWorker {
+
+    private final AnalysisQueueService analysisQueueService;
+    private final AnalysisFanOutService analysisFanOutService;
+    private final AnalysisQueueProperties properties;
+    private final AnalysisBulkheadProperties bulkheadProperties;
+
+    @Qualifier("analysisQueueExecutor")
+    private final ThreadPoolTaskExecutor analysisQueueExecutor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+
+    /**
+     * 대기 작업 폴링
+     */
+    @Scheduled(fixedDelayString = "${analysis.queue.poll-interval-ms:5000}",
+               initialDelayString = "${analysis.queue.initial-delay-ms:10000}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int capacity = Math.min(properties.getWorkerPoolSize() - inFlight.get(), properties.getBatchSize());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Integer> jobIds;
+        try {
+            jobIds = analysisQueueService.claimNext(capacity, workerId);
+        } catch (Exception e) {
+            log.error("❌ 분석 큐 폴링 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        for (Integer jobId : jobIds) {
+            inFlight.incrementAndGet();
+            try {
+                analysisQueueExecutor.execute(() -> start(jobId));
+            } catch (TaskRejectedException e) {
+                inFlight.decrementAndGet();
+                log.warn("⚠️ 워커 포화로 작업 반환 - 작업 ID: {}", jobId);
+                analysisQueueService.release(jobId, workerId);
+            }
+        }
+    }
+
+    /**
+     * 처리 시간 초과 작업 복구 (다른 노드가 죽으면서 남긴 PROCESSING 작업 포함)
+     */
+    @Scheduled(fixedDelayString = "${analysis.queue.recovery-interval-ms:60000}",
+               initialDelayString = "${analysis.queue.initial-delay-ms:10000}")
+    public void recoverStaleJobs() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int released = analysisQueueService.releaseStaleJobs();
+            if (released > 0) {
+                log.warn("🔁 처리 시간 초과 작업 {}건 복구 (재시도 소진 작업은 실패 처리)", released);
+            }
+        } catch (Exception e) {
+            log.error("❌ 처리 시간 초과 작업 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 단일 작업 시작
+     * 분석 타입별 팬아웃을 구독만 하고 바로 반환하며, 슬롯(inFlight)은 모든 분석이 끝날 때 반납됨
+     */
+    private void start(Integer jobId) {
+        Optional<AnalysisQueue> found;
+        try {
+            found = analysisQueueService.findJob(jobId);
+        } catch (Exception e) {
+            inFlight.decrementAndGet();
+            log.error("❌ 분석 작업 조회 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage(), e);
+            return;
+        }
+        if (found.isEmpty()) {
+            inFlight.decrementAndGet();
+            log.warn("⚠️ 분석 작업을 찾을 수 없음 - 작업 ID: {}", jobId);
+            return;
+        }
+
+        AnalysisQueue job = found.get();
+        Product product = job.getProduct();
+        List<String> analysisTypes = analysisQueueService.readAnalysisTypes(job);
+        log.info("🔬 분석 작업 시작 - 작업 ID: {}, 상품 ID: {}, 타입: {}", jobId, product.getProductId(), analysisTypes);
+
+        // 분석 타입별 동시 실행 (각 분석은 끝나는 즉시 저장됨)
+        analysisFanOutService.dispatch(product, analysisTypes)
+                .publishOn(Schedulers.boundedElastic())
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .subscribe(
+                        result -> complete(jobId, product, result),
+                        error -> {
+                            log.error("❌ 분석 팬아웃 실패 - 작업 ID: {}, 오류: {}", jobId, error.getMessage(), error);
+                            analysisQueueService.markFailed(jobId, workerId, analysisTypes, error.getMessage());
+                        });
+    }
+
+    /**
+     * 팬아웃 결과에 따라 작업 상태 갱신
+     */
+    private void complete(Integer jobId, Product product, FanOutResult result) {
+        List<String> failedTypes = result.typesWith(Outcome.FAILED);
+        List<String> deferredTypes = result.typesWith(Outcome.DEFERRED);
+
+        try {
+            if (!failedTypes.isEmpty()) {
+                // 연기된 타입은 실행되지 않았으므로 재시도 횟수에 포함하지 않음
+                analysisQueueService.markFailed(jobId, workerId, failedTypes, deferredTypes, result.errorSummary(),
+                        bulkheadProperties.getDeferSeconds());
+            } else if (!deferredTypes.isEmpty()) {
+                analysisQueueService.defer(jobId, workerId, deferredTypes, bulkheadProperties.getDeferSeconds());
+            } else {
+                analysisQueueService.markCompleted(jobId, workerId);
+                log.info("✅ 분석 작업 완료 - 작업 ID: {}, 상품 ID: {}", jobId, product.getProductId());
+            }
+        } catch (Exception e) {
+            // 상태 갱신 실패 시 작업은 PROCESSING으로 남고, 처리 시간 초과 복구에서 다시 실행됨
+            log.error("❌ 분석 작업 상태 갱신 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage(), e);
+        }
+    }
+}
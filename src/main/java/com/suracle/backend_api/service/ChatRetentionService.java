@@ -0,0 +1,127 @@
+package com.suracle.backend_api.service;
+
+import com.suracle.backend_api.config.ChatRetentionProperties;
+import com.suracle.backend_api.repository.ChatMessageRepository;
+import com.suracle.backend_api.repository.ChatSessionRepository;
+import com.suracle.backend_api.service.util.PgAdvisoryLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 채팅 세션/메시지 보존 정책
+ * 엔티티를 읽어 한 건씩 지우지 않고, created_at 기준 집합 DELETE를 배치 단위로 반복
+ * 순서: 만료 메시지 → 만료 세션에 남은 메시지 → 비어 있는 만료 세션 (외래키 순서)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRetentionService {
+
+    private static final long LOCK_KEY = PgAdvisoryLock.keyOf("chat-retention", "purge");
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatRetentionProperties properties;
+    private final PgAdvisoryLock advisoryLock;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<String, Object> lastReport = Map.of();
+
+    /**
+     * 주기 실행 (여러 노드 중 한 곳에서만)
+     */
+    @Scheduled(cron = "${chat.retention.cron:0 20 * * * *}")
+    public void purgeScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Optional<PgAdvisoryLock.Handle> lock = advisoryLock.tryLock(LOCK_KEY);
+            if (lock.isEmpty()) {
+                log.debug("⏭️ 다른 노드에서 채팅 데이터 정리 진행 중");
+                return;
+            }
+            try (PgAdvisoryLock.Handle ignored = lock.get()) {
+                purge(properties.getRetentionHours());
+            }
+        } catch (Exception e) {
+            log.error("❌ 채팅 데이터 주기 정리 중 오류", e);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 채팅 데이터 삭제
+     * @param retentionHours 보존 기간 (시간 단위)
+     * @return 삭제 건수 / 소요 시간 / 남은 행 여부
+     */
+    public Map<String, Object> purge(int retentionHours) {
+        LocalDateTime expiredTime = LocalDateTime.now().minusHours(retentionHours);
+        long start = System.nanoTime();
+        log.info("만료된 채팅 데이터 정리 시작 - 보존 기간: {}시간, 기준 시각: {}", retentionHours, expiredTime);
+
+        int[] messages = purgeInBatches("chat_messages",
+                limit -> chatMessageRepository.deleteExpiredBatch(expiredTime, limit));
+        int[] sessionMessages = purgeInBatches("chat_messages",
+                limit -> chatMessageRepository.deleteBatchOfExpiredSessions(expiredTime, limit));
+        int[] sessions = purgeInBatches("chat_sessions",
+                limit -> chatSessionRepository.deleteExpiredBatch(expiredTime, limit));
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        meterRegistry.timer("chat.retention.run").record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("retentionHours", retentionHours);
+        report.put("messagesDeleted", messages[0] + sessionMessages[0]);
+        report.put("sessionsDeleted", sessions[0]);
+        report.put("elapsedMs", elapsedMs);
+        report.put("complete", messages[1] == 0 && sessionMessages[1] == 0 && sessions[1] == 0);
+        report.put("finishedAt", LocalDateTime.now());
+        lastReport = report;
+
+        log.info("만료된 채팅 데이터 정리 완료 - 메시지: {}건, 세션: {}건, 소요: {}ms, 남은 행 없음: {}",
+                report.get("messagesDeleted"), report.get("sessionsDeleted"), elapsedMs, report.get("complete"));
+        return report;
+    }
+
+    /**
+     * 마지막 정리 결과
+     */
+    public Map<String, Object> getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 배치가 꽉 차지 않을 때까지 (최대 배치 수 한도 안에서) 반복 삭제
+     * @return [삭제 건수, 한도에 걸려 남은 행이 있으면 1]
+     */
+    private int[] purgeInBatches(String table, IntUnaryOperator deleteBatch) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int deleted = deleteBatch.applyAsInt(batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                meterRegistry.counter("chat.retention.deleted", "table", table).increment(total);
+                return new int[] { total, 0 };
+            }
+            try {
+                Thread.sleep(properties.getPauseBetweenBatchesMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        meterRegistry.counter("chat.retention.deleted", "table", table).increment(total);
+        return new int[] { total, 1 };
+    }
+}
@@ -7,6 +7,9 @@ import com.suracle.backend_api.dto.product.ProductResponseDto;
 import com.suracle.backend_api.entity.product.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -89,8 +92,37 @@ public interface ProductService {
      */
     void saveRequirementsAnalysisResult(Product product, Map<String, Object> analysisResult);
 
+    /**
+     * AI 엔진 오류 응답(연결 실패 시 기본값 포함) 여부 - 오류 응답은 저장하지 않음
+     */
+    boolean isEngineErrorResult(Map<String, Object> analysisResult);
+
     /**
      * 분석 결과 저장 (제네릭)
      */
     void saveAnalysisResult(Product product, Map<String, Object> analysisResult);
+
+    /**
+     * 분석 결과 저장 (분석 타입 지정)
+     * @param product 상품 정보
+     * @param analysisType 분석 타입 (detailed_regulations, testing_procedures, penalties, validity ...)
+     * @param analysisResult 분석 결과
+     */
+    void saveAnalysisResult(Product product, String analysisType, Map<String, Object> analysisResult);
+
+    /**
+     * 백그라운드 분석 실행 및 결과 저장 (분석 큐 워커에서 호출)
+     * @param product 상품 정보
+     * @param analysisType 분석 타입 (precedents, requirements, detailed_regulations, testing_procedures, penalties, validity)
+     * @return 결과 저장까지 끝나면 완료되는 Mono (AI 엔진 오류 응답이면 IllegalStateException 에러 신호 - 재시도 대상)
+     */
+    Mono<Void> executeBackgroundAnalysis(Product product, String analysisType);
+
+    /**
+     * 요구사항 일괄 분석 및 결과 저장 (HS코드별 그룹당 AI 엔진 호출 1회, 결과는 그룹 내 모든 상품에 저장)
+     * @param products 분석할 상품 목록
+     * @param forceRefresh true면 AI 엔진 캐시를 무시하고 새로 분석
+     * @return HS코드 그룹별 처리 결과 요약
+     */
+    Mono<List<Map<String, Object>>> executeRequirementsBatchAnalysis(List<Product> products, boolean forceRefresh);
 }
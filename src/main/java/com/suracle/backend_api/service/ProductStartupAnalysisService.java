@@ -1,32 +1,65 @@
 package com.suracle.backend_api.service;
 
+import com.suracle.backend_api.config.AnalysisBackfillProperties;
+import com.suracle.backend_api.entity.cache.AnalysisQueue.QueueStatus;
+import com.suracle.backend_api.entity.cache.BackfillCheckpoint;
+import com.suracle.backend_api.entity.cache.BackfillCheckpoint.CheckpointStatus;
 import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.repository.AnalysisQueueRepository;
+import com.suracle.backend_api.repository.BackfillCheckpointRepository;
 import com.suracle.backend_api.repository.ProductRepository;
 import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
+import com.suracle.backend_api.service.util.ClusterLease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import com.suracle.backend_api.entity.cache.ProductAnalysisCache;
-import com.suracle.backend_api.service.AiWorkflowService;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서버 시작 시 누락된 요구사항 분석 백필
+ * 상품을 keyset 페이지 단위로 훑으며 배치마다 한 번의 쿼리로 캐시 존재 여부를 확인하고,
+ * 누락 상품은 분당 처리량에 맞춰 실행 시각을 분산해 분석 큐에 적재
+ * 진행 위치는 backfill_checkpoints에 저장되어 재시작 시 이어서 진행
+ * 여러 노드가 함께 시작해도 임대(cache_refresh_leases)를 얻은 한 노드만 백필
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductStartupAnalysisService {
 
+    /** 분석 큐 적재 경로 (진행 현황 집계용) */
+    public static final String BACKFILL_SOURCE = "BACKFILL";
+
+    private static final String CHECKPOINT_NAME = "requirements";
+    private static final String ANALYSIS_TYPE = "requirements";
+    private static final String LEASE_KEY = "backfill:requirements";
+
+    /** 기존 상품 백필 작업은 신규 등록 상품보다 낮은 우선순위로 처리 */
+    private static final int BACKFILL_PRIORITY = 1;
+
     private final ProductRepository productRepository;
     private final ProductAnalysisCacheRepository productAnalysisCacheRepository;
-    private final ProductService productService;
-    private final AiWorkflowService aiWorkflowService;
+    private final AnalysisQueueRepository analysisQueueRepository;
+    private final BackfillCheckpointRepository backfillCheckpointRepository;
+    private final AnalysisQueueService analysisQueueService;
+    private final AnalysisBackfillProperties properties;
+    private final ClusterLease clusterLease;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
 
     /**
      * 서버 시작 시 실행되는 메서드
@@ -34,9 +67,14 @@ public class ProductStartupAnalysisService {
      */
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            log.info("⏭️ 요구사항 분석 백필 비활성화됨");
+            return;
+        }
+
         log.info("🚀 애플리케이션 시작 완료 - 기존 상품 분석 상태 확인 시작");
-        
-        // 비동기로 실행하여 서버 시작 속도에 영향 없도록 함
+
+        // 비동기로 실행하여 서버 시작 속도에 영향 없도록 함 (백필 루프 하나만 실행)
         CompletableFuture.runAsync(() -> {
             try {
                 checkAndAnalyzeMissingRequirements();
@@ -47,80 +85,148 @@ public class ProductStartupAnalysisService {
     }
 
     /**
-     * HS코드가 있지만 requirements 분석이 누락된 상품들을 찾아서 분석 실행
+     * HS코드가 있지만 requirements 분석이 누락된 상품들을 찾아서 분석 큐에 적재
+     * 이전 실행이 중간에 끊겼으면 체크포인트부터 이어서 진행
      */
-    @Transactional(readOnly = true)
     protected void checkAndAnalyzeMissingRequirements() {
-        log.info("📋 HS코드가 있지만 requirements 분석이 누락된 상품들 확인 중...");
-        
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ 요구사항 분석 백필이 이미 실행 중");
+            return;
+        }
+
+        Duration leaseTtl = Duration.ofMinutes(properties.getLeaseMinutes());
+        Optional<ClusterLease.Handle> lease;
         try {
-            // 모든 활성 상품 조회 (HS코드가 있는 것만)
-            List<Product> productsWithHsCode = productRepository.findByActiveAndHsCodeNotNull();
-            
-            if (productsWithHsCode == null || productsWithHsCode.isEmpty()) {
-                log.info("✅ HS코드가 있는 상품이 없습니다.");
-                return;
-            }
+            lease = clusterLease.tryAcquire(LEASE_KEY, leaseTtl);
+        } catch (Exception e) {
+            log.error("❌ 요구사항 분석 백필 임대 획득 실패 - 다음 시작 시 재시도", e);
+            running.set(false);
+            return;
+        }
+        if (lease.isEmpty()) {
+            log.info("⏭️ 다른 노드에서 요구사항 분석 백필 실행 중");
+            running.set(false);
+            return;
+        }
 
-            int totalProducts = productsWithHsCode.size();
-            int analyzedCount = 0;
-            int skippedCount = 0;
-            int errorCount = 0;
+        try (ClusterLease.Handle heldLease = lease.get()) {
+            BackfillCheckpoint checkpoint = loadCheckpoint();
+            log.info("📋 요구사항 분석 백필 시작 - 시작 위치(상품 PK): {}", checkpoint.getLastProductId());
+
+            long intervalMillis = 60_000L / Math.max(1, properties.getRatePerMinute());
+            LocalDateTime nextSlot = analysisQueueRepository.findLatestPendingScheduledAt(BACKFILL_SOURCE)
+                    .filter(latest -> latest.isAfter(LocalDateTime.now()))
+                    .map(latest -> latest.plusNanos(intervalMillis * 1_000_000))
+                    .orElse(LocalDateTime.now());
+
+            while (true) {
+                List<Product> batch = productRepository.findBackfillBatchAfter(
+                        checkpoint.getLastProductId(), PageRequest.of(0, properties.getBatchSize()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                if (!heldLease.renew(leaseTtl)) {
+                    log.warn("⚠️ 요구사항 분석 백필 임대 만료 - 다른 노드가 체크포인트부터 이어서 진행");
+                    return;
+                }
 
-            for (Product product : productsWithHsCode) {
-                try {
-                    if (hasRequirementsAnalysisCache(product)) {
-                        log.debug("⏭️ 요구사항 분석 캐시 존재 - 상품 ID: {}", product.getProductId());
-                        skippedCount++;
+                List<Integer> productIds = batch.stream().map(Product::getId).toList();
+                Set<Integer> covered = new HashSet<>(
+                        productAnalysisCacheRepository.findProductIdsWithAnalysis(productIds, ANALYSIS_TYPE));
+                covered.addAll(analysisQueueRepository.findProductIdsWithStatusIn(
+                        productIds, AnalysisQueueService.ACTIVE_STATUSES));
+
+                for (Product product : batch) {
+                    if (covered.contains(product.getId())) {
+                        checkpoint.setSkippedCount(checkpoint.getSkippedCount() + 1);
                         continue;
                     }
 
-                    log.info("🔍 요구사항 분석 필요한 상품 발견 - 상품 ID: {}, HS코드: {}", 
-                            product.getProductId(), product.getHsCode());
-                    
-                    // 백그라운드에서 requirements 분석 실행
-                    CompletableFuture.runAsync(() -> executeRequirementsAnalysis(product));
-                    analyzedCount++;
-
-                } catch (Exception e) {
-                    log.error("❌ 상품 ID {} 분석 중 오류: {}", product.getProductId(), e.getMessage(), e);
-                    errorCount++;
+                    try {
+                        // 분당 처리량에 맞춰 실행 예정 시각을 분산 (워커가 그 시각 이후에 가져감)
+                        if (analysisQueueService.enqueue(product, List.of(ANALYSIS_TYPE), BACKFILL_PRIORITY,
+                                nextSlot, BACKFILL_SOURCE).isPresent()) {
+                            checkpoint.setEnqueuedCount(checkpoint.getEnqueuedCount() + 1);
+                            nextSlot = nextSlot.plusNanos(intervalMillis * 1_000_000);
+                        } else {
+                            checkpoint.setSkippedCount(checkpoint.getSkippedCount() + 1);
+                        }
+                    } catch (Exception e) {
+                        log.error("❌ 상품 ID {} 분석 적재 중 오류: {}", product.getProductId(), e.getMessage(), e);
+                    }
                 }
+
+                checkpoint.setScannedCount(checkpoint.getScannedCount() + batch.size());
+                checkpoint.setLastProductId(batch.get(batch.size() - 1).getId());
+                checkpoint = backfillCheckpointRepository.save(checkpoint);
+
+                log.info("📦 백필 배치 완료 - 마지막 상품 PK: {}, 확인: {}, 적재: {}, 스킵: {}",
+                        checkpoint.getLastProductId(), checkpoint.getScannedCount(),
+                        checkpoint.getEnqueuedCount(), checkpoint.getSkippedCount());
             }
 
-            log.info("📊 상품 분석 상태 확인 완료 - 총상품: {}, 분석완료: {}, 스킵: {}, 오류: {}", 
-                    totalProducts, analyzedCount, skippedCount, errorCount);
+            checkpoint.setStatus(CheckpointStatus.COMPLETED);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            backfillCheckpointRepository.save(checkpoint);
+
+            log.info("📊 상품 분석 상태 확인 완료 - 총상품: {}, 분석요청: {}, 스킵: {}, 마지막 실행 예정: {}",
+                    checkpoint.getScannedCount(), checkpoint.getEnqueuedCount(), checkpoint.getSkippedCount(), nextSlot);
 
         } catch (Exception e) {
-            log.error("❌ 상품 분석 상태 확인 실패", e);
+            log.error("❌ 상품 분석 상태 확인 실패 (다음 시작 시 체크포인트부터 재개)", e);
+        } finally {
+            running.set(false);
         }
     }
 
     /**
-     * 상품에 requirements 분석 캐시가 있는지 확인
+     * 백필 진행 현황
+     * 체크포인트 위치와 백필로 적재된 큐 작업의 상태별 건수
      */
-    private boolean hasRequirementsAnalysisCache(Product product) {
-        return productAnalysisCacheRepository.findByProductIdAndAnalysisType(product.getId(), "requirements").isPresent();
+    public Map<String, Object> getBackfillStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+
+        backfillCheckpointRepository.findById(CHECKPOINT_NAME).ifPresent(checkpoint -> {
+            status.put("checkpointStatus", checkpoint.getStatus());
+            status.put("lastProductId", checkpoint.getLastProductId());
+            status.put("scanned", checkpoint.getScannedCount());
+            status.put("enqueued", checkpoint.getEnqueuedCount());
+            status.put("skipped", checkpoint.getSkippedCount());
+            status.put("startedAt", checkpoint.getStartedAt());
+            status.put("completedAt", checkpoint.getCompletedAt());
+        });
+
+        Map<QueueStatus, Long> counts = new HashMap<>();
+        for (Object[] row : analysisQueueRepository.countByStatusForSource(BACKFILL_SOURCE)) {
+            counts.put((QueueStatus) row[0], (Long) row[1]);
+        }
+        status.put("queued", counts.getOrDefault(QueueStatus.PENDING, 0L) + counts.getOrDefault(QueueStatus.PROCESSING, 0L));
+        status.put("done", counts.getOrDefault(QueueStatus.COMPLETED, 0L));
+        status.put("failed", counts.getOrDefault(QueueStatus.FAILED, 0L));
+        return status;
     }
 
     /**
-     * requirements 분석 실행
+     * 체크포인트 로드
+     * 이전 실행이 끝까지 갔으면 처음부터 새로 훑고, 중간에 끊겼으면 그 위치부터 재개
      */
-    private void executeRequirementsAnalysis(Product product) {
-        try {
-            log.info("🔬 요구사항 분석 실행 시작 - 상품 ID: {}, HS코드: {}", 
-                    product.getProductId(), product.getHsCode());
-
-            // AI 요구사항 분석 실행
-            Map<String, Object> analysisResult = aiWorkflowService.executeRequirementsAnalysis(product);
-
-            // 결과 저장 (요구사항 분석 전용 메서드 사용)
-            productService.saveRequirementsAnalysisResult(product, analysisResult);
-
-            log.info("✅ 요구사항 분석 완료 및 저장 - 상품 ID: {}", product.getProductId());
-
-        } catch (Exception e) {
-            log.error("❌ 상품 ID {} 요구사항 분석 실패: {}", product.getProductId(), e.getMessage(), e);
+    private BackfillCheckpoint loadCheckpoint() {
+        BackfillCheckpoint checkpoint = backfillCheckpointRepository.findById(CHECKPOINT_NAME).orElse(null);
+        if (checkpoint != null && checkpoint.getStatus() == CheckpointStatus.RUNNING) {
+            log.info("🔁 중단된 백필 재개 - 마지막 상품 PK: {}", checkpoint.getLastProductId());
+            return checkpoint;
         }
+
+        BackfillCheckpoint fresh = BackfillCheckpoint.builder()
+                .name(CHECKPOINT_NAME)
+                .lastProductId(0)
+                .status(CheckpointStatus.RUNNING)
+                .scannedCount(0L)
+                .enqueuedCount(0L)
+                .skippedCount(0L)
+                .startedAt(LocalDateTime.now())
+                .build();
+        return backfillCheckpointRepository.save(fresh);
     }
 }
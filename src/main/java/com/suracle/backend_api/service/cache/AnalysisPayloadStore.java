@@ -0,0 +1,76 @@
+package com.suracle.backend_api.service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.suracle.backend_api.entity.cache.AnalysisPayload;
+import com.suracle.backend_api.entity.cache.ProductAnalysisCache;
+import com.suracle.backend_api.repository.AnalysisPayloadRepository;
+import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
+import com.suracle.backend_api.service.util.ContentHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 분석 결과 본문 저장소 (content-addressed)
+ * 본문은 SHA-256(분석 타입 + 키 정렬 JSON)으로 한 번만 저장하고 상품별 행은 해시로 참조
+ * → 저장 공간과 쓰기량이 상품 수가 아니라 서로 다른 결과 수에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisPayloadStore {
+
+    /** 저장/재사용 직후 아직 상품 행에 연결되지 않은 본문을 지우지 않기 위한 유예 시간 (updated_at 기준) */
+    private static final long ORPHAN_GRACE_HOURS = 1;
+
+    private final AnalysisPayloadRepository payloadRepository;
+    private final ProductAnalysisCacheRepository analysisCacheRepository;
+
+    /**
+     * 분석 결과를 공유 본문으로 저장하고 상품 행에 연결
+     */
+    public void attach(ProductAnalysisCache cache, String hsCode, JsonNode result) {
+        cache.attachPayload(intern(cache.getAnalysisType(), hsCode, result));
+    }
+
+    /**
+     * 같은 내용의 본문이 있으면 그대로 사용(updated_at 갱신), 없으면 새로 저장
+     */
+    public AnalysisPayload intern(String analysisType, String hsCode, JsonNode result) {
+        String canonical = ContentHash.canonicalJson(result);
+        String hash = ContentHash.sha256Hex(analysisType, canonical);
+        long sizeBytes = canonical.getBytes(StandardCharsets.UTF_8).length;
+
+        payloadRepository.upsert(hash, analysisType, hsCode, canonical, sizeBytes);
+        log.debug("분석 결과 본문 저장 - 타입: {}, 해시: {}, 크기: {}B", analysisType, hash, sizeBytes);
+        return payloadRepository.getReferenceById(hash);
+    }
+
+    /**
+     * 어떤 상품도 참조하지 않는 본문 일부 정리 (분석 결과가 갱신되면 이전 본문이 남음, CacheReaper가 배치로 호출)
+     */
+    public int deleteUnreferenced(int limit) {
+        return payloadRepository.deleteUnreferencedBatch(LocalDateTime.now().minusHours(ORPHAN_GRACE_HOURS), limit);
+    }
+
+    /**
+     * 본문 수 / 크기와 참조 현황
+     */
+    public Map<String, Object> stats() {
+        long payloads = payloadRepository.count();
+        long references = analysisCacheRepository.countByPayloadIsNotNull();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("payloads", payloads);
+        stats.put("payloadBytes", payloadRepository.sumSizeBytes());
+        stats.put("references", references);
+        stats.put("inlineRows", analysisCacheRepository.countByPayloadIsNull());
+        stats.put("dedupRatio", payloads == 0 ? 0.0 : (double) references / payloads);
+        return stats;
+    }
+}
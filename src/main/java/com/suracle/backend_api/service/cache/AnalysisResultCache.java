@@ -0,0 +1,193 @@
+package com.suracle.backend_api.service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.suracle.backend_api.config.AnalysisResultCacheProperties;
+import com.suracle.backend_api.entity.cache.ProductAnalysisCache;
+import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 분석 결과 2단 캐시
+ * 1차: 파싱된 결과를 보관하는 메모리 캐시 (추정 크기 기준 상한 + TTL, LRU에 가까운 빈도 기반 축출)
+ * 2차: product_analysis_cache 테이블 (영구 저장소)
+ * 저장/삭제 경로에서는 evict를 호출해야 하며, 트랜잭션 안이면 커밋/롤백 후 한 번 더 비움
+ */
+@Slf4j
+@Component
+public class AnalysisResultCache {
+
+    /** 파싱된 Map은 JSON 텍스트보다 크므로 문자 수에 곱해 메모리 사용량을 추정 */
+    private static final int BYTES_PER_JSON_CHAR = 4;
+
+    private final ProductAnalysisCacheRepository repository;
+    private final ObjectMapper objectMapper;
+    private final AnalysisResultCacheProperties properties;
+    private final CacheMetrics cacheMetrics;
+    private final Cache<Key, CachedAnalysis> cache;
+
+    public AnalysisResultCache(ProductAnalysisCacheRepository repository,
+                               ObjectMapper objectMapper,
+                               AnalysisResultCacheProperties properties,
+                               CacheMetrics cacheMetrics,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.cacheMetrics = cacheMetrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSizeMb() * 1024 * 1024)
+                .weigher((Key key, CachedAnalysis value) -> value.estimatedBytes())
+                .expireAfterWrite(Duration.ofMinutes(properties.getTtlMinutes()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CacheMetrics.ANALYSIS_RESULT_MEMORY);
+        Gauge.builder("analysis.result.cache.memory", this, AnalysisResultCache::estimatedBytes)
+                .baseUnit("bytes")
+                .description("분석 결과 캐시 추정 메모리 사용량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 분석 결과
+     * @param result 파싱된 분석 결과 (읽기 전용)
+     */
+    public record CachedAnalysis(Map<String, Object> result,
+                                 BigDecimal confidenceScore,
+                                 Boolean isValid,
+                                 LocalDateTime updatedAt,
+                                 int estimatedBytes) {
+    }
+
+    private record Key(Integer productPk, String analysisType) {
+    }
+
+    /**
+     * 분석 결과 조회 (메모리 → DB 순, DB에도 없으면 empty이며 없음은 캐시하지 않음)
+     * @param productPk 상품 PK (products.id)
+     */
+    public Optional<CachedAnalysis> get(Integer productPk, String analysisType) {
+        if (!properties.isEnabled()) {
+            return load(productPk, analysisType);
+        }
+        return Optional.ofNullable(cache.get(new Key(productPk, analysisType),
+                key -> load(key.productPk(), key.analysisType()).orElse(null)));
+    }
+
+    /**
+     * 분석 결과 변경 시 캐시 무효화
+     * 즉시 비우고, 진행 중인 트랜잭션이 있으면 종료 후 다시 비워 커밋 전 값이 다시 적재되지 않도록 함
+     */
+    public void evict(Integer productPk, String analysisType) {
+        Key key = new Key(productPk, analysisType);
+        if (cache.asMap().remove(key) != null) {
+            cacheMetrics.removed(CacheMetrics.ANALYSIS_RESULT_MEMORY, "invalidated", 1);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+        log.info("분석 결과 캐시 전체 비움");
+    }
+
+    /**
+     * 적중률 / 메모리 사용량
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", properties.isEnabled());
+        snapshot.put("entries", cache.estimatedSize());
+        snapshot.put("hitCount", stats.hitCount());
+        snapshot.put("missCount", stats.missCount());
+        snapshot.put("hitRatio", stats.hitRate());
+        snapshot.put("evictionCount", stats.evictionCount());
+        snapshot.put("averageLoadMs", stats.averageLoadPenalty() / 1_000_000.0);
+        snapshot.put("estimatedBytes", estimatedBytes());
+        snapshot.put("maxBytes", properties.getMaxSizeMb() * 1024 * 1024);
+        return snapshot;
+    }
+
+    private long estimatedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * DB 조회 (메모리 캐시 미스 시, 조회/파싱 시간과 행 존재 여부를 지표로 기록)
+     */
+    private Optional<CachedAnalysis> load(Integer productPk, String analysisType) {
+        Optional<CachedAnalysis> loaded = cacheMetrics.timeLoad(CacheMetrics.PRODUCT_ANALYSIS,
+                () -> loadFromDatabase(productPk, analysisType));
+        cacheMetrics.lookup(CacheMetrics.PRODUCT_ANALYSIS,
+                loaded.isPresent() ? CacheMetrics.Lookup.HIT : CacheMetrics.Lookup.MISS);
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<CachedAnalysis> loadFromDatabase(Integer productPk, String analysisType) {
+        Optional<ProductAnalysisCache> row = repository.findByProductIdAndAnalysisType(productPk, analysisType);
+        if (row.isEmpty() || row.get().getAnalysisResult() == null) {
+            return Optional.empty();
+        }
+
+        ProductAnalysisCache entity = row.get();
+        JsonNode json = entity.getAnalysisResult();
+        Map<String, Object> result = (Map<String, Object>) freeze(objectMapper.convertValue(json, Map.class));
+        long bytes = (long) json.toString().length() * BYTES_PER_JSON_CHAR;
+
+        return Optional.of(new CachedAnalysis(
+                result,
+                entity.getConfidenceScore(),
+                entity.getIsValid(),
+                entity.getUpdatedAt(),
+                (int) Math.min(Integer.MAX_VALUE, bytes)));
+    }
+
+    /**
+     * 호출자 간에 공유되므로 중첩 Map/List까지 읽기 전용으로 감쌈
+     */
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(k, freeze(v)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(freeze(item)));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
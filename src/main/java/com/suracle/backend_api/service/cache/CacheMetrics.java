@@ -0,0 +1,147 @@
+package com.suracle.backend_api.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 계층 공통 지표
+ * cache.lookups{cache, result=hit|miss|stale|negative}: 조회 결과
+ *   (stale = 만료 후 유예 기간 내 값을 응답, negative = "결과 없음/실패"로 캐시된 항목으로 원본 호출 생략)
+ * cache.load.time{cache}: 캐시 미스 시 원본(AI 엔진, 정부 API, DB)에서 값을 가져오는 데 걸린 시간
+ * cache.removals{cache, reason}: 만료 정리 / 무효화로 제거된 항목 수
+ * (메모리 캐시의 크기 기반 축출은 Caffeine 지표 cache.evictions{cache=analysis-result})
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    public static final String PRODUCT_ANALYSIS = "product_analysis_cache";
+    public static final String PRODUCT_ANALYSIS_REUSE = "product_analysis_cache.reuse";
+    public static final String SEARCH_RESULT = "search_result_cache";
+    public static final String LLM_SUMMARY = "llm_summary_cache";
+    public static final String REQUIREMENTS_ANALYSIS = "requirements_analysis_cache";
+    public static final String HS_CODE_AGENCY_MAPPING = "hs_code_agency_mappings";
+    public static final String ANALYSIS_PAYLOAD = "analysis_payloads";
+    public static final String ANALYSIS_RESULT_MEMORY = "analysis-result";
+    public static final String REFRESH_LEASE = "cache_refresh_leases";
+    public static final String KEYWORD_EXTRACTION = "requirements-keywords";
+
+    private static final String LOOKUPS = "cache.lookups";
+    private static final String LOAD_TIME = "cache.load.time";
+    private static final String REMOVALS = "cache.removals";
+
+    public enum Lookup {
+        HIT, MISS, STALE, NEGATIVE;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    public void lookup(String cache, Lookup result) {
+        meterRegistry.counter(LOOKUPS, "cache", cache, "result", result.tag()).increment();
+    }
+
+    public void recordLoad(String cache, long elapsedNanos) {
+        loadTimer(cache).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 원본 조회 시간 측정 (예외가 나도 기록)
+     */
+    public <T> T timeLoad(String cache, Supplier<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            recordLoad(cache, System.nanoTime() - start);
+        }
+    }
+
+    public void removed(String cache, String reason, long count) {
+        if (count > 0) {
+            meterRegistry.counter(REMOVALS, "cache", cache, "reason", reason).increment(count);
+        }
+    }
+
+    /**
+     * 캐시별 요약 (프로세스 시작 이후 누적)
+     */
+    public Map<String, Map<String, Object>> summary() {
+        Map<String, Map<String, Object>> caches = new TreeMap<>();
+
+        for (Counter counter : meterRegistry.find(LOOKUPS).counters()) {
+            Map<String, Object> entry = caches.computeIfAbsent(cacheTag(counter), name -> newEntry());
+            String key = switch (counter.getId().getTag("result")) {
+                case "hit" -> "hits";
+                case "stale" -> "staleHits";
+                case "negative" -> "negativeHits";
+                default -> "misses";
+            };
+            entry.merge(key, (long) counter.count(), (a, b) -> (Long) a + (Long) b);
+        }
+
+        for (Timer timer : meterRegistry.find(LOAD_TIME).timers()) {
+            Map<String, Object> entry = caches.computeIfAbsent(cacheTag(timer), name -> newEntry());
+            entry.put("loads", timer.count());
+            entry.put("loadMeanMs", round(timer.mean(TimeUnit.MILLISECONDS)));
+            entry.put("loadMaxMs", round(timer.max(TimeUnit.MILLISECONDS)));
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                entry.put("loadP" + Math.round(percentile.percentile() * 100) + "Ms",
+                        round(percentile.value(TimeUnit.MILLISECONDS)));
+            }
+        }
+
+        for (Counter counter : meterRegistry.find(REMOVALS).counters()) {
+            Map<String, Object> entry = caches.computeIfAbsent(cacheTag(counter), name -> newEntry());
+            @SuppressWarnings("unchecked")
+            Map<String, Long> removals = (Map<String, Long>) entry.computeIfAbsent("removals", key -> new TreeMap<>());
+            removals.merge(counter.getId().getTag("reason"), (long) counter.count(), Long::sum);
+        }
+
+        caches.values().forEach(entry -> {
+            long hits = (Long) entry.get("hits") + (Long) entry.get("staleHits") + (Long) entry.get("negativeHits");
+            long total = hits + (Long) entry.get("misses");
+            entry.put("hitRatio", total == 0 ? null : round((double) hits / total));
+        });
+        return caches;
+    }
+
+    private Timer loadTimer(String cache) {
+        return Timer.builder(LOAD_TIME)
+                .tag("cache", cache)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static Map<String, Object> newEntry() {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("hits", 0L);
+        entry.put("staleHits", 0L);
+        entry.put("negativeHits", 0L);
+        entry.put("misses", 0L);
+        return entry;
+    }
+
+    private static String cacheTag(Meter meter) {
+        return meter.getId().getTag("cache");
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,165 @@
+package com.suracle.backend_api.service.cache;
+
+import com.suracle.backend_api.config.CacheReaperProperties;
+import com.suracle.backend_api.repository.CacheRefreshLeaseRepository;
+import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
+import com.suracle.backend_api.repository.requirements.LlmSummaryCacheRepository;
+import com.suracle.backend_api.repository.requirements.RequirementsAnalysisCacheRepository;
+import com.suracle.backend_api.repository.requirements.SearchResultCacheRepository;
+import com.suracle.backend_api.service.util.PgAdvisoryLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 만료 캐시 정리
+ * 테이블마다 만료 순으로 작은 배치를 반복 삭제하고, 실행당 배치 수를 제한해 남은 행은 다음 실행으로 넘김
+ * 여러 노드 중 advisory lock을 얻은 한 곳에서만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheReaper {
+
+    private static final long LOCK_KEY = PgAdvisoryLock.keyOf("cache-reaper", "all");
+
+    private final SearchResultCacheRepository searchResultCacheRepository;
+    private final LlmSummaryCacheRepository llmSummaryCacheRepository;
+    private final RequirementsAnalysisCacheRepository requirementsAnalysisCacheRepository;
+    private final ProductAnalysisCacheRepository productAnalysisCacheRepository;
+    private final CacheRefreshLeaseRepository cacheRefreshLeaseRepository;
+    private final AnalysisPayloadStore payloadStore;
+    private final AnalysisResultCache analysisResultCache;
+    private final CacheReaperProperties properties;
+    private final PgAdvisoryLock advisoryLock;
+    private final MeterRegistry meterRegistry;
+    private final CacheMetrics cacheMetrics;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 마지막 실행 결과 (테이블 → 삭제 건수) */
+    private volatile Map<String, Integer> lastRun = Map.of();
+    private volatile LocalDateTime lastRunAt;
+
+    @Scheduled(cron = "${analysis.reaper.cron:0 */10 * * * *}")
+    public void reap() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Optional<PgAdvisoryLock.Handle> lock = advisoryLock.tryLock(LOCK_KEY);
+            if (lock.isEmpty()) {
+                log.debug("⏭️ 다른 노드에서 캐시 정리 진행 중");
+                return;
+            }
+            try (PgAdvisoryLock.Handle ignored = lock.get()) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                Map<String, Integer> deleted = reapAll();
+                sample.stop(meterRegistry.timer("cache.reaper.run"));
+
+                lastRun = deleted;
+                lastRunAt = LocalDateTime.now();
+                if (deleted.values().stream().anyMatch(count -> count > 0)) {
+                    log.info("🧹 만료 캐시 정리 완료 - {}", deleted);
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 만료 캐시 정리 중 오류", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Integer> reapAll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime requirementsCutoff = now.minusHours(properties.getRequirementsGraceHours());
+        LocalDateTime invalidCutoff = now.minusDays(properties.getInvalidAnalysisRetentionDays());
+
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        deleted.put(CacheMetrics.SEARCH_RESULT, reapTable(CacheMetrics.SEARCH_RESULT, "expired",
+                limit -> searchResultCacheRepository.deleteExpiredBatch(now, limit)));
+        deleted.put(CacheMetrics.LLM_SUMMARY, reapTable(CacheMetrics.LLM_SUMMARY, "expired",
+                limit -> llmSummaryCacheRepository.deleteExpiredBatch(now, limit)));
+        deleted.put(CacheMetrics.REQUIREMENTS_ANALYSIS, reapTable(CacheMetrics.REQUIREMENTS_ANALYSIS, "expired",
+                limit -> requirementsAnalysisCacheRepository.deleteExpiredBatch(requirementsCutoff, limit)));
+        deleted.put(CacheMetrics.PRODUCT_ANALYSIS, reapTable(CacheMetrics.PRODUCT_ANALYSIS, "invalid",
+                limit -> deleteInvalidAnalyses(invalidCutoff, limit)));
+        // 무효 분석 행을 지우면 참조가 끊긴 본문이 생기므로 마지막에 정리
+        deleted.put(CacheMetrics.ANALYSIS_PAYLOAD, reapTable(CacheMetrics.ANALYSIS_PAYLOAD, "unreferenced",
+                payloadStore::deleteUnreferenced));
+        // 반납되지 못한 갱신 임대 (행 수가 적어 한 번에 삭제)
+        deleted.put(CacheMetrics.REFRESH_LEASE, reapTable(CacheMetrics.REFRESH_LEASE, "expired",
+                limit -> cacheRefreshLeaseRepository.deleteExpired(now)));
+        return deleted;
+    }
+
+    /**
+     * 한 테이블 정리 (배치가 꽉 차지 않으면 남은 행이 없는 것으로 보고 종료)
+     */
+    private int reapTable(String table, String reason, IntUnaryOperator deleteBatch) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int total = 0;
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerTable(); batch++) {
+                int deleted = deleteBatch.applyAsInt(batchSize);
+                total += deleted;
+                meterRegistry.counter("cache.reaper.batches", "table", table).increment();
+                if (deleted < batchSize) {
+                    break;
+                }
+                Thread.sleep(properties.getPauseBetweenBatchesMs());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("⚠️ {} 정리 실패 - 다음 실행에서 재시도, 오류: {}", table, e.getMessage());
+        }
+        cacheMetrics.removed(table, reason, total);
+        return total;
+    }
+
+    /**
+     * 오래된 무효 분석 행 삭제 후 메모리 캐시에서도 제거
+     */
+    private int deleteInvalidAnalyses(LocalDateTime before, int limit) {
+        List<Object[]> rows = productAnalysisCacheRepository.findInvalidBefore(before, PageRequest.of(0, limit));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add((Integer) row[0]);
+        }
+        // 조회 후 다시 유효한 결과로 갱신된 행은 삭제되지 않음
+        int deleted = productAnalysisCacheRepository.deleteInvalidByIds(ids);
+        for (Object[] row : rows) {
+            analysisResultCache.evict((Integer) row[1], (String) row[2]);
+        }
+        return deleted;
+    }
+
+    /**
+     * 마지막 실행 결과
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("lastRunAt", lastRunAt);
+        status.put("lastRunDeleted", lastRun);
+        return status;
+    }
+}
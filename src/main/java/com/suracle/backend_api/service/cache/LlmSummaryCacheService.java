@@ -0,0 +1,127 @@
+package com.suracle.backend_api.service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suracle.backend_api.config.LlmSummaryCacheProperties;
+import com.suracle.backend_api.entity.requirements.LlmSummaryCache;
+import com.suracle.backend_api.repository.requirements.LlmSummaryCacheRepository;
+import com.suracle.backend_api.service.util.ContentHash;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * LLM 요약 캐시 (llm_summary_cache)
+ * 요건 수집 시 모은 정부 문서의 정규화 해시를 키로, 같은 문서에 대한 요약을 재사용
+ * AI 엔진은 수집 응답의 cached_llm_summary가 있으면 LLM을 호출하지 않고, 새 요약은 토큰/비용과 함께 다시 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmSummaryCacheService {
+
+    private final LlmSummaryCacheRepository repository;
+    private final LlmSummaryCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CacheMetrics cacheMetrics;
+
+    /**
+     * 수집 문서 해시 (기관별 원본 응답의 내용 해시를 이름순으로 묶어 해시)
+     * 기관별 해시는 정부 API 캐시 저장 시 meta를 제외하고 계산해 둔 값이라 여기서는 원본을 다시 읽지 않음
+     */
+    public String documentsHash(Map<String, String> sourceHashes) {
+        StringBuilder joined = new StringBuilder();
+        new TreeMap<>(sourceHashes).forEach((source, hash) ->
+                joined.append(source).append('=').append(hash).append('\n'));
+        return ContentHash.sha256Hex(joined.toString());
+    }
+
+    /**
+     * 유효한 요약 조회
+     */
+    public Optional<JsonNode> findValid(String hsCode, String productName, String documentsHash) {
+        if (!properties.isEnabled() || isBlank(hsCode) || isBlank(productName)) {
+            return Optional.empty();
+        }
+
+        Optional<LlmSummaryCache> cached = repository.findValidByHsCodeAndProductAndHash(
+                hsCode.trim(), productName.trim(), documentsHash, LocalDateTime.now());
+        if (cached.isEmpty()) {
+            cacheMetrics.lookup(CacheMetrics.LLM_SUMMARY, CacheMetrics.Lookup.MISS);
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode summary = objectMapper.readTree(cached.get().getSummaryResult());
+            cacheMetrics.lookup(CacheMetrics.LLM_SUMMARY, CacheMetrics.Lookup.HIT);
+            if (cached.get().getCost() != null) {
+                meterRegistry.counter("llm.summary.cache.saved.cost").increment(cached.get().getCost().doubleValue());
+            }
+            log.info("♻️ LLM 요약 캐시 적중 - HS코드: {}, 상품명: {}, 모델: {}", hsCode, productName, cached.get().getModelUsed());
+            return Optional.of(summary);
+        } catch (Exception e) {
+            log.warn("⚠️ LLM 요약 캐시 파싱 실패 - HS코드: {}, 오류: {}", hsCode, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요약 저장 (같은 키가 있으면 갱신)
+     */
+    public void save(String hsCode, String productName, String documentsHash, JsonNode summary,
+                     String modelUsed, Integer tokensUsed, BigDecimal cost) {
+        if (!properties.isEnabled() || isBlank(hsCode) || isBlank(productName) || summary == null) {
+            return;
+        }
+        try {
+            repository.upsert(hsCode.trim(), productName.trim(), documentsHash, objectMapper.writeValueAsString(summary),
+                    isBlank(modelUsed) ? "unknown" : modelUsed, tokensUsed, cost,
+                    LocalDateTime.now().plusDays(properties.getTtlDays()));
+            log.info("💾 LLM 요약 캐시 저장 - HS코드: {}, 상품명: {}, 토큰: {}, 비용: {}", hsCode, productName, tokensUsed, cost);
+        } catch (Exception e) {
+            log.warn("⚠️ LLM 요약 캐시 저장 실패 - HS코드: {}, 오류: {}", hsCode, e.getMessage());
+        }
+    }
+
+    /**
+     * 요구사항 분석 결과에서 새 요약을 저장
+     * (AI 엔진이 수집 응답의 raw_documents_hash를 결과에 넣어 돌려준 경우, 캐시에서 온 요약은 제외)
+     */
+    @SuppressWarnings("unchecked")
+    public void captureFromAnalysis(String hsCode, String productName, Map<String, Object> result) {
+        if (result == null || Boolean.TRUE.equals(result.get("llm_summary_cached"))) {
+            return;
+        }
+        Object hash = result.get("raw_documents_hash");
+        Object summary = result.get("llm_summary");
+        if (!(hash instanceof String documentsHash) || !(summary instanceof Map<?, ?> summaryMap)) {
+            return;
+        }
+
+        Map<String, Object> llmSummary = (Map<String, Object>) summaryMap;
+        save(hsCode, productName, documentsHash, objectMapper.valueToTree(llmSummary),
+                (String) llmSummary.get("model_used"),
+                toInteger(llmSummary.getOrDefault("tokens_used", llmSummary.get("total_tokens"))),
+                toBigDecimal(llmSummary.get("cost")));
+    }
+
+    private static Integer toInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof Number number ? new BigDecimal(number.toString()) : null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,122 @@
+package com.suracle.backend_api.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suracle.backend_api.config.RequirementsAnalysisCacheProperties;
+import com.suracle.backend_api.entity.requirements.RequirementsAnalysisCache;
+import com.suracle.backend_api.repository.requirements.RequirementsAnalysisCacheRepository;
+import com.suracle.backend_api.service.AiWorkflowService;
+import com.suracle.backend_api.service.util.ContentHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요구사항 분석 결과 캐시 (requirements_analysis_cache)
+ * (HS코드, 정규화한 상품명) 단위로 AI 엔진 분석 결과를 보관
+ * 사용자 요청은 유효한 항목을 그대로 쓰고, 인기 HS코드 항목은 RequirementsCacheWarmer가 만료 전에 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequirementsAnalysisCacheService {
+
+    private final RequirementsAnalysisCacheRepository repository;
+    private final RequirementsAnalysisCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final CacheMetrics cacheMetrics;
+
+    /**
+     * 캐시 키 (single-flight 키와 같은 정규화 후 해시 - 같은 요청으로 합쳐지는 상품은 같은 항목을 공유)
+     */
+    public static String cacheKey(String hsCode, String productName) {
+        return ContentHash.sha256Hex(AiWorkflowService.requirementsFlightKey(hsCode, productName));
+    }
+
+    /**
+     * 유효한 분석 결과 조회
+     */
+    public Optional<Map<String, Object>> findValid(String hsCode, String productName) {
+        if (!properties.isEnabled() || isBlank(hsCode) || isBlank(productName)) {
+            return Optional.empty();
+        }
+
+        Optional<RequirementsAnalysisCache> cached = repository.findValid(
+                cacheKey(hsCode, productName), properties.getVersion(), LocalDateTime.now());
+        if (cached.isEmpty()) {
+            cacheMetrics.lookup(CacheMetrics.REQUIREMENTS_ANALYSIS, CacheMetrics.Lookup.MISS);
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, Object> result = objectMapper.readValue(cached.get().getAnalysisResult(),
+                    new TypeReference<Map<String, Object>>() {});
+            cacheMetrics.lookup(CacheMetrics.REQUIREMENTS_ANALYSIS, CacheMetrics.Lookup.HIT);
+            log.info("♻️ 요구사항 분석 캐시 적중 - HS코드: {}, 상품명: {}, 만료: {}",
+                    hsCode, productName, cached.get().getExpiresAt());
+            return Optional.of(result);
+        } catch (Exception e) {
+            log.warn("⚠️ 요구사항 분석 캐시 파싱 실패 - HS코드: {}, 오류: {}", hsCode, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 분석 결과 저장 (같은 키가 있으면 갱신, AI 엔진 오류 결과는 저장하지 않음)
+     */
+    public void store(String hsCode, String productName, Map<String, Object> result) {
+        if (!properties.isEnabled() || isBlank(hsCode) || isBlank(productName) || result == null
+                || isErrorResult(result)) {
+            return;
+        }
+        try {
+            repository.upsert(hsCode.trim(), productName.trim(), objectMapper.writeValueAsString(result),
+                    cacheKey(hsCode, productName), properties.getVersion(),
+                    LocalDateTime.now().plusHours(properties.getTtlHours()));
+            log.debug("💾 요구사항 분석 캐시 저장 - HS코드: {}, 상품명: {}", hsCode, productName);
+        } catch (Exception e) {
+            log.warn("⚠️ 요구사항 분석 캐시 저장 실패 - HS코드: {}, 오류: {}", hsCode, e.getMessage());
+        }
+    }
+
+    /**
+     * 갱신 대상 (주어진 HS코드들 중 refreshBefore 이전에 만료되거나 버전이 다른 항목, 만료 임박 순)
+     */
+    public List<RequirementsAnalysisCache> findRefreshCandidates(Collection<String> hsCodes, LocalDateTime refreshBefore) {
+        if (hsCodes.isEmpty()) {
+            return List.of();
+        }
+        return repository.findRefreshCandidates(hsCodes, refreshBefore, properties.getVersion());
+    }
+
+    /**
+     * 캐시 항목이 하나라도 있는 HS코드
+     */
+    public List<String> findCachedHsCodes(Collection<String> hsCodes) {
+        if (hsCodes.isEmpty()) {
+            return List.of();
+        }
+        return repository.findCachedHsCodes(hsCodes);
+    }
+
+    /**
+     * AI 엔진 오류 응답(연결 실패 시 기본값 포함) 여부
+     */
+    static boolean isErrorResult(Map<String, Object> result) {
+        if (Boolean.TRUE.equals(result.get("error"))) {
+            return true;
+        }
+        Object metadata = result.get("metadata");
+        return metadata instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) metadata).get("error"));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
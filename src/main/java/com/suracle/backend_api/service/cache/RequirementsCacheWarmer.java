@@ -0,0 +1,258 @@
+package com.suracle.backend_api.service.cache;
+
+import com.suracle.backend_api.config.RequirementsAnalysisCacheProperties;
+import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.entity.requirements.HsCodeAgencyMapping;
+import com.suracle.backend_api.entity.requirements.RequirementsAnalysisCache;
+import com.suracle.backend_api.repository.ProductRepository;
+import com.suracle.backend_api.repository.requirements.HsCodeAgencyMappingRepository;
+import com.suracle.backend_api.service.AiWorkflowService;
+import com.suracle.backend_api.service.resilience.AiEngineCircuitBreakers;
+import com.suracle.backend_api.service.resilience.CircuitBreaker;
+import com.suracle.backend_api.service.util.ClusterLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 HS코드 요구사항 분석 캐시 워머
+ * 사용 빈도 상위 / 최근 사용 HS코드의 requirements_analysis_cache 항목을 만료 전에 미리 갱신해
+ * 만료 직후 첫 사용자가 수 분짜리 분석을 기다리지 않도록 함
+ * AI 엔진 호출은 시간당 예산 안에서만 하고, 서킷이 열려 있으면 건너뜀 (여러 노드 중 한 곳에서만 실행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequirementsCacheWarmer {
+
+    private static final String AI_ENDPOINT = "requirements";
+    private static final String LEASE_KEY = "warmer:requirements";
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    private final RequirementsAnalysisCacheService cacheService;
+    private final RequirementsAnalysisCacheProperties properties;
+    private final HsCodeAgencyMappingRepository mappingRepository;
+    private final ProductRepository productRepository;
+    private final AiWorkflowService aiWorkflowService;
+    private final AiEngineCircuitBreakers circuitBreakers;
+    private final ClusterLease clusterLease;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 최근 1시간 동안 워머가 AI 엔진을 호출한 시각 (ms) */
+    private final Deque<Long> recentCalls = new ArrayDeque<>();
+
+    @Scheduled(fixedDelayString = "${analysis.requirements-cache.warmer.interval-ms:600000}",
+            initialDelayString = "${analysis.requirements-cache.warmer.interval-ms:600000}")
+    public void warm() {
+        RequirementsAnalysisCacheProperties.Warmer warmer = properties.getWarmer();
+        if (!properties.isEnabled() || !warmer.isEnabled()) {
+            return;
+        }
+        if (circuitBreakers.get(AI_ENDPOINT).getState() == CircuitBreaker.State.OPEN) {
+            log.info("⏭️ AI 엔진 서킷 OPEN - 요구사항 캐시 워밍 건너뜀");
+            return;
+        }
+        int budget = remainingBudget();
+        if (budget <= 0) {
+            log.debug("⏭️ 요구사항 캐시 워밍 시간당 예산 소진");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("⏭️ 요구사항 캐시 워밍이 이미 진행 중");
+            return;
+        }
+
+        // 분석하는 동안(수 분 ~ 수십 분) DB 커넥션을 점유하지 않도록 TTL 있는 임대 행으로 노드 간 조정
+        Duration leaseTtl = Duration.ofMinutes(warmer.getLeaseMinutes());
+        ClusterLease.Handle lease = null;
+        try {
+            Optional<ClusterLease.Handle> acquired = clusterLease.tryAcquire(LEASE_KEY, leaseTtl);
+            if (acquired.isEmpty()) {
+                log.debug("⏭️ 다른 노드에서 요구사항 캐시 워밍 진행 중");
+                running.set(false);
+                return;
+            }
+            lease = acquired.get();
+
+            List<Product> targets = selectTargets(budget);
+            if (targets.isEmpty()) {
+                lease.close();
+                running.set(false);
+                return;
+            }
+            log.info("🔥 요구사항 캐시 워밍 시작 - 대상: {}건, 남은 시간당 예산: {}", targets.size(), budget);
+
+            ClusterLease.Handle heldLease = lease;
+            lease = null;
+            // 응답 대기 중 스케줄러 스레드를 점유하지 않도록 리액티브로 진행하고, 끝나면 임대 반납
+            Flux.fromIterable(targets)
+                    .flatMap(product -> renewLease(heldLease, leaseTtl)
+                            .flatMap(held -> held ? refresh(product) : Mono.just(false)),
+                            Math.max(1, warmer.getConcurrency()))
+                    .reduce(0, (refreshed, success) -> success ? refreshed + 1 : refreshed)
+                    .doOnNext(refreshed -> log.info("✅ 요구사항 캐시 워밍 완료 - 갱신: {}/{}건", refreshed, targets.size()))
+                    .doFinally(signal -> Schedulers.boundedElastic().schedule(() -> {
+                        heldLease.close();
+                        running.set(false);
+                    }))
+                    .subscribe(refreshed -> { }, e -> log.error("❌ 요구사항 캐시 워밍 중 오류", e));
+        } catch (Exception e) {
+            log.error("❌ 요구사항 캐시 워밍 준비 중 오류", e);
+            if (lease != null) {
+                lease.close();
+            }
+            running.set(false);
+        }
+    }
+
+    /**
+     * 항목마다 임대 연장 (연장하지 못하면 만료되어 다른 노드가 가져간 것이므로 남은 항목은 건너뜀)
+     */
+    private Mono<Boolean> renewLease(ClusterLease.Handle lease, Duration ttl) {
+        return Mono.fromCallable(() -> lease.renew(ttl))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(held -> {
+                    if (!held) {
+                        log.warn("⚠️ 요구사항 캐시 워밍 임대 만료 - 남은 항목 건너뜀");
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 요구사항 캐시 워밍 임대 연장 실패 - 오류: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * 워밍 대상 선정 (예산만큼)
+     * 1) 인기 HS코드의 기존 항목 중 곧 만료되는 것 (만료 임박 순)
+     * 2) 캐시 항목이 아예 없는 인기 HS코드는 대표 상품명으로 새로 채움 (인기 순)
+     */
+    private List<Product> selectTargets(int budget) {
+        RequirementsAnalysisCacheProperties.Warmer warmer = properties.getWarmer();
+        List<String> hotHsCodes = findHotHsCodes(warmer);
+        if (hotHsCodes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> targets = new ArrayList<>();
+        LocalDateTime refreshBefore = LocalDateTime.now().plusMinutes(warmer.getRefreshAheadMinutes());
+        for (RequirementsAnalysisCache entry : cacheService.findRefreshCandidates(hotHsCodes, refreshBefore)) {
+            if (targets.size() >= budget) {
+                return targets;
+            }
+            targets.add(warmupProduct(entry.getHsCode(), entry.getProductName(), ""));
+        }
+
+        Set<String> cached = new HashSet<>(cacheService.findCachedHsCodes(hotHsCodes));
+        for (String hsCode : hotHsCodes) {
+            if (targets.size() >= budget) {
+                break;
+            }
+            if (cached.contains(hsCode)) {
+                continue;
+            }
+            productRepository.findFirstByHsCode(hsCode).ifPresent(representative -> targets.add(
+                    warmupProduct(hsCode, representative.getProductName(), representative.getDescription())));
+        }
+        return targets;
+    }
+
+    /**
+     * 인기 HS코드 (사용 빈도 상위 + 최근 사용, 최대 topN개)
+     */
+    private List<String> findHotHsCodes(RequirementsAnalysisCacheProperties.Warmer warmer) {
+        Set<String> hsCodes = new LinkedHashSet<>();
+        for (HsCodeAgencyMapping mapping : mappingRepository.findTopUsedMappings(PageRequest.of(0, warmer.getTopN()))) {
+            hsCodes.add(mapping.getHsCode().trim());
+        }
+        for (HsCodeAgencyMapping mapping : mappingRepository.findRecentlyUsedMappings(
+                LocalDateTime.now().minusHours(warmer.getRecentHours()))) {
+            if (hsCodes.size() >= warmer.getTopN()) {
+                break;
+            }
+            hsCodes.add(mapping.getHsCode().trim());
+        }
+        return new ArrayList<>(hsCodes);
+    }
+
+    /**
+     * 한 항목 갱신 (강제 갱신으로 분석하면 AiWorkflowService가 결과를 캐시에 저장)
+     */
+    private Mono<Boolean> refresh(Product product) {
+        return Mono.defer(() -> {
+                    if (!tryConsumeBudget()) {
+                        return Mono.just(false);
+                    }
+                    return aiWorkflowService.executeRequirementsAnalysisAsync(product, true)
+                            .map(result -> !RequirementsAnalysisCacheService.isErrorResult(result));
+                })
+                .defaultIfEmpty(false)
+                .doOnNext(success -> meterRegistry.counter("requirements.analysis.cache.warmups",
+                        "result", success ? "success" : "failure").increment())
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 요구사항 캐시 워밍 실패 - HS코드: {}, 오류: {}", product.getHsCode(), e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private Product warmupProduct(String hsCode, String productName, String description) {
+        return Product.builder()
+                .productId("cache-warmer")
+                .hsCode(hsCode)
+                .productName(productName)
+                .description(description != null ? description : "")
+                .build();
+    }
+
+    private synchronized int remainingBudget() {
+        pruneCalls(System.currentTimeMillis());
+        return properties.getWarmer().getMaxCallsPerHour() - recentCalls.size();
+    }
+
+    private synchronized boolean tryConsumeBudget() {
+        long now = System.currentTimeMillis();
+        pruneCalls(now);
+        if (recentCalls.size() >= properties.getWarmer().getMaxCallsPerHour()) {
+            return false;
+        }
+        recentCalls.addLast(now);
+        return true;
+    }
+
+    private void pruneCalls(long now) {
+        while (!recentCalls.isEmpty() && now - recentCalls.peekFirst() >= HOUR_MILLIS) {
+            recentCalls.removeFirst();
+        }
+    }
+
+    /**
+     * 워머 현황
+     */
+    public Map<String, Object> getStatus() {
+        return Map.of(
+                "running", running.get(),
+                "remainingHourlyBudget", Math.max(0, remainingBudget()),
+                "maxCallsPerHour", properties.getWarmer().getMaxCallsPerHour());
+    }
+}
@@ -0,0 +1,125 @@
+package com.suracle.backend_api.service.cache;
+
+import com.suracle.backend_api.config.RequirementsRefreshProperties;
+import com.suracle.backend_api.entity.product.Product;
+import com.suracle.backend_api.repository.CacheRefreshLeaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요구사항 분석 재사용 / 갱신 판단
+ * - 신선 기간 내: 재사용하되, 만료가 가까울수록 높은 확률로 미리 갱신 (XFetch - 같은 시기에 만들어진 항목의 만료가 한꺼번에 몰리지 않도록)
+ * - 갱신이 필요하면 HS코드 단위 임대를 얻은 호출자만 AI 엔진을 호출하고, 나머지는 기존 결과를 계속 사용
+ * - 기존 결과가 전혀 없으면 임대와 관계없이 실행 (AiWorkflowService가 같은 HS코드 호출을 하나로 합침)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequirementsRefreshCoordinator {
+
+    public enum Decision {
+        /** 신선한 결과 재사용 */
+        FRESH,
+        /** 갱신이 필요하지만 다른 호출자가 갱신 중 - 기존 결과 재사용 */
+        STALE,
+        /** 이 호출자가 갱신 (임대 보유, 끝나면 release) */
+        REFRESH
+    }
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final CacheRefreshLeaseRepository leaseRepository;
+    private final RequirementsRefreshProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /** 이 노드가 쥔 임대 (반납할 것이 없을 때 DB를 거치지 않도록) */
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 가장 최근 분석 시각 기준으로 재사용 / 갱신 판단
+     */
+    public Decision decide(Product product, LocalDateTime lastAnalyzedAt) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = lastAnalyzedAt.plusDays(properties.getFreshDays());
+        boolean expired = !expiresAt.isAfter(now);
+
+        if (!expired && !shouldRefreshEarly(now, expiresAt)) {
+            return Decision.FRESH;
+        }
+
+        String reason = expired ? "expired" : "early";
+        Decision decision = tryAcquire(product, now, expired) ? Decision.REFRESH : Decision.STALE;
+        meterRegistry.counter("requirements.analysis.refresh", "reason", reason,
+                "decision", decision.name().toLowerCase()).increment();
+        if (decision == Decision.REFRESH) {
+            log.info("🔄 요구사항 분석 갱신 ({}) - HS코드: {}, 상품 ID: {}, 만료: {}",
+                    expired ? "만료" : "조기", product.getHsCode(), product.getProductId(), expiresAt);
+        } else {
+            log.info("⏭️ 다른 호출자가 요구사항 분석 갱신 중 - 기존 결과 사용, HS코드: {}", product.getHsCode());
+        }
+        return decision;
+    }
+
+    /**
+     * 갱신이 끝나면 임대 반납 (이 노드가 쥔 임대가 없으면 아무것도 하지 않음)
+     */
+    public void release(Product product) {
+        String leaseKey = leaseKey(product);
+        String holder = holder(product);
+        if (!heldLeases.remove(leaseKey + "|" + holder)) {
+            return;
+        }
+        try {
+            leaseRepository.release(leaseKey, holder);
+        } catch (Exception e) {
+            // 만료 시각이 지나면 다른 호출자가 가져갈 수 있으므로 로그만 남김
+            log.warn("⚠️ 요구사항 분석 갱신 임대 반납 실패 - {}: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    /**
+     * XFetch: now - delta × beta × ln(U) >= 만료 시각이면 갱신 (U ~ (0, 1])
+     */
+    boolean shouldRefreshEarly(LocalDateTime now, LocalDateTime expiresAt) {
+        if (!properties.isEarlyRefreshEnabled() || properties.getEarlyRefreshDeltaMinutes() <= 0) {
+            return false;
+        }
+        double u = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gapSeconds = -properties.getEarlyRefreshDeltaMinutes() * 60.0 * properties.getEarlyRefreshBeta() * Math.log(u);
+        return Duration.between(now, expiresAt).getSeconds() <= gapSeconds;
+    }
+
+    private boolean tryAcquire(Product product, LocalDateTime now, boolean expired) {
+        String leaseKey = leaseKey(product);
+        String holder = holder(product);
+        try {
+            boolean acquired = leaseRepository.tryAcquire(leaseKey, holder, now,
+                    now.plusMinutes(properties.getLeaseMinutes())) > 0;
+            if (acquired) {
+                heldLeases.add(leaseKey + "|" + holder);
+            }
+            return acquired;
+        } catch (Exception e) {
+            // 임대 테이블 오류 시: 만료된 결과면 실행 (기존 동작), 조기 갱신이면 다음 기회로 미룸
+            log.warn("⚠️ 요구사항 분석 갱신 임대 획득 실패 - {}: {}", leaseKey, e.getMessage());
+            return expired;
+        }
+    }
+
+    private static String leaseKey(Product product) {
+        return "requirements:" + product.getHsCode().trim();
+    }
+
+    private static String holder(Product product) {
+        return NODE_ID + ":" + product.getProductId();
+    }
+}
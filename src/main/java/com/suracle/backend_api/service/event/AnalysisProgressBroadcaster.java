@@ -0,0 +1,43 @@
+package com.suracle.backend_api.service.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 분석 진행 이벤트 브로드캐스터 (프로세스 내)
+ * 구독자는 자신이 보는 상품의 이벤트만 받음 (구독자가 없으면 이벤트는 버려짐)
+ */
+@Slf4j
+@Component
+public class AnalysisProgressBroadcaster {
+
+    private final Sinks.Many<AnalysisProgressEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * 상품 분석 진행 이벤트 구독
+     */
+    public Flux<AnalysisProgressEvent> subscribe(String productId) {
+        return sink.asFlux().filter(event -> productId.equals(event.getProductId()));
+    }
+
+    /**
+     * 트랜잭션 안에서 발행되면 커밋 후 전달 (롤백된 저장은 완료로 알리지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(AnalysisProgressEvent event) {
+        // 여러 스레드에서 동시에 발행될 수 있으므로 직렬화
+        synchronized (sink) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                log.debug("분석 진행 이벤트 전달 실패 - 상품 ID: {}, 결과: {}", event.getProductId(), result);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+}
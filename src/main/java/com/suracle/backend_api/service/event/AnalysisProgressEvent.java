@@ -0,0 +1,29 @@
+package com.suracle.backend_api.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 분석 진행 이벤트 (분석 시작/완료/실패/연기)
+ * 분석 결과를 저장하는 코드 경로에서 발행되어 SSE 구독자에게 전달됨
+ */
+@Getter
+@AllArgsConstructor
+public class AnalysisProgressEvent {
+
+    public enum Phase {
+        STARTED, COMPLETED, FAILED, DEFERRED
+    }
+
+    private final String productId;
+    private final String analysisType;
+    private final Phase phase;
+    private final String message;
+    private final LocalDateTime occurredAt;
+
+    public static AnalysisProgressEvent of(String productId, String analysisType, Phase phase, String message) {
+        return new AnalysisProgressEvent(productId, analysisType, phase, message, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,79 @@
+package com.suracle.backend_api.service.http;
+
+import com.suracle.backend_api.config.AiEngineClientProperties;
+import com.suracle.backend_api.service.resilience.AiEngineCircuitBreakers;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 엔진 리액티브 HTTP 클라이언트
+ * 응답을 기다리는 동안 스레드를 점유하지 않으며, 엔드포인트별 타임아웃을 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiEngineClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final ConnectionProvider aiEngineConnectionProvider;
+    private final AiEngineClientProperties properties;
+    private final AiEngineCircuitBreakers circuitBreakers;
+
+    /** 엔드포인트별 WebClient (커넥션 풀은 공유, 타임아웃만 다름) */
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * JSON POST 요청
+     * @param endpoint 타임아웃 설정 키 (precedents, requirements ...)
+     * @param url 요청 URL
+     * @param body 요청 본문
+     * @return 응답 본문 (4xx/5xx, 타임아웃, 서킷 OPEN은 에러 신호)
+     */
+    public Mono<Map<String, Object>> post(String endpoint, String url, Map<String, Object> body) {
+        // 서킷이 열려 있으면 호출 없이 즉시 실패, 닫혀 있으면 최근 지연 시간 기반 타임아웃 적용
+        return circuitBreakers.protect(endpoint, client(endpoint).post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(MAP_TYPE));
+    }
+
+    private WebClient client(String endpoint) {
+        return clients.computeIfAbsent(endpoint, this::createClient);
+    }
+
+    private WebClient createClient(String endpoint) {
+        int connectTimeoutMs = properties.connectTimeoutMs(endpoint);
+        long responseTimeoutMs = properties.responseTimeoutMs(endpoint);
+        log.info("AI 엔진 클라이언트 생성 - 엔드포인트: {}, 연결 타임아웃: {}ms, 응답 타임아웃: {}ms",
+                endpoint, connectTimeoutMs, responseTimeoutMs);
+
+        HttpClient httpClient = HttpClient.create(aiEngineConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.USER_AGENT, "LawGenie-Backend/1.0")
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getMaxInMemorySizeMb() * 1024 * 1024))
+                .build();
+    }
+}
@@ -0,0 +1,239 @@
+package com.suracle.backend_api.service.http;
+
+import com.suracle.backend_api.config.GovApiCacheProperties;
+import com.suracle.backend_api.entity.requirements.SearchResultCache;
+import com.suracle.backend_api.repository.requirements.SearchResultCacheRepository;
+import com.suracle.backend_api.service.cache.CacheMetrics;
+import com.suracle.backend_api.service.util.ContentHash;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * search_result_cache를 사용하는 RequirementsApiClient 캐싱 데코레이터
+ * 캐시 키 = 기관 + 정규화된 검색어(소문자, 공백 정리, 키워드는 정렬)
+ * - 신선 기간 내: 캐시 결과 반환
+ * - 신선 기간 경과, 만료 전: 캐시 결과를 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 만료 또는 없음: 정부 API 동기 호출 후 저장
+ * - 결과 없음/실패: 원인별 짧은 기간 동안 부정 캐시로 저장해 같은 검색어로 정부 API를 반복 호출하지 않음
+ *   (백그라운드 갱신이 실패하면 기존 정상 결과를 그대로 유지)
+ * 결과는 원본 JSON 문자열 그대로 저장/반환하고 내용 해시는 저장 시 한 번만 계산 (캐시 적중 시 트리를 만들지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CachingRequirementsApiClient {
+
+    public static final String FDA = "FDA";
+    public static final String USDA = "USDA";
+    public static final String EPA = "EPA";
+    public static final String CPSC = "CPSC";
+    public static final String CENSUS = "CENSUS";
+
+    private final RequirementsApiClient delegate;
+    private final SearchResultCacheRepository repository;
+    private final GovApiCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CacheMetrics cacheMetrics;
+
+    @Qualifier("govApiExecutor")
+    private final Executor govApiExecutor;
+
+    /** 캐시만 조회하는 호출 범위 (cacheOnly 안에서는 미스여도 정부 API를 호출하지 않음) */
+    private static final ThreadLocal<Boolean> CACHE_ONLY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /** 백그라운드 갱신 중인 캐시 키 (같은 키를 중복 갱신하지 않음) */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 캐시에 있는 결과만 사용해 실행 (미스/부정 캐시는 empty, 미스는 집계하지 않음 - 이어지는 실제 호출에서 집계)
+     * 신선 기간이 지난 결과는 그대로 반환하고 백그라운드 갱신
+     */
+    public <T> T cacheOnly(Supplier<T> work) {
+        CACHE_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            CACHE_ONLY.remove();
+        }
+    }
+
+    public Optional<GovApiPayload> callOpenFdaFoodEnforcement(String productName) {
+        return cached(FDA, "enforcement:" + normalize(productName), null,
+                () -> delegate.fetchOpenFdaFoodEnforcement(productName));
+    }
+
+    public Optional<GovApiPayload> callOpenFdaFoodEnforcementWithKeywords(List<String> keywords) {
+        if (keywords == null || keywords.isEmpty()) {
+            return Optional.empty();
+        }
+        return cached(FDA, "enforcement-or:" + normalize(keywords), null,
+                () -> delegate.fetchOpenFdaFoodEnforcementWithKeywords(keywords));
+    }
+
+    public Optional<GovApiPayload> callOpenFdaCosmeticEvent(String productName) {
+        return cached(FDA, "cosmetic-event:" + normalize(productName), null,
+                () -> delegate.fetchOpenFdaCosmeticEvent(productName));
+    }
+
+    public Optional<GovApiPayload> callUsdaFoodDataCentralSearch(String query, String dataType) {
+        return cached(USDA, normalize(query) + "|" + normalize(dataType), null,
+                () -> delegate.fetchUsdaFoodDataCentralSearch(query, dataType));
+    }
+
+    public Optional<GovApiPayload> callEpaCompToxSearch(String query) {
+        return cached(EPA, "comptox:" + normalize(query), null,
+                () -> delegate.fetchEpaCompToxSearch(query));
+    }
+
+    public Optional<GovApiPayload> callCpscRecallsJson(String productName) {
+        return cached(CPSC, normalize(productName), null,
+                () -> delegate.fetchCpscRecallsJson(productName));
+    }
+
+    public Optional<GovApiPayload> callCensusInternationalTradeHs(String hsCode, String tradeType, String year, String month) {
+        return cached(CENSUS, normalize(tradeType) + "|" + normalize(hsCode) + "|" + year + "-" + month, hsCode,
+                () -> delegate.fetchCensusInternationalTradeHs(hsCode, tradeType, year, month));
+    }
+
+    private Optional<GovApiPayload> cached(String agency, String query, String hsCode, Supplier<GovApiResponse> call) {
+        boolean cacheOnly = CACHE_ONLY.get();
+        if (!properties.isEnabled()) {
+            return cacheOnly ? Optional.empty() : call.get().payload();
+        }
+
+        String cacheKey = cacheKey(agency, query);
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<SearchResultCache> entry = Optional.empty();
+        try {
+            entry = repository.findByCacheKey(cacheKey).filter(cache -> cache.getExpiresAt().isAfter(now));
+        } catch (Exception e) {
+            log.warn("⚠️ 정부 API 캐시 조회 실패 (직접 호출) - {}: {}", agency, e.getMessage());
+        }
+
+        if (entry.isPresent()) {
+            if (entry.get().getNegativeOutcome() != null) {
+                if (cacheOnly) {
+                    return Optional.empty();
+                }
+                record(agency, CacheMetrics.Lookup.NEGATIVE);
+                return Optional.empty();
+            }
+            String searchResults = entry.get().getSearchResults();
+            if (searchResults != null && !searchResults.isBlank()) {
+                LocalDateTime refreshAfter = entry.get().getRefreshAfter();
+                if (refreshAfter == null || refreshAfter.isAfter(now)) {
+                    record(agency, CacheMetrics.Lookup.HIT);
+                } else {
+                    record(agency, CacheMetrics.Lookup.STALE);
+                    refreshInBackground(agency, cacheKey, query, hsCode, call);
+                }
+                return Optional.of(new GovApiPayload(searchResults, entry.get().getContentHash()));
+            }
+        }
+
+        if (cacheOnly) {
+            return Optional.empty();
+        }
+        record(agency, CacheMetrics.Lookup.MISS);
+        GovApiResponse response = cacheMetrics.timeLoad(CacheMetrics.SEARCH_RESULT, call);
+        if (response.isOk()) {
+            store(agency, cacheKey, query, hsCode, response.payload().get());
+        } else {
+            storeNegative(agency, cacheKey, query, hsCode, response.outcome());
+        }
+        return response.payload();
+    }
+
+    private void refreshInBackground(String agency, String cacheKey, String query, String hsCode,
+                                     Supplier<GovApiResponse> call) {
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        try {
+            govApiExecutor.execute(() -> {
+                try {
+                    GovApiResponse response = cacheMetrics.timeLoad(CacheMetrics.SEARCH_RESULT, call);
+                    if (response.isOk()) {
+                        store(agency, cacheKey, query, hsCode, response.payload().get());
+                    } else {
+                        // 갱신 실패 시 기존 결과를 만료까지 계속 사용 (stale-if-error)
+                        log.debug("정부 API 캐시 백그라운드 갱신 실패 ({}) - 기존 결과 유지: {}", response.outcome(), cacheKey);
+                    }
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(cacheKey);
+            log.debug("정부 API 캐시 백그라운드 갱신 생략 (실행기 포화) - {}", cacheKey);
+        }
+    }
+
+    private void store(String agency, String cacheKey, String query, String hsCode, GovApiPayload payload) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime refreshAfter = now.plusMinutes(properties.ttlMinutes(agency));
+            repository.upsert(cacheKey, agency, hsCode, null, query, payload.json(), payload.contentHash(), null,
+                    refreshAfter, refreshAfter.plusMinutes(properties.getStaleWindowMinutes()));
+        } catch (Exception e) {
+            log.warn("⚠️ 정부 API 캐시 저장 실패 - {}: {}", agency, e.getMessage());
+        }
+    }
+
+    /**
+     * 부정 캐시 저장 (원인별 유지 기간이 지나면 바로 만료 - stale 허용 기간 없음)
+     */
+    private void storeNegative(String agency, String cacheKey, String query, String hsCode, GovApiResponse.Outcome outcome) {
+        long ttlMinutes = properties.negativeTtlMinutes(outcome.name());
+        if (ttlMinutes <= 0) {
+            return;
+        }
+        try {
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(ttlMinutes);
+            repository.upsert(cacheKey, agency, hsCode, null, query, "{}", null, outcome.name(), expiresAt, expiresAt);
+            meterRegistry.counter("gov.api.cache.negative.stored", "agency", agency,
+                    "outcome", outcome.name().toLowerCase(Locale.ROOT)).increment();
+        } catch (Exception e) {
+            log.warn("⚠️ 정부 API 부정 캐시 저장 실패 - {}: {}", agency, e.getMessage());
+        }
+    }
+
+    private void record(String agency, CacheMetrics.Lookup result) {
+        cacheMetrics.lookup(CacheMetrics.SEARCH_RESULT, result);
+        meterRegistry.counter("gov.api.cache.requests", "agency", agency, "result", result.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    private static String cacheKey(String agency, String query) {
+        return agency + ":" + ContentHash.sha256Hex(query);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalize(List<String> keywords) {
+        return String.join(",", keywords.stream()
+                .map(CachingRequirementsApiClient::normalize)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .sorted()
+                .toList());
+    }
+}
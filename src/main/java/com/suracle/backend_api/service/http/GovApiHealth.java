@@ -0,0 +1,74 @@
+package com.suracle.backend_api.service.http;
+
+import com.suracle.backend_api.config.ProviderRoutingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 기관별 무료 API 상태 (성공률 / 평균 응답 시간의 지수 이동 평균)
+ * 응답을 받은 호출(결과 0건, 404 포함)은 성공, 5xx/타임아웃/파싱 실패/호출 제한은 실패로 집계
+ */
+@Component
+@RequiredArgsConstructor
+public class GovApiHealth {
+
+    private final ProviderRoutingProperties properties;
+
+    private final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public record Snapshot(long samples, double successRate, long latencyMs) {
+    }
+
+    private static class Stats {
+        long samples;
+        double successRate = 1.0;
+        double latencyMs;
+        boolean hasLatency;
+    }
+
+    public void record(String agency, GovApiResponse.Outcome outcome, long elapsedMs) {
+        boolean success = switch (outcome) {
+            case OK, EMPTY, NOT_FOUND -> true;
+            default -> false;
+        };
+        double alpha = properties.getEwmaAlpha();
+        Stats entry = stats.computeIfAbsent(key(agency), k -> new Stats());
+        synchronized (entry) {
+            entry.samples++;
+            entry.successRate = entry.samples == 1
+                    ? (success ? 1.0 : 0.0)
+                    : alpha * (success ? 1.0 : 0.0) + (1 - alpha) * entry.successRate;
+            // 호출하지 않은 경우(호출 제한)는 응답 시간에 반영하지 않음
+            if (outcome != GovApiResponse.Outcome.RATE_LIMITED) {
+                entry.latencyMs = entry.hasLatency ? alpha * elapsedMs + (1 - alpha) * entry.latencyMs : elapsedMs;
+                entry.hasLatency = true;
+            }
+        }
+    }
+
+    public Snapshot snapshot(String agency) {
+        Stats entry = stats.get(key(agency));
+        if (entry == null) {
+            return new Snapshot(0, 1.0, 0);
+        }
+        synchronized (entry) {
+            return new Snapshot(entry.samples, entry.successRate, Math.round(entry.latencyMs));
+        }
+    }
+
+    public Map<String, Snapshot> snapshots() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        stats.keySet().forEach(agency -> result.put(agency, snapshot(agency)));
+        return result;
+    }
+
+    private static String key(String agency) {
+        return agency.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,137 @@
+package com.suracle.backend_api.service.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suracle.backend_api.service.util.ContentHash;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 정부 API 원본 응답 (JSON 문자열 + 내용 해시)
+ * 트리(JsonNode)는 원본이 필요할 때만 만들고, 요건 추출은 GovApiProjections로 필요한 필드만 읽음
+ * 내용 해시는 응답을 받을 때 형식 확인과 같은 스트리밍 패스에서 계산하고, 캐시에서 읽은 값은 저장된 해시를 그대로 사용
+ */
+public final class GovApiPayload {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+
+    /** 응답마다 바뀌는 메타 정보 (조회 시각, 면책 문구 등) - 해시에서 제외 */
+    private static final String VOLATILE_FIELD = "meta";
+
+    private final String json;
+    private volatile String contentHash;
+
+    public GovApiPayload(String json) {
+        this(json, null);
+    }
+
+    public GovApiPayload(String json, String contentHash) {
+        this.json = json;
+        this.contentHash = contentHash;
+    }
+
+    public String json() {
+        return json;
+    }
+
+    public String contentHash() {
+        String hash = contentHash;
+        if (hash == null) {
+            hash = contentHash(json);
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * 전체 트리 (원본 데이터를 응답에 포함할 때 등)
+     */
+    public JsonNode tree() {
+        try {
+            return MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("정부 API 응답 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 응답 본문 확인 + 내용 해시 (트리를 만들지 않고 토큰을 한 번만 읽음)
+     * @return 올바른 JSON이 아니면 empty
+     */
+    public static Optional<GovApiPayload> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new GovApiPayload(json, streamingHash(json)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 내용 해시 (해시 없이 저장된 캐시 항목용, JSON이 아니면 원문 해시)
+     */
+    public static String contentHash(String json) {
+        try {
+            return streamingHash(json);
+        } catch (IOException e) {
+            return ContentHash.sha256Hex(json);
+        }
+    }
+
+    /**
+     * 최상위 meta를 제외한 토큰(종류 + 텍스트)을 문서 순서대로 SHA-256에 넣음
+     * 공백/들여쓰기 차이는 무시하고, 루트 값이 둘 이상이거나 문법 오류면 IOException
+     */
+    private static String streamingHash(String json) throws IOException {
+        MessageDigest digest = sha256();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            int depth = 0;
+            int rootValues = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (depth == 0 && ++rootValues > 1) {
+                    throw new JsonParseException(parser, "루트 값이 둘 이상인 응답");
+                }
+                if (token == JsonToken.FIELD_NAME && depth == 1 && VOLATILE_FIELD.equals(parser.currentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                    continue;
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                digest.update((byte) token.id());
+                if (token == JsonToken.FIELD_NAME || token.isScalarValue()) {
+                    digest.update(parser.getText().getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+            }
+            if (rootValues == 0) {
+                throw new JsonParseException(parser, "빈 응답");
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 사용 불가", e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.suracle.backend_api.service.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정부 API 응답에서 요건 추출에 쓰는 필드만 스트리밍으로 읽어 작은 레코드로 변환
+ * (응답 전체를 JsonNode 트리로 만들지 않음 - 나머지 필드는 skipChildren으로 건너뜀)
+ * 형식이 맞지 않는 부분은 무시하고 읽은 것까지만 반환
+ */
+public final class GovApiProjections {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private GovApiProjections() {
+    }
+
+    /** FDA Food Enforcement results[] */
+    public record FdaEnforcement(String classification, String reasonForRecall, String reportDate,
+                                 String recallInitiationDate) {
+    }
+
+    /** USDA FoodData Central foods[] */
+    public record UsdaFood(String description, String dataType) {
+    }
+
+    /** EPA CompTox 검색 결과 (최상위 배열) */
+    public record EpaChemical(String preferredName, String casrn) {
+    }
+
+    /** Census 표 (첫 행은 헤더) */
+    public record CensusTable(List<String> header, List<List<String>> rows) {
+    }
+
+    public static List<FdaEnforcement> fdaEnforcements(String json) {
+        return objectsInField(json, "results", parser -> {
+            String classification = "";
+            String reason = "";
+            String reportDate = "";
+            String recallDate = "";
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "classification" -> classification = text(parser);
+                    case "reason_for_recall" -> reason = text(parser);
+                    case "report_date" -> reportDate = text(parser);
+                    case "recall_initiation_date" -> recallDate = text(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new FdaEnforcement(classification, reason, reportDate, recallDate);
+        });
+    }
+
+    public static List<UsdaFood> usdaFoods(String json) {
+        return objectsInField(json, "foods", parser -> {
+            String description = "";
+            String dataType = "";
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "description" -> description = text(parser);
+                    case "dataType" -> dataType = text(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new UsdaFood(description, dataType);
+        });
+    }
+
+    public static List<EpaChemical> epaChemicals(String json) {
+        List<EpaChemical> chemicals = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return chemicals;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String name = "";
+                String casrn = "";
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "preferredName" -> name = text(parser);
+                        case "casrn" -> casrn = text(parser);
+                        default -> parser.skipChildren();
+                    }
+                }
+                chemicals.add(new EpaChemical(name, casrn));
+            }
+        } catch (IOException e) {
+            // 읽은 데까지만 사용
+        }
+        return chemicals;
+    }
+
+    public static CensusTable censusTable(String json) {
+        List<List<String>> rows = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return new CensusTable(List.of(), List.of());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                List<String> row = new ArrayList<>();
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    row.add(text(parser));
+                }
+                rows.add(row);
+            }
+        } catch (IOException e) {
+            // 읽은 데까지만 사용
+        }
+        if (rows.isEmpty()) {
+            return new CensusTable(List.of(), List.of());
+        }
+        return new CensusTable(rows.get(0), rows.subList(1, rows.size()));
+    }
+
+    @FunctionalInterface
+    private interface ObjectReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 최상위 객체의 field 배열 안 객체들을 reader로 변환 (reader는 START_OBJECT 다음부터 END_OBJECT까지 읽음)
+     */
+    private static <T> List<T> objectsInField(String json, String field, ObjectReader<T> reader) {
+        List<T> items = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return items;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!field.equals(name) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        items.add(reader.read(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                return items;
+            }
+        } catch (IOException e) {
+            // 읽은 데까지만 사용
+        }
+        return items;
+    }
+
+    /**
+     * 현재 값을 문자열로 (객체/배열은 건너뛰고 null과 함께 빈 문자열)
+     */
+    private static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != null && token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return "";
+        }
+        return parser.getText();
+    }
+}
@@ -0,0 +1,215 @@
+package com.suracle.backend_api.service.http;
+
+import com.suracle.backend_api.config.ApiEndpointsManager;
+import com.suracle.backend_api.config.GovApiRateLimitProperties;
+import com.suracle.backend_api.entity.requirements.AgencySearchStrategy;
+import com.suracle.backend_api.repository.requirements.AgencySearchStrategyRepository;
+import com.suracle.backend_api.service.resilience.TokenBucket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 정부 API 기관별 호출 제한
+ * 기관마다 토큰 버킷을 두고, 허용량은 agency_search_strategies에서 주기적으로 다시 읽어 반영
+ * 토큰이 없으면 maxWaitMs까지 기다리고, 그래도 없으면 호출하지 않음 (429로 왕복하는 대신 바로 실패)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GovApiRateLimiter {
+
+    private static final Pattern RATE_TEXT = Pattern.compile("(\\d[\\d,]*)\\s*/\\s*(hour|day|min)", Pattern.CASE_INSENSITIVE);
+
+    private final AgencySearchStrategyRepository strategyRepository;
+    private final ApiEndpointsManager apiEndpointsManager;
+    private final GovApiRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, AgencyLimit> limits = new ConcurrentHashMap<>();
+
+    /** 마지막으로 읽은 테이블 허용량 (기관명 대문자 → 시간당 허용량) */
+    private volatile Map<String, Integer> strategyRates = Map.of();
+
+    private static class AgencyLimit {
+        final TokenBucket bucket;
+        volatile String source;
+
+        AgencyLimit(TokenBucket bucket, String source) {
+            this.bucket = bucket;
+            this.source = source;
+        }
+    }
+
+    private record Rate(int perHour, String source) {
+    }
+
+    /**
+     * 호출 허가 (허용량이 정해지지 않은 기관은 항상 허가)
+     * @return false면 호출하지 말 것
+     */
+    public boolean acquire(String agency) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        AgencyLimit limit = limitFor(agency);
+        if (limit == null || limit.bucket.tryAcquire()) {
+            return true;
+        }
+        if (properties.getMaxWaitMs() > 0 && limit.bucket.acquire(properties.getMaxWaitMs(), TimeUnit.MILLISECONDS)) {
+            meterRegistry.counter("gov.api.ratelimit.waited", "agency", key(agency)).increment();
+            return true;
+        }
+        meterRegistry.counter("gov.api.ratelimit.rejected", "agency", key(agency)).increment();
+        log.warn("🚦 {} 호출 제한 - 시간당 {}건 초과, 호출 생략", key(agency), (long) limit.bucket.getRatePerHour());
+        return false;
+    }
+
+    /**
+     * 상대 서버가 429를 돌려준 경우 남은 토큰을 비움
+     */
+    public void onThrottled(String agency) {
+        AgencyLimit limit = limits.get(key(agency));
+        if (limit != null) {
+            limit.bucket.drain();
+        }
+    }
+
+    /**
+     * agency_search_strategies 재조회 후 바뀐 허용량 반영
+     */
+    @Scheduled(fixedDelayString = "${requirements.rate-limit.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Map<String, Integer> rates = new HashMap<>();
+            for (AgencySearchStrategy strategy : strategyRepository.findByIsActiveTrue()) {
+                if (strategy.getRateLimitPerHour() != null && strategy.getRateLimitPerHour() > 0) {
+                    rates.put(key(strategy.getAgencyName()), strategy.getRateLimitPerHour());
+                }
+            }
+            if (rates.equals(strategyRates)) {
+                return;
+            }
+            strategyRates = Map.copyOf(rates);
+        } catch (Exception e) {
+            log.warn("⚠️ 기관별 호출 제한 재조회 실패 - 기존 설정 유지: {}", e.getMessage());
+            return;
+        }
+
+        limits.forEach((agency, limit) -> {
+            Rate rate = resolveRate(agency);
+            if (rate == null) {
+                return;
+            }
+            if (rate.perHour() != (int) limit.bucket.getRatePerHour()) {
+                log.info("🚦 {} 호출 제한 변경 - 시간당 {} → {}건 ({})",
+                        agency, (long) limit.bucket.getRatePerHour(), rate.perHour(), rate.source());
+                limit.bucket.reconfigure(rate.perHour(), capacity(rate.perHour()));
+            }
+            limit.source = rate.source();
+        });
+    }
+
+    /**
+     * 기관별 남은 허용량
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new TreeMap<>();
+        limits.forEach((agency, limit) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("ratePerHour", (long) limit.bucket.getRatePerHour());
+            entry.put("capacity", (long) limit.bucket.getCapacity());
+            entry.put("available", limit.bucket.available());
+            entry.put("nextTokenInMs", TimeUnit.NANOSECONDS.toMillis(limit.bucket.nanosUntilAvailable()));
+            entry.put("source", limit.source);
+            status.put(agency, entry);
+        });
+        return status;
+    }
+
+    private AgencyLimit limitFor(String agency) {
+        String key = key(agency);
+        AgencyLimit existing = limits.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Rate rate = resolveRate(key);
+        if (rate == null) {
+            return null;
+        }
+        return limits.computeIfAbsent(key, k -> {
+            AgencyLimit created = new AgencyLimit(new TokenBucket(rate.perHour(), capacity(rate.perHour())), rate.source());
+            Gauge.builder("gov.api.ratelimit.available", created.bucket, TokenBucket::available)
+                    .tag("agency", k)
+                    .register(meterRegistry);
+            log.info("🚦 {} 호출 제한 - 시간당 {}건 ({})", k, rate.perHour(), rate.source());
+            return created;
+        });
+    }
+
+    /**
+     * 시간당 허용량 결정 (테이블 → 설정 → ApiEndpointsManager 제한 문구, 모두 없으면 제한 없음)
+     */
+    private Rate resolveRate(String agency) {
+        Integer fromTable = strategyRates.get(agency);
+        if (fromTable != null) {
+            return new Rate(fromTable, "agency_search_strategies");
+        }
+        Integer fromConfig = properties.getPerHour().get(agency.toLowerCase(Locale.ROOT));
+        if (fromConfig != null && fromConfig > 0) {
+            return new Rate(fromConfig, "config");
+        }
+        Integer fromText = parseRateText(apiEndpointsManager.getRateLimit(endpointsKey(agency)));
+        return fromText != null ? new Rate(fromText, "api-endpoints") : null;
+    }
+
+    private long capacity(int perHour) {
+        return Math.max(1, perHour * properties.getBurstSeconds() / 3600);
+    }
+
+    /**
+     * "1000/day", "Typical: 1000/hour" 같은 문구를 시간당 허용량으로 변환
+     */
+    static Integer parseRateText(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = RATE_TEXT.matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+        long count = Long.parseLong(matcher.group(1).replace(",", ""));
+        long perHour = switch (matcher.group(2).toLowerCase(Locale.ROOT)) {
+            case "day" -> count / 24;
+            case "min" -> count * 60;
+            default -> count;
+        };
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, perHour));
+    }
+
+    private static String key(String agency) {
+        return agency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /** ApiEndpointsManager는 Census를 commerce로 등록 */
+    private static String endpointsKey(String agency) {
+        return "CENSUS".equals(agency) ? "commerce" : agency.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.suracle.backend_api.service.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Optional;
+
+/**
+ * 정부 API 호출 결과 (원본 응답 + 결과 분류)
+ * 본문이 없을 때 원인을 구분해 부정 캐시 유지 기간을 다르게 적용
+ */
+public record GovApiResponse(Optional<GovApiPayload> payload, Outcome outcome) {
+
+    public enum Outcome {
+        /** 정상 응답 (결과 0건 포함) */
+        OK,
+        /** 2xx지만 본문 없음 (예: Census 데이터가 아직 없는 달 - 204) */
+        EMPTY,
+        /** 404 (openFDA는 검색 결과가 없을 때도 404) */
+        NOT_FOUND,
+        /** 그 밖의 4xx (잘못된 요청, 인증 오류 등) */
+        CLIENT_ERROR,
+        /** 응답을 JSON으로 읽지 못함 (HTML 오류 페이지 등) */
+        PARSE_ERROR,
+        /** 5xx, 429, 연결 실패/타임아웃 등 일시적 오류 */
+        TRANSIENT_ERROR,
+        /** 기관별 호출 제한으로 호출하지 않음 (부정 캐시 대상 아님) */
+        RATE_LIMITED
+    }
+
+    public static GovApiResponse ok(GovApiPayload payload) {
+        return new GovApiResponse(Optional.of(payload), Outcome.OK);
+    }
+
+    public static GovApiResponse failed(Outcome outcome) {
+        return new GovApiResponse(Optional.empty(), outcome);
+    }
+
+    public boolean isOk() {
+        return outcome == Outcome.OK;
+    }
+
+    /**
+     * 전체 트리 (필요한 필드만 읽을 때는 payload + GovApiProjections 사용)
+     */
+    public Optional<JsonNode> body() {
+        return payload.map(GovApiPayload::tree);
+    }
+}
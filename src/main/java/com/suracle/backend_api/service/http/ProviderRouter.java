@@ -0,0 +1,221 @@
+package com.suracle.backend_api.service.http;
+
+import com.suracle.backend_api.config.ProviderRoutingProperties;
+import com.suracle.backend_api.entity.requirements.AgencySearchStrategy;
+import com.suracle.backend_api.entity.requirements.ProviderRoutingDecision;
+import com.suracle.backend_api.repository.requirements.AgencySearchStrategyRepository;
+import com.suracle.backend_api.repository.requirements.ProviderRoutingDecisionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기관별 데이터 소스 선택 (무료 정부 API vs 유료 검색)
+ * - free_api 전략(또는 전략 없음): 항상 무료 API
+ * - tavily 전략: 예산이 남아 있으면 유료 검색
+ * - hybrid 전략: 무료 API 성공률/응답 시간이 기준 안이면 무료 API, 아니면 예산 안에서 유료 검색
+ * 유료 검색은 AI 엔진이 수행하므로 여기서는 선택 결과만 응답에 담고, 모든 선택은 provider_routing_decisions에 기록
+ * hybrid 기관이 유료 검색으로 전환된 뒤에도 일부(probe-rate)는 무료 API로 보내 상태를 계속 갱신 (회복하면 다시 무료 API)
+ * 하루 예산은 노드별로 집계 (노드 N개면 전체 상한은 daily-budget × N)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProviderRouter {
+
+    public static final String FREE_API = "free_api";
+    public static final String TAVILY = "tavily";
+    public static final String HYBRID = "hybrid";
+
+    private final AgencySearchStrategyRepository strategyRepository;
+    private final ProviderRoutingDecisionRepository decisionRepository;
+    private final ProviderRoutingProperties properties;
+    private final GovApiHealth health;
+    private final MeterRegistry meterRegistry;
+
+    /** 활성 전략 (기관명 대문자 → 전략) */
+    private volatile Map<String, AgencySearchStrategy> strategies = Map.of();
+
+    /** 오늘 유료 검색 예상 비용 (노드별 집계, 날짜가 바뀌면 전체 노드의 기록 합계에서 다시 시작) */
+    private LocalDate spendDate;
+    private BigDecimal spentToday = BigDecimal.ZERO;
+
+    public record Route(String agency, String provider, String reason) {
+
+        public boolean isFreeApi() {
+            return FREE_API.equals(provider);
+        }
+    }
+
+    /**
+     * 기관별 소스 선택 후 기록
+     */
+    public Map<String, Route> route(Collection<String> agencies, String hsCode) {
+        Map<String, Route> routes = new LinkedHashMap<>();
+        List<ProviderRoutingDecision> decisions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (String agency : agencies) {
+            AgencySearchStrategy strategy = strategies.get(key(agency));
+            GovApiHealth.Snapshot snapshot = health.snapshot(agency);
+            Route route = decide(agency, strategy, snapshot);
+            routes.put(agency, route);
+            meterRegistry.counter("gov.api.routing.decisions", "agency", key(agency),
+                    "provider", route.provider(), "reason", route.reason()).increment();
+
+            decisions.add(ProviderRoutingDecision.builder()
+                    .agency(key(agency))
+                    .strategy(strategy != null ? strategy.getSearchProvider() : null)
+                    .provider(route.provider())
+                    .reason(route.reason())
+                    .successRate(snapshot.samples() > 0
+                            ? BigDecimal.valueOf(snapshot.successRate()).setScale(4, RoundingMode.HALF_UP)
+                            : null)
+                    .latencyMs(snapshot.samples() > 0 ? snapshot.latencyMs() : null)
+                    .estimatedCost(route.isFreeApi() ? null : costOf(strategy))
+                    .hsCode(hsCode)
+                    .decidedAt(now)
+                    .build());
+        }
+
+        try {
+            decisionRepository.saveAll(decisions);
+        } catch (Exception e) {
+            log.warn("⚠️ 데이터 소스 선택 기록 저장 실패: {}", e.getMessage());
+        }
+        return routes;
+    }
+
+    private Route decide(String agency, AgencySearchStrategy strategy, GovApiHealth.Snapshot snapshot) {
+        if (!properties.isEnabled()) {
+            return new Route(agency, FREE_API, "routing_disabled");
+        }
+        String provider = strategy != null && strategy.getSearchProvider() != null
+                ? strategy.getSearchProvider().toLowerCase(Locale.ROOT)
+                : FREE_API;
+
+        if (TAVILY.equals(provider)) {
+            return escalate(agency, strategy, "paid_strategy");
+        }
+        if (!HYBRID.equals(provider)) {
+            return new Route(agency, FREE_API, "free_strategy");
+        }
+
+        if (snapshot.samples() < properties.getMinSamples()) {
+            return new Route(agency, FREE_API, "insufficient_samples");
+        }
+        boolean unhealthy = snapshot.successRate() < properties.getMinSuccessRate();
+        boolean slow = snapshot.latencyMs() > properties.getMaxLatencyMs();
+        if (!unhealthy && !slow) {
+            return new Route(agency, FREE_API, "healthy");
+        }
+        // 전환된 기관은 무료 API를 호출하지 않아 상태가 그대로 굳으므로 일부는 무료 API로 보내 표본을 계속 쌓음
+        if (ThreadLocalRandom.current().nextDouble() < properties.getProbeRate()) {
+            return new Route(agency, FREE_API, "probe");
+        }
+        return escalate(agency, strategy, unhealthy ? "unhealthy" : "slow");
+    }
+
+    /**
+     * 유료 검색으로 전환 (예산을 넘으면 무료 API 유지)
+     * hybrid 전략은 유료 검색 제공자(tavily)로 기록하고, 유료 제공자를 직접 지정한 전략은 그 값을 그대로 사용
+     */
+    private Route escalate(String agency, AgencySearchStrategy strategy, String reason) {
+        if (!reserveBudget(costOf(strategy))) {
+            log.info("💸 {} 유료 검색 예산 소진 - 무료 API 유지 (사유: {})", key(agency), reason);
+            return new Route(agency, FREE_API, "budget_exhausted");
+        }
+        log.info("🔀 {} 유료 검색으로 전환 - 사유: {}", key(agency), reason);
+        String provider = strategy.getSearchProvider().toLowerCase(Locale.ROOT);
+        return new Route(agency, HYBRID.equals(provider) ? TAVILY : provider, reason);
+    }
+
+    private synchronized boolean reserveBudget(BigDecimal cost) {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(spendDate)) {
+            spendDate = today;
+            try {
+                spentToday = decisionRepository.sumEstimatedCostSince(today.atStartOfDay());
+            } catch (Exception e) {
+                log.warn("⚠️ 오늘 유료 검색 비용 조회 실패 - 0부터 집계: {}", e.getMessage());
+                spentToday = BigDecimal.ZERO;
+            }
+        }
+        BigDecimal next = spentToday.add(cost);
+        if (next.compareTo(properties.getDailyBudget()) > 0) {
+            return false;
+        }
+        spentToday = next;
+        return true;
+    }
+
+    /**
+     * agency_search_strategies 재조회
+     */
+    @Scheduled(fixedDelayString = "${requirements.routing.refresh-interval-ms:60000}")
+    public void refreshStrategies() {
+        try {
+            Map<String, AgencySearchStrategy> loaded = new HashMap<>();
+            for (AgencySearchStrategy strategy : strategyRepository.findByIsActiveTrue()) {
+                loaded.put(key(strategy.getAgencyName()), strategy);
+            }
+            strategies = Map.copyOf(loaded);
+        } catch (Exception e) {
+            log.warn("⚠️ 기관별 검색 전략 재조회 실패 - 기존 설정 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 선택 기록 삭제
+     */
+    @Scheduled(cron = "${requirements.routing.audit-purge-cron:0 30 3 * * *}")
+    public void purgeAudit() {
+        try {
+            int deleted = decisionRepository.deleteOlderThan(LocalDateTime.now().minusDays(properties.getAuditRetentionDays()));
+            if (deleted > 0) {
+                log.info("🧹 데이터 소스 선택 기록 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 데이터 소스 선택 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기관별 전략 / 무료 API 상태 / 오늘 예산 사용량
+     */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        Map<String, Object> agencies = new LinkedHashMap<>();
+        strategies.forEach((agency, strategy) -> agencies.put(agency, Map.of(
+                "strategy", strategy.getSearchProvider(),
+                "costPerRequest", costOf(strategy))));
+        status.put("strategies", agencies);
+        status.put("freeApiHealth", health.snapshots());
+        status.put("dailyBudget", properties.getDailyBudget());
+        status.put("spentToday", LocalDate.now().equals(spendDate) ? spentToday : BigDecimal.ZERO);
+        return status;
+    }
+
+    private static BigDecimal costOf(AgencySearchStrategy strategy) {
+        return strategy != null && strategy.getCostPerRequest() != null ? strategy.getCostPerRequest() : BigDecimal.ZERO;
+    }
+
+    private static String key(String agency) {
+        return agency.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -9,6 +9,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -24,8 +29,13 @@ import java.util.Optional;
 @Slf4j
 public class RequirementsApiClient {
     
+    @Qualifier("govApiRestTemplate")
     private final RestTemplate restTemplate;
     
+    private final GovApiRateLimiter rateLimiter;
+    
+    private final GovApiHealth govApiHealth;
+    
     @Value("${requirements.api.usdaKey:}")
     private String usdaKey;
     
@@ -46,66 +56,43 @@ public class RequirementsApiClient {
      * 쿼리 필드 강화: brand_name + product_description 병행 검색
      */
     public Optional<JsonNode> callOpenFdaCosmeticEvent(String productName) {
-        try {
-            String url = "https://api.fda.gov/cosmetics/event.json";
-            // 브랜드명 또는 제품 설명에서 검색
-            String searchQuery = "products.brand_name:\"" + productName + "\" OR products.product_description:\"" + productName + "\"";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("search", searchQuery)
-                    .queryParam("limit", 10);
-            
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                    builder.toUriString(), JsonNode.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Optional.of(response.getBody());
-            }
-            
-        } catch (Exception e) {
-            log.error("FDA Cosmetics Event API 호출 실패: {}", e.getMessage());
-        }
-        
-        return Optional.empty();
+        return fetchOpenFdaCosmeticEvent(productName).body();
+    }
+
+    public GovApiResponse fetchOpenFdaCosmeticEvent(String productName) {
+        String url = "https://api.fda.gov/cosmetics/event.json";
+        // 브랜드명 또는 제품 설명에서 검색
+        String searchQuery = "products.brand_name:\"" + productName + "\" OR products.product_description:\"" + productName + "\"";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("search", searchQuery)
+                .queryParam("limit", 10);
+
+        return fetch("FDA", "FDA Cosmetics Event API", builder.toUriString());
     }
     
     /**
      * EPA CompTox Chemical Search API 호출
      */
     public Optional<JsonNode> callEpaCompToxSearch(String query) {
-        try {
-            String url = "https://comptox.epa.gov/dashboard/api/chemical/search";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("search", query)
-                    .queryParam("limit", 10);
-            
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                    builder.toUriString(), JsonNode.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Optional.of(response.getBody());
-            }
-            
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            // 4xx 에러는 간단히 로깅
-            log.warn("EPA CompTox API 호출 실패 ({}): {}", e.getStatusCode(), e.getMessage().split("\n")[0]);
-        } catch (org.springframework.web.client.RestClientException e) {
-            // HTML 응답 등 파싱 실패는 간단히 로깅
-            String shortMsg = e.getMessage();
-            if (shortMsg != null && shortMsg.length() > 100) {
-                shortMsg = shortMsg.substring(0, 100) + "...";
-            }
-            log.warn("EPA CompTox API 응답 파싱 실패: {}", shortMsg);
-        } catch (Exception e) {
-            log.error("EPA CompTox API 호출 중 예외: {}", e.getClass().getSimpleName());
-        }
-        
-        return Optional.empty();
+        return fetchEpaCompToxSearch(query).body();
+    }
+
+    public GovApiResponse fetchEpaCompToxSearch(String query) {
+        String url = "https://comptox.epa.gov/dashboard/api/chemical/search";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("search", query)
+                .queryParam("limit", 10);
+
+        return fetch("EPA", "EPA CompTox API", builder.toUriString());
     }
     
     /**
      * EPA Envirofacts Chemical Search API 호출
      */
     public Optional<JsonNode> callEpaEnvirofactsSearch(String query) {
+        if (!rateLimiter.acquire("EPA")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://data.epa.gov/efservice/srs.srs_chemicals/chem_name/LIKE/{query}/JSON";
             String formattedUrl = url.replace("{query}", query);
@@ -128,53 +115,37 @@ public class RequirementsApiClient {
      * USDA FoodData Central API 호출
      */
     public Optional<JsonNode> callUsdaFoodDataCentralSearch(String query, String dataType) {
-        try {
-            String url = "https://api.nal.usda.gov/fdc/v1/foods/search";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("api_key", usdaKey)
-                    .queryParam("query", query)
-                    .queryParam("pageSize", 10);
-            
-            if (dataType != null && !dataType.isEmpty()) {
-                builder.queryParam("dataType", dataType);
-            }
-            
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                    builder.toUriString(), JsonNode.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Optional.of(response.getBody());
-            }
-            
-        } catch (Exception e) {
-            log.error("USDA FoodData Central API 호출 실패: {}", e.getMessage());
+        return fetchUsdaFoodDataCentralSearch(query, dataType).body();
+    }
+
+    public GovApiResponse fetchUsdaFoodDataCentralSearch(String query, String dataType) {
+        String url = "https://api.nal.usda.gov/fdc/v1/foods/search";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("api_key", usdaKey)
+                .queryParam("query", query)
+                .queryParam("pageSize", 10);
+
+        if (dataType != null && !dataType.isEmpty()) {
+            builder.queryParam("dataType", dataType);
         }
-        
-        return Optional.empty();
+
+        return fetch("USDA", "USDA FoodData Central API", builder.toUriString());
     }
 
     /**
      * FDA Food Enforcement API 호출 (단일 키워드)
      */
     public Optional<JsonNode> callOpenFdaFoodEnforcement(String productName) {
-        try {
-            String url = "https://api.fda.gov/food/enforcement.json";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("search", "product_description:\"" + productName + "\"")
-                    .queryParam("limit", 10);
-
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                    builder.toUriString(), JsonNode.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Optional.of(response.getBody());
-            }
+        return fetchOpenFdaFoodEnforcement(productName).body();
+    }
 
-        } catch (Exception e) {
-            log.error("FDA Food Enforcement API 호출 실패: {}", e.getMessage());
-        }
+    public GovApiResponse fetchOpenFdaFoodEnforcement(String productName) {
+        String url = "https://api.fda.gov/food/enforcement.json";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("search", "product_description:\"" + productName + "\"")
+                .queryParam("limit", 10);
 
-        return Optional.empty();
+        return fetch("FDA", "FDA Food Enforcement API", builder.toUriString());
     }
 
     /**
@@ -182,35 +153,29 @@ public class RequirementsApiClient {
      * 예: ["serum", "vitamin", "cosmetic"] → product_description:serum OR product_description:vitamin OR product_description:cosmetic
      */
     public Optional<JsonNode> callOpenFdaFoodEnforcementWithKeywords(List<String> keywords) {
+        return fetchOpenFdaFoodEnforcementWithKeywords(keywords).body();
+    }
+
+    public GovApiResponse fetchOpenFdaFoodEnforcementWithKeywords(List<String> keywords) {
         if (keywords == null || keywords.isEmpty()) {
-            return Optional.empty();
+            return GovApiResponse.failed(GovApiResponse.Outcome.EMPTY);
         }
 
-        try {
-            // OR 쿼리 생성 (공백은 +로 인코딩)
-            String orQuery = keywords.stream()
-                    .map(kw -> "product_description:" + kw)
-                    .collect(java.util.stream.Collectors.joining("+OR+"));
-
-            String url = "https://api.fda.gov/food/enforcement.json?search=" + orQuery + "&limit=20";
-
-            log.info("🔍 FDA OR 쿼리 시도: {}", orQuery);
-            log.debug("📡 FDA URL: {}", url);
+        // OR 쿼리 생성 (공백은 +로 인코딩)
+        String orQuery = keywords.stream()
+                .map(kw -> "product_description:" + kw)
+                .collect(java.util.stream.Collectors.joining("+OR+"));
 
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(url, JsonNode.class);
+        String url = "https://api.fda.gov/food/enforcement.json?search=" + orQuery + "&limit=20";
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode body = response.getBody();
-                int resultCount = body.has("results") ? body.get("results").size() : 0;
-                log.info("✅ FDA OR 쿼리 성공: {} 결과", resultCount);
-                return Optional.of(body);
-            }
+        log.info("🔍 FDA OR 쿼리 시도: {}", orQuery);
+        log.debug("📡 FDA URL: {}", url);
 
-        } catch (Exception e) {
-            log.error("❌ FDA Food Enforcement OR 쿼리 실패: {}", e.getMessage());
+        GovApiResponse response = fetch("FDA", "FDA Food Enforcement OR 쿼리", url);
+        if (response.isOk()) {
+            log.info("✅ FDA OR 쿼리 성공");
         }
-
-        return Optional.empty();
+        return response;
     }
 
     /**
@@ -228,6 +193,9 @@ public class RequirementsApiClient {
      * EPA SRS Chemname API 호출
      */
     public Optional<JsonNode> callEpaSrsChemname(String chemname) {
+        if (!rateLimiter.acquire("EPA")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://cdxapps.epa.gov/ords/srs/srs_api/chemname/" + chemname;
             ResponseEntity<JsonNode> response = restTemplate.getForEntity(url, JsonNode.class);
@@ -244,30 +212,25 @@ public class RequirementsApiClient {
      * CPSC Recalls API 호출
      */
     public Optional<JsonNode> callCpscRecallsJson(String productName) {
-        try {
-            String url = "https://www.cpsc.gov/Recalls/CPSC-Recalls-API/recalls.json";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("search", productName)
-                    .queryParam("limit", 10);
-            
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                    builder.toUriString(), JsonNode.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Optional.of(response.getBody());
-            }
-            
-        } catch (Exception e) {
-            log.error("CPSC Recalls API 호출 실패: {}", e.getMessage());
-        }
-        
-        return Optional.empty();
+        return fetchCpscRecallsJson(productName).body();
+    }
+
+    public GovApiResponse fetchCpscRecallsJson(String productName) {
+        String url = "https://www.cpsc.gov/Recalls/CPSC-Recalls-API/recalls.json";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("search", productName)
+                .queryParam("limit", 10);
+
+        return fetch("CPSC", "CPSC Recalls API", builder.toUriString());
     }
     
     /**
      * FCC Device Authorization API 호출 (OpenData Socrata)
      */
     public Optional<JsonNode> callFccDeviceAuthorizationGrants(String deviceName) {
+        if (!rateLimiter.acquire("FCC")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://opendata.fcc.gov/resource/3b3k-34jp.json";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -293,6 +256,9 @@ public class RequirementsApiClient {
      * CBP Trade Statistics API 호출
      */
     public Optional<JsonNode> callCbpTradeStatisticsHsCodes(String hsCode, String country) {
+        if (!rateLimiter.acquire("CBP")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://api.cbp.gov/trade/statistics/hs-codes";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -325,6 +291,9 @@ public class RequirementsApiClient {
      * NTIA Spectrum Data API 호출
      */
     public Optional<JsonNode> callNtiaSpectrumData(String query) {
+        if (!rateLimiter.acquire("NTIA")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://www.ntia.gov/data/spectrum-map";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -349,6 +318,9 @@ public class RequirementsApiClient {
      * DOT Safety Data API 호출
      */
     public Optional<JsonNode> callDotSafetyData(String query) {
+        if (!rateLimiter.acquire("DOT")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://www.nhtsa.gov/api";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -373,6 +345,9 @@ public class RequirementsApiClient {
      * DOE Energy Data API 호출
      */
     public Optional<JsonNode> callDoeEnergyData(String query) {
+        if (!rateLimiter.acquire("DOE")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://api.eia.gov/petroleum";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -397,6 +372,9 @@ public class RequirementsApiClient {
      * DOI Natural Resources API 호출
      */
     public Optional<JsonNode> callDoiNaturalResources(String query) {
+        if (!rateLimiter.acquire("DOI")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://data.doi.gov/Minerals";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -421,6 +399,9 @@ public class RequirementsApiClient {
      * DOL Employment Data API 호출
      */
     public Optional<JsonNode> callDolEmploymentData(String query) {
+        if (!rateLimiter.acquire("DOL")) {
+            return Optional.empty();
+        }
         try {
             String url = "https://api.dol.gov/unemployment";
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -446,45 +427,99 @@ public class RequirementsApiClient {
      * 대한민국 CTY_CODE=5800 사용
      */
     public Optional<JsonNode> callCensusInternationalTradeHs(String hsCode, String tradeType, String year, String month) {
+        return fetchCensusInternationalTradeHs(hsCode, tradeType, year, month).body();
+    }
+
+    public GovApiResponse fetchCensusInternationalTradeHs(String hsCode, String tradeType, String year, String month) {
+        // tradeType: "imports" 또는 "exports"
+        String url = "https://api.census.gov/data/timeseries/intltrade/" + tradeType + "/hs";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("get", "CTY_CODE,HS,COMM_LVL,GEN_VAL_MO")
+                .queryParam("time", year + "-" + month)
+                .queryParam("CTY_CODE", "5800")  // 대한민국
+                .queryParam("COMM_LVL", "HS6");
+
+        // HS 코드 지정 (선택적)
+        if (hsCode != null && !hsCode.isEmpty()) {
+            builder.queryParam("HS", hsCode);
+        }
+
+        // Census API 키 추가
+        if (censusKey != null && !censusKey.isEmpty()) {
+            builder.queryParam("key", censusKey);
+        }
+
+        return fetch("CENSUS", "Census API", builder.toUriString());
+    }
+
+    /**
+     * 기관 호출 제한 확인 후 GET 호출 (제한에 걸리면 호출하지 않고 RATE_LIMITED)
+     * 결과와 응답 시간은 데이터 소스 선택에 쓰이도록 기관별 상태에 기록
+     */
+    private GovApiResponse fetch(String agency, String apiName, String url) {
+        if (!rateLimiter.acquire(agency)) {
+            govApiHealth.record(agency, GovApiResponse.Outcome.RATE_LIMITED, 0);
+            return GovApiResponse.failed(GovApiResponse.Outcome.RATE_LIMITED);
+        }
+        long start = System.nanoTime();
+        GovApiResponse response = exchange(agency, apiName, url);
+        govApiHealth.record(agency, response.outcome(), (System.nanoTime() - start) / 1_000_000);
+        return response;
+    }
+
+    /**
+     * GET 호출 후 결과 분류 (예외는 로그만 남기고 Outcome으로 변환)
+     */
+    private GovApiResponse exchange(String agency, String apiName, String url) {
         try {
-            // tradeType: "imports" 또는 "exports"
-            String url = "https://api.census.gov/data/timeseries/intltrade/" + tradeType + "/hs";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("get", "CTY_CODE,HS,COMM_LVL,GEN_VAL_MO")
-                    .queryParam("time", year + "-" + month)
-                    .queryParam("CTY_CODE", "5800")  // 대한민국
-                    .queryParam("COMM_LVL", "HS6");
-            
-            // HS 코드 지정 (선택적)
-            if (hsCode != null && !hsCode.isEmpty()) {
-                builder.queryParam("HS", hsCode);
+            // 본문은 문자열로 받아 트리를 만들지 않음 (형식 확인과 내용 해시를 한 번의 스트리밍 패스로)
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            String body = response.getBody();
+
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                return GovApiResponse.failed(GovApiResponse.Outcome.CLIENT_ERROR);
             }
-            
-            // Census API 키 추가
-            if (censusKey != null && !censusKey.isEmpty()) {
-                builder.queryParam("key", censusKey);
+            if (body == null || body.isBlank()) {
+                return GovApiResponse.failed(GovApiResponse.Outcome.EMPTY);
             }
-            
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                    builder.toUriString(), JsonNode.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Optional.of(response.getBody());
+            Optional<GovApiPayload> payload = GovApiPayload.parse(body);
+            if (payload.isEmpty()) {
+                log.warn("{} 응답 파싱 실패: JSON이 아닌 응답", apiName);
+                return GovApiResponse.failed(GovApiResponse.Outcome.PARSE_ERROR);
             }
-            
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            log.warn("Census API 호출 실패 ({}): {}", e.getStatusCode(), e.getMessage().split("\n")[0]);
-        } catch (org.springframework.web.client.RestClientException e) {
+            return GovApiResponse.ok(payload.get());
+
+        } catch (HttpClientErrorException e) {
+            // 4xx 에러는 간단히 로깅 (429는 일시적 오류로 분류)
+            log.warn("{} 호출 실패 ({}): {}", apiName, e.getStatusCode(), firstLine(e.getMessage()));
+            if (e.getStatusCode().value() == 404) {
+                return GovApiResponse.failed(GovApiResponse.Outcome.NOT_FOUND);
+            }
+            if (e.getStatusCode().value() == 429) {
+                rateLimiter.onThrottled(agency);
+            }
+            return GovApiResponse.failed(e.getStatusCode().value() == 429
+                    ? GovApiResponse.Outcome.TRANSIENT_ERROR
+                    : GovApiResponse.Outcome.CLIENT_ERROR);
+        } catch (HttpServerErrorException | ResourceAccessException e) {
+            log.warn("{} 호출 실패 (일시적 오류): {}", apiName, firstLine(e.getMessage()));
+            return GovApiResponse.failed(GovApiResponse.Outcome.TRANSIENT_ERROR);
+        } catch (RestClientException e) {
+            // HTML 응답 등 파싱 실패는 간단히 로깅
             String shortMsg = e.getMessage();
             if (shortMsg != null && shortMsg.length() > 100) {
                 shortMsg = shortMsg.substring(0, 100) + "...";
             }
-            log.warn("Census API 응답 파싱 실패: {}", shortMsg);
+            log.warn("{} 응답 파싱 실패: {}", apiName, shortMsg);
+            return GovApiResponse.failed(GovApiResponse.Outcome.PARSE_ERROR);
         } catch (Exception e) {
-            log.error("Census API 호출 중 예외: {}", e.getClass().getSimpleName());
+            log.error("{} 호출 중 예외: {}", apiName, e.getClass().getSimpleName());
+            return GovApiResponse.failed(GovApiResponse.Outcome.TRANSIENT_ERROR);
         }
-        
-        return Optional.empty();
+    }
+
+    private static String firstLine(String message) {
+        return message != null ? message.split("\n")[0] : "";
     }
     
     /**
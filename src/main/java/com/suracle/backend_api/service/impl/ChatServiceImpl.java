@@ -13,6 +13,7 @@ import com.suracle.backend_api.entity.user.User;
 import com.suracle.backend_api.repository.ChatMessageRepository;
 import com.suracle.backend_api.repository.ChatSessionRepository;
 import com.suracle.backend_api.repository.UserRepository;
+import com.suracle.backend_api.service.ChatRetentionService;
 import com.suracle.backend_api.service.ChatService2;
 import com.suracle.backend_api.service.impl.ChatAiService;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +21,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,6 +38,7 @@ public class ChatServiceImpl implements ChatService2 {
         private final ChatMessageRepository chatMessageRepository;
         private final UserRepository userRepository;
         private final ChatAiService chatAiService;
+        private final ChatRetentionService chatRetentionService;
 
         @Override
         public ChatSessionResponseDto createSession(ChatSessionRequestDto requestDto) {
@@ -176,23 +179,11 @@ public class ChatServiceImpl implements ChatService2 {
         }
 
         @Override
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         public int cleanupExpiredData(int expiredHours) {
-                log.info("만료된 데이터 정리 시작 - 만료 시간: {}시간", expiredHours);
-
-                LocalDateTime expiredTime = LocalDateTime.now().minusHours(expiredHours);
-
-                // 만료된 메시지 삭제
-                List<ChatMessage> expiredMessages = chatMessageRepository.findExpiredMessages(expiredTime);
-                chatMessageRepository.deleteAll(expiredMessages);
-
-                // 만료된 세션 삭제
-                List<ChatSession> expiredSessions = chatSessionRepository.findExpiredSessions(expiredTime);
-                chatSessionRepository.deleteAll(expiredSessions);
-
-                int totalCleaned = expiredMessages.size() + expiredSessions.size();
-                log.info("만료된 데이터 정리 완료 - 삭제된 항목 수: {}", totalCleaned);
-
-                return totalCleaned;
+                // 배치마다 따로 커밋되도록 트랜잭션 밖에서 실행
+                Map<String, Object> report = chatRetentionService.purge(expiredHours);
+                return (Integer) report.get("messagesDeleted") + (Integer) report.get("sessionsDeleted");
         }
 
         @Override
@@ -8,26 +8,26 @@ import com.suracle.backend_api.repository.HsCodeAnalysisRepository;
 import com.suracle.backend_api.service.HsCodeAnalysisService;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
-@Transactional
 public class HsCodeAnalysisServiceImpl implements HsCodeAnalysisService {
 
     private final HsCodeAnalysisRepository hsCodeAnalysisRepository;
@@ -36,42 +36,45 @@ public class HsCodeAnalysisServiceImpl implements HsCodeAnalysisService {
     private String aiEngineUrl;
     
     private final RestTemplate restTemplate;
+
+    private final TransactionTemplate transactionTemplate;
     
-    public HsCodeAnalysisServiceImpl(HsCodeAnalysisRepository hsCodeAnalysisRepository) {
+    public HsCodeAnalysisServiceImpl(HsCodeAnalysisRepository hsCodeAnalysisRepository,
+                                     @Qualifier("hsCodeRestTemplate") RestTemplate restTemplate,
+                                     PlatformTransactionManager transactionManager) {
         this.hsCodeAnalysisRepository = hsCodeAnalysisRepository;
-        
-        // RestTemplate 설정 (180초 타임아웃 - LLM + 판례 검색 고려)
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(180));
-        factory.setReadTimeout(Duration.ofSeconds(180));
-        
-        this.restTemplate = new RestTemplate(factory);
+        // 요구사항 분석(최대 20분)과 분리된 짧은 타임아웃 사용 (http.client.profiles.hs-code)
+        this.restTemplate = restTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * AI 엔진 호출은 트랜잭션 밖에서 하고, 결과 교체(삭제 + 저장)만 짧은 트랜잭션으로 묶음
+     * (응답을 기다리는 동안 DB 커넥션을 점유하지 않도록)
+     */
     @Override
     public HsCodeAnalysisResponseDto analyzeHsCode(HsCodeAnalysisRequestDto request) {
         log.info("📥 HS코드 분석 요청 - 상품명: {}, 세션ID: {}", request.getProductName(), request.getAnalysisSessionId());
         
         // 세션 ID가 없으면 새로 생성
-        String sessionId = request.getAnalysisSessionId();
-        if (sessionId == null || sessionId.isEmpty()) {
-            sessionId = UUID.randomUUID().toString();
-        }
-        
-        // 기존 분석 결과 삭제 (같은 세션의 이전 결과)
-        List<HsCodeAnalysis> existingAnalyses = hsCodeAnalysisRepository
-            .findByAnalysisSessionIdOrderByConfidenceScoreDesc(sessionId);
-        if (!existingAnalyses.isEmpty()) {
-            hsCodeAnalysisRepository.deleteAll(existingAnalyses);
-        }
+        String sessionId = request.getAnalysisSessionId() == null || request.getAnalysisSessionId().isEmpty()
+            ? UUID.randomUUID().toString()
+            : request.getAnalysisSessionId();
         
         try {
-            // AI 엔진 호출
+            // AI 엔진 호출 (트랜잭션 밖)
             HsCodeAnalysisResponseDto aiResponse = callAiEngine(request);
             
-            // AI 응답을 DB에 저장
+            // 기존 분석 결과(같은 세션의 이전 결과)를 AI 응답으로 교체
             List<HsCodeAnalysis> analyses = convertAiResponseToEntities(aiResponse, request, sessionId);
-            hsCodeAnalysisRepository.saveAll(analyses);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<HsCodeAnalysis> existingAnalyses = hsCodeAnalysisRepository
+                    .findByAnalysisSessionIdOrderByConfidenceScoreDesc(sessionId);
+                if (!existingAnalyses.isEmpty()) {
+                    hsCodeAnalysisRepository.deleteAll(existingAnalyses);
+                }
+                hsCodeAnalysisRepository.saveAll(analyses);
+            });
             
             // AI 응답을 직접 사용 (변환 불필요)
             return HsCodeAnalysisResponseDto.builder()
@@ -105,6 +108,7 @@ public class HsCodeAnalysisServiceImpl implements HsCodeAnalysisService {
     }
 
     @Override
+    @Transactional
     public HsCodeAnalysisResponseDto.HsCodeSuggestionDto selectHsCode(HsCodeSelectionDto selection) {
         log.info("HS코드 선택 - 분석ID: {}, 세션ID: {}", selection.getAnalysisId(), selection.getAnalysisSessionId());
         
@@ -1,12 +1,14 @@
 package com.suracle.backend_api.service.impl;
 
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.suracle.backend_api.dto.analysis.HsCodeAnalysisRequestDto;
 import com.suracle.backend_api.dto.analysis.HsCodeAnalysisResponseDto;
 import com.suracle.backend_api.service.HsCodeGraphService;
+import com.suracle.backend_api.service.http.AiEngineClient;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +25,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 public class HsCodeGraphServiceImpl implements HsCodeGraphService {
 
-  private final RestTemplate rtb;
+  private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+  private final AiEngineClient aiEngineClient;
+  private final ObjectMapper objectMapper;
 
   private final String fastApiBase = System.getenv().getOrDefault("SERVICES_FASTAPI_GRAPH_BASE",
       "http://localhost:8000");
@@ -31,11 +36,12 @@ public class HsCodeGraphServiceImpl implements HsCodeGraphService {
   @Override
   public HsCodeAnalysisResponseDto analyzeViaFastApi(HsCodeAnalysisRequestDto req) {
     String url = fastApiBase + "/api/hs-code/analyze-graph";
-    ResponseEntity<Map> res = rtb.postForEntity(url, req, Map.class);
-    if (!res.getStatusCode().is2xxSuccessful() || res.getBody() == null) {
-      throw new IllegalStateException("FastAPI analyze-graph failed: " + res.getStatusCode());
+    // 서킷 브레이커 + hs-code-graph 정책의 적응형 타임아웃(하한/상한) 적용
+    Map<String, Object> body = aiEngineClient.post("hs-code-graph", url, objectMapper.convertValue(req, MAP_TYPE))
+        .block();
+    if (body == null) {
+      throw new IllegalStateException("FastAPI analyze-graph failed: empty response");
     }
-    Map<String, Object> body = (Map<String, Object>) res.getBody();
     String sessionId = Objects.toString(body.get("analysisSessionId"), UUID.randomUUID().toString());
     List<Map<String, Object>> raw = (List<Map<String, Object>>) body.getOrDefault("suggestions", List.of());
 
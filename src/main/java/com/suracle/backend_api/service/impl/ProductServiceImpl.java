@@ -16,19 +16,30 @@ import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
 import com.suracle.backend_api.repository.ProductRepository;
 import com.suracle.backend_api.repository.UserRepository;
 import com.suracle.backend_api.service.AiWorkflowService;
+import com.suracle.backend_api.service.AnalysisFanOutService;
+import com.suracle.backend_api.service.AnalysisQueueService;
 import com.suracle.backend_api.service.ProductService;
+import com.suracle.backend_api.service.cache.AnalysisPayloadStore;
+import com.suracle.backend_api.service.cache.AnalysisResultCache;
+import com.suracle.backend_api.service.cache.AnalysisResultCache.CachedAnalysis;
+import com.suracle.backend_api.service.cache.CacheMetrics;
+import com.suracle.backend_api.service.cache.RequirementsRefreshCoordinator;
+import com.suracle.backend_api.service.event.AnalysisProgressEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -39,8 +50,14 @@ public class ProductServiceImpl implements ProductService {
     private final UserRepository userRepository;
     private final HsCodeRepository hsCodeRepository;
     private final ProductAnalysisCacheRepository productAnalysisCacheRepository;
+    private final AnalysisResultCache analysisResultCache;
+    private final AnalysisPayloadStore analysisPayloadStore;
+    private final CacheMetrics cacheMetrics;
+    private final RequirementsRefreshCoordinator refreshCoordinator;
     private final AiWorkflowService aiWorkflowService;
+    private final AnalysisQueueService analysisQueueService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -78,33 +95,9 @@ public class ProductServiceImpl implements ProductService {
         // 백그라운드 분석 스케줄링 (HS코드가 있는 경우에만)
         if (savedProduct.getHsCode() != null && !savedProduct.getHsCode().trim().isEmpty()) {
             log.info("HS코드가 존재하여 백그라운드 AI 분석 스케줄링 - 상품 ID: {}", savedProduct.getProductId());
-            
-            // 비동기로 분석 실행
-            CompletableFuture.runAsync(() -> {
-                try {
-                    log.info("백그라운드 분석 시작 - 상품 ID: {}", savedProduct.getProductId());
-                    
-                    // 1. 판례 분석
-                    Map<String, Object> precedentsResult = aiWorkflowService.executePrecedentsAnalysis(savedProduct);
-                    savePrecedentsAnalysisResult(savedProduct, precedentsResult);
-                    log.info("판례 분석 완료 - 상품 ID: {}", savedProduct.getProductId());
-                    
-                    // 2. 요구사항 분석
-                    boolean shouldRunRequirements = shouldRunRequirementsAnalysis(savedProduct);
-                    if (shouldRunRequirements) {
-                        Map<String, Object> requirementsResult = aiWorkflowService.executeRequirementsAnalysis(savedProduct);
-                        saveRequirementsAnalysisResult(savedProduct, requirementsResult);
-                        log.info("요구사항 분석 완료 - 상품 ID: {}", savedProduct.getProductId());
-                    } else {
-                        log.info("요구사항 분석 스킵 (캐시 존재) - 상품 ID: {}", savedProduct.getProductId());
-                    }
-                    
-                    log.info("백그라운드 분석 완료 - 상품 ID: {}", savedProduct.getProductId());
-                    
-                } catch (Exception e) {
-                    log.error("백그라운드 분석 실행 실패 - 상품 ID: {}, 오류: {}", savedProduct.getProductId(), e.getMessage(), e);
-                }
-            });
+
+            // 분석 큐에 적재 (상품 저장과 같은 트랜잭션으로 커밋되며, 워커가 순서대로 처리)
+            analysisQueueService.enqueue(savedProduct, AnalysisFanOutService.ALL_ANALYSIS_TYPES);
         }
 
         return convertToProductResponseDto(savedProduct);
@@ -273,22 +266,16 @@ public class ProductServiceImpl implements ProductService {
             
             log.info("상품 정보 조회 완료 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
             
-            // ProductAnalysisCache에서 precedents 분석 결과 조회
-            Optional<ProductAnalysisCache> cache = productAnalysisCacheRepository
-                    .findByProductIdAndAnalysisType(product.getId(), "precedents");
+            // precedents 분석 결과 조회 (메모리 캐시 → product_analysis_cache)
+            Optional<CachedAnalysis> cache = analysisResultCache.get(product.getId(), "precedents");
             
             if (cache.isPresent()) {
                 log.info("캐시에서 판례 분석 결과 발견 - 상품 ID: {}", productId);
                 
-                ProductAnalysisCache analysisCache = cache.get();
-                JsonNode analysisResultJson = analysisCache.getAnalysisResult();
+                Map<String, Object> analysisResult = cache.get().result();
                 
-                if (analysisResultJson != null && !analysisResultJson.isEmpty()) {
+                if (!analysisResult.isEmpty()) {
                     try {
-                        // JSON을 Map으로 변환
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> analysisResult = objectMapper.convertValue(analysisResultJson, Map.class);
-                        
                         // PrecedentsResponseDto로 변환
                         PrecedentsResponseDto responseDto = convertToPrecedentsDto(analysisResult);
                         
@@ -438,14 +425,16 @@ public class ProductServiceImpl implements ProductService {
             if (existingCache.isPresent()) {
                 // 기존 캐시 업데이트
                 ProductAnalysisCache cache = existingCache.get();
-                cache.setAnalysisResult(analysisResultJson);
+                analysisPayloadStore.attach(cache, product.getHsCode(), analysisResultJson);
                 cache.setConfidenceScore(java.math.BigDecimal.valueOf(extractConfidenceScore(analysisResult)));
                 cache.setIsValid(extractIsValid(analysisResult));
                 cache.setSources(objectMapper.valueToTree(extractSources(analysisResult)));
                 cache.setUpdatedAt(LocalDateTime.now());
                 
                 productAnalysisCacheRepository.save(cache);
+                analysisResultCache.evict(product.getId(), "requirements");
                 log.info("요구사항 분석 결과 업데이트 완료 - 상품 ID: {}", product.getProductId());
+                publishAnalysisCompleted(product, "requirements");
                 
             } else {
                 // 새 캐시 생성 (중복 가능성 체크)
@@ -455,14 +444,16 @@ public class ProductServiceImpl implements ProductService {
                     ProductAnalysisCache cache = ProductAnalysisCache.builder()
                         .product(product)
                         .analysisType("requirements")
-                        .analysisResult(analysisResultJson)
                         .confidenceScore(java.math.BigDecimal.valueOf(extractConfidenceScore(analysisResult)))
                         .isValid(extractIsValid(analysisResult))
                         .sources(objectMapper.valueToTree(sources))
                         .build();
+                    analysisPayloadStore.attach(cache, product.getHsCode(), analysisResultJson);
                     
                     productAnalysisCacheRepository.save(cache);
+                    analysisResultCache.evict(product.getId(), "requirements");
                     log.info("요구사항 분석 결과 저장 완료 - 상품 ID: {}", product.getProductId());
+                    publishAnalysisCompleted(product, "requirements");
                     
                 } catch (Exception duplicateError) {
                     if (duplicateError.getMessage() != null && 
@@ -485,8 +476,13 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public void saveAnalysisResult(Product product, Map<String, Object> analysisResult) {
+        String analysisType = (String) analysisResult.getOrDefault("analysis_type", "precedents");
+        saveAnalysisResult(product, analysisType, analysisResult);
+    }
+
+    @Override
+    public void saveAnalysisResult(Product product, String analysisType, Map<String, Object> analysisResult) {
         try {
-            String analysisType = (String) analysisResult.getOrDefault("analysis_type", "precedents");
             JsonNode analysisResultJson = objectMapper.valueToTree(analysisResult);
 
             ProductAnalysisCache cache = productAnalysisCacheRepository
@@ -496,7 +492,7 @@ public class ProductServiceImpl implements ProductService {
                             .analysisType(analysisType)
                             .build());
 
-            cache.setAnalysisResult(analysisResultJson);
+            analysisPayloadStore.attach(cache, product.getHsCode(), analysisResultJson);
             if (analysisResult.containsKey("sources")) {
                 cache.setSources(objectMapper.valueToTree(analysisResult.get("sources")));
             }
@@ -504,10 +500,157 @@ public class ProductServiceImpl implements ProductService {
             cache.setIsValid(extractIsValid(analysisResult));
 
             productAnalysisCacheRepository.save(cache);
+            analysisResultCache.evict(product.getId(), analysisType);
             log.info("제네릭 분석 결과 저장 완료 - 상품 ID: {}, 타입: {}", product.getProductId(), analysisType);
+            publishAnalysisCompleted(product, analysisType);
         } catch (Exception e) {
+            // 삼키면 큐 작업이 저장 없이 완료 처리되므로 호출자에게 넘김
             log.error("제네릭 분석 결과 저장 실패 - 상품 ID: {}", product.getProductId(), e);
+            throw new RuntimeException(analysisType + " 분석 결과 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Mono<Void> executeBackgroundAnalysis(Product product, String analysisType) {
+        // AI 엔진 응답은 논블로킹으로 기다리고, DB 조회/저장만 boundedElastic 스레드에서 실행
+        return switch (analysisType) {
+            case "precedents" -> aiWorkflowService.executePrecedentsAnalysisAsync(product)
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(precedentsResult -> {
+                        // 연결 실패 기본값을 저장하고 완료 처리하면 재분석되지 않으므로 재시도 대상으로 넘김
+                        if (isEngineErrorResult(precedentsResult)) {
+                            throw new IllegalStateException("AI 엔진 판례 분석 오류 응답");
+                        }
+                        savePrecedentsAnalysisResult(product, precedentsResult);
+                        log.info("판례 분석 완료 - 상품 ID: {}", product.getProductId());
+                    })
+                    .then();
+            case "requirements" -> Mono.fromCallable(() -> shouldRunRequirementsAnalysis(product))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(shouldRun -> {
+                        if (!shouldRun) {
+                            log.info("요구사항 분석 스킵 (캐시 존재) - 상품 ID: {}", product.getProductId());
+                            eventPublisher.publishEvent(AnalysisProgressEvent.of(product.getProductId(), "requirements",
+                                    AnalysisProgressEvent.Phase.COMPLETED, "기존 분석 결과 사용"));
+                            return Mono.<Map<String, Object>>empty();
+                        }
+                        return aiWorkflowService.executeRequirementsAnalysisAsync(product);
+                    })
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(requirementsResult -> {
+                        // 오류 응답을 캐시에 저장하면 7일간 재분석되지 않으므로 저장하지 않고 재시도 대상으로 넘김
+                        if (isEngineErrorResult(requirementsResult)) {
+                            throw new IllegalStateException("AI 엔진 요구사항 분석 오류 응답");
+                        }
+                        saveRequirementsAnalysisResult(product, requirementsResult);
+                        log.info("요구사항 분석 완료 - 상품 ID: {}", product.getProductId());
+                    })
+                    // 저장까지 끝난 뒤 갱신 임대 반납 (실패해도 반납해서 다른 호출자가 재시도할 수 있게)
+                    .doFinally(signal -> refreshCoordinator.release(product))
+                    .then();
+            case "detailed_regulations" -> saveTypedBackgroundResult(product, analysisType,
+                    aiWorkflowService.executeDetailedRegulationsAnalysisAsync(product));
+            case "testing_procedures" -> saveTypedBackgroundResult(product, analysisType,
+                    aiWorkflowService.executeTestingProceduresAnalysisAsync(product));
+            case "penalties" -> saveTypedBackgroundResult(product, analysisType,
+                    aiWorkflowService.executePenaltiesAnalysisAsync(product));
+            case "validity" -> saveTypedBackgroundResult(product, analysisType,
+                    aiWorkflowService.executeValidityAnalysisAsync(product));
+            default -> {
+                log.warn("지원하지 않는 백그라운드 분석 타입 스킵 - 상품 ID: {}, 타입: {}", product.getProductId(), analysisType);
+                yield Mono.empty();
+            }
+        };
+    }
+
+    @Override
+    public Mono<List<Map<String, Object>>> executeRequirementsBatchAnalysis(List<Product> products, boolean forceRefresh) {
+        Map<String, List<Product>> groups = products.stream()
+                .filter(product -> product.getHsCode() != null && !product.getHsCode().isBlank())
+                .collect(Collectors.groupingBy(product -> product.getHsCode().trim(), LinkedHashMap::new, Collectors.toList()));
+
+        return aiWorkflowService.executeRequirementsAnalysisBatchAsync(products, forceRefresh)
+                .publishOn(Schedulers.boundedElastic())
+                .map(results -> {
+                    List<Map<String, Object>> summary = new ArrayList<>();
+                    groups.forEach((hsCode, members) -> {
+                        Map<String, Object> analysisResult = results.get(hsCode);
+                        List<String> productIds = members.stream().map(Product::getProductId).toList();
+
+                        Map<String, Object> group = new LinkedHashMap<>();
+                        group.put("hsCode", hsCode);
+                        group.put("productIds", productIds);
+
+                        // 오류 응답은 캐시에 저장하지 않음 (7일간 재분석되지 않는 것을 방지)
+                        if (analysisResult == null || isEngineErrorResult(analysisResult)) {
+                            log.warn("요구사항 일괄 분석 실패 - HS코드: {}, 상품: {}", hsCode, productIds);
+                            group.put("success", false);
+                            summary.add(group);
+                            return;
+                        }
+
+                        List<String> saveFailed = new ArrayList<>();
+                        for (Product member : members) {
+                            try {
+                                saveRequirementsAnalysisResult(member, analysisResult);
+                            } catch (Exception e) {
+                                saveFailed.add(member.getProductId());
+                            }
+                        }
+                        group.put("success", saveFailed.isEmpty());
+                        if (!saveFailed.isEmpty()) {
+                            group.put("saveFailedProductIds", saveFailed);
+                        }
+                        summary.add(group);
+                        log.info("요구사항 일괄 분석 결과 저장 - HS코드: {}, 상품 수: {}", hsCode, members.size());
+                    });
+                    return summary;
+                });
+    }
+
+    /**
+     * 세부 규정/검사 절차/처벌/유효기간 분석 결과 저장 (오류 응답은 저장하지 않고 재시도 대상으로 넘김)
+     */
+    private Mono<Void> saveTypedBackgroundResult(Product product, String analysisType, Mono<Map<String, Object>> analysis) {
+        return analysis
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(analysisResult -> {
+                    if (isEngineErrorResult(analysisResult)) {
+                        throw new IllegalStateException("AI 엔진 " + analysisType + " 분석 오류 응답");
+                    }
+                    saveAnalysisResult(product, analysisType, analysisResult);
+                    log.info("{} 분석 완료 - 상품 ID: {}", analysisType, product.getProductId());
+                })
+                .then();
+    }
+
+    /**
+     * 분석 결과 저장 완료 이벤트 발행 (SSE 구독자에게 전달, 트랜잭션 중이면 커밋 후)
+     */
+    private void publishAnalysisCompleted(Product product, String analysisType) {
+        eventPublisher.publishEvent(AnalysisProgressEvent.of(
+                product.getProductId(), analysisType, AnalysisProgressEvent.Phase.COMPLETED, null));
+    }
+
+    @Override
+    public boolean isEngineErrorResult(Map<String, Object> analysisResult) {
+        if (Boolean.TRUE.equals(analysisResult.get("error"))) {
+            return true;
+        }
+        Object metadata = analysisResult.get("metadata");
+        return metadata instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) metadata).get("error"));
+    }
+
+    /**
+     * 재사용할 수 없는 행 (무효 표시 또는 AI 엔진 오류 응답이 저장된 기존 행)
+     */
+    private boolean isUnusableCache(ProductAnalysisCache cache) {
+        if (Boolean.FALSE.equals(cache.getIsValid())) {
+            return true;
         }
+        JsonNode result = cache.getAnalysisResult();
+        return result != null && (result.path("error").asBoolean(false)
+                || result.path("metadata").path("error").asBoolean(false));
     }
 
     /**
@@ -529,52 +672,63 @@ public class ProductServiceImpl implements ProductService {
                 return false;
             }
             
-            // 조건 1: 현재 상품의 캐시 확인
+            // 현재 상품의 캐시와 같은 HS코드의 다른 상품 캐시 중 가장 최근 것을 기준으로 판단 (AI 엔진 캐시 활용)
             Optional<ProductAnalysisCache> currentProductCache = productAnalysisCacheRepository
                 .findByProductIdAndAnalysisType(product.getId(), "requirements");
+            List<ProductAnalysisCache> hsCodeCaches = productAnalysisCacheRepository
+                .findByProductHsCodeAndAnalysisType(product.getHsCode(), "requirements");
             
-            if (currentProductCache.isPresent()) {
-                ProductAnalysisCache cache = currentProductCache.get();
-                // 캐시가 있고 유효한 경우 (7일 이내)
-                if (cache.getUpdatedAt() != null && 
-                    cache.getUpdatedAt().isAfter(LocalDateTime.now().minusDays(7))) {
-                    log.info("현재 상품의 요구사항 분석 캐시 존재 (7일 이내) - 상품 ID: {}", product.getProductId());
-                    return false; // 캐시가 있으면 실행하지 않음
-                }
+            // 오류 결과가 저장된 행은 기준으로 삼지 않음 (신선 기간 동안 재분석을 막고 같은 HS코드 상품에 퍼지지 않도록)
+            ProductAnalysisCache latest = Stream.concat(currentProductCache.stream(), hsCodeCaches.stream())
+                    .filter(cache -> cache.getUpdatedAt() != null)
+                    .filter(cache -> !isUnusableCache(cache))
+                    .max(Comparator.comparing(ProductAnalysisCache::getUpdatedAt))
+                    .orElse(null);
+            
+            if (latest == null) {
+                log.info("요구사항 분석 실행 필요 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
+                cacheMetrics.lookup(CacheMetrics.PRODUCT_ANALYSIS_REUSE, CacheMetrics.Lookup.MISS);
+                return true;
             }
             
-            // 조건 2: 같은 HS코드의 다른 상품 캐시 확인 (AI 엔진 캐시 활용)
-            List<ProductAnalysisCache> hsCodeCaches = productAnalysisCacheRepository
-                .findByProductHsCodeAndAnalysisType(product.getHsCode(), "requirements");
+            // 신선 기간 내 재사용 / 조기·만료 갱신 (HS코드당 한 호출자만 갱신하고 나머지는 기존 결과 사용)
+            RequirementsRefreshCoordinator.Decision decision = refreshCoordinator.decide(product, latest.getUpdatedAt());
+            if (decision == RequirementsRefreshCoordinator.Decision.REFRESH) {
+                cacheMetrics.lookup(CacheMetrics.PRODUCT_ANALYSIS_REUSE, CacheMetrics.Lookup.MISS);
+                return true;
+            }
+            CacheMetrics.Lookup lookup = decision == RequirementsRefreshCoordinator.Decision.FRESH
+                    ? CacheMetrics.Lookup.HIT
+                    : CacheMetrics.Lookup.STALE;
             
-            if (!hsCodeCaches.isEmpty()) {
-                // 같은 HS코드의 캐시 중 가장 최근 것 확인
-                ProductAnalysisCache recentHsCodeCache = hsCodeCaches.stream()
-                        .filter(cache -> cache.getUpdatedAt() != null)
-                        .filter(cache -> cache.getUpdatedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                        .max((c1, c2) -> c1.getUpdatedAt().compareTo(c2.getUpdatedAt()))
-                        .orElse(null);
-                
-                if (recentHsCodeCache != null) {
-                    log.info("✅ 같은 HS코드의 요구사항 분석 캐시 활용 가능 (7일 이내) - HS코드: {}, 상품 ID: {}", 
-                            product.getHsCode(), product.getProductId());
-                    
-                    // 현재 상품에도 캐시 복사 (지능형 캐싱)
-                    ProductAnalysisCache newCache = ProductAnalysisCache.builder()
-                            .product(product)
-                            .analysisType("requirements")
-                            .analysisResult(recentHsCodeCache.getAnalysisResult())
-                            .confidenceScore(recentHsCodeCache.getConfidenceScore())
-                            .isValid(recentHsCodeCache.getIsValid())
-                            .build();
-                    productAnalysisCacheRepository.save(newCache);
-                    
-                    return false; // 캐시가 있으면 실행하지 않음
-                }
+            if (currentProductCache.isPresent() && Objects.equals(currentProductCache.get().getId(), latest.getId())) {
+                log.info("현재 상품의 요구사항 분석 캐시 재사용 - 상품 ID: {}", product.getProductId());
+                cacheMetrics.lookup(CacheMetrics.PRODUCT_ANALYSIS_REUSE, lookup);
+                return false; // 캐시가 있으면 실행하지 않음
             }
             
-            log.info("요구사항 분석 실행 필요 - 상품 ID: {}, HS코드: {}", product.getProductId(), product.getHsCode());
-            return true;
+            log.info("✅ 같은 HS코드의 요구사항 분석 캐시 활용 - HS코드: {}, 상품 ID: {}", 
+                    product.getHsCode(), product.getProductId());
+            
+            // 현재 상품도 같은 본문을 참조 (본문은 복사하지 않고 해시로 공유, 기존 행이 있으면 갱신)
+            // 분석 시각은 원본 행을 따름 - 저장 시각으로 바뀌면 만료/조기 갱신 판단이 복사할 때마다 미뤄짐
+            ProductAnalysisCache newCache = currentProductCache.orElseGet(() -> ProductAnalysisCache.builder()
+                    .product(product)
+                    .analysisType("requirements")
+                    .build());
+            newCache.setConfidenceScore(latest.getConfidenceScore());
+            newCache.setIsValid(latest.getIsValid());
+            if (latest.getPayload() != null) {
+                newCache.attachPayload(latest.getPayload());
+            } else {
+                analysisPayloadStore.attach(newCache, product.getHsCode(), latest.getAnalysisResult());
+            }
+            ProductAnalysisCache saved = productAnalysisCacheRepository.save(newCache);
+            productAnalysisCacheRepository.restoreUpdatedAt(saved.getId(), latest.getUpdatedAt());
+            analysisResultCache.evict(product.getId(), "requirements");
+            cacheMetrics.lookup(CacheMetrics.PRODUCT_ANALYSIS_REUSE, lookup);
+            
+            return false; // 캐시가 있으면 실행하지 않음
             
         } catch (Exception e) {
             log.error("요구사항 분석 실행 조건 확인 실패 - 상품 ID: {}", product.getProductId(), e);
@@ -596,15 +750,19 @@ public class ProductServiceImpl implements ProductService {
                             .analysisType(analysisType)
                             .build());
 
-            cache.setAnalysisResult(analysisResultJson);
+            analysisPayloadStore.attach(cache, product.getHsCode(), analysisResultJson);
             cache.setSources(objectMapper.valueToTree(analysisResult.getOrDefault("sources", List.of()))); // sources 필드 추가
             cache.setConfidenceScore(java.math.BigDecimal.valueOf((Double) analysisResult.getOrDefault("confidence_score", 0.0)));
             cache.setIsValid((Boolean) analysisResult.getOrDefault("is_valid", false));
             
             productAnalysisCacheRepository.save(cache);
+            analysisResultCache.evict(product.getId(), analysisType);
             log.info("분석 결과 캐시 저장 완료 - 상품 ID: {}, 분석 타입: {}", product.getProductId(), analysisType);
+            publishAnalysisCompleted(product, analysisType);
         } catch (Exception e) {
-            log.error("분석 결과 캐시 저장 실패", e);
+            // 삼키면 큐 작업이 저장 없이 완료 처리되므로 호출자에게 넘김
+            log.error("분석 결과 캐시 저장 실패 - 상품 ID: {}", product.getProductId(), e);
+            throw new RuntimeException("판례 분석 결과 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
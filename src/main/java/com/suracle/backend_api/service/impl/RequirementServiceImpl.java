@@ -3,12 +3,12 @@ package com.suracle.backend_api.service.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.suracle.backend_api.dto.requirement.RequirementAnalysisResponse;
-import com.suracle.backend_api.entity.cache.ProductAnalysisCache;
 import com.suracle.backend_api.entity.product.Product;
-import com.suracle.backend_api.repository.ProductAnalysisCacheRepository;
 import com.suracle.backend_api.repository.ProductRepository;
 import com.suracle.backend_api.service.AiWorkflowService;
 import com.suracle.backend_api.service.RequirementService;
+import com.suracle.backend_api.service.cache.AnalysisResultCache;
+import com.suracle.backend_api.service.cache.AnalysisResultCache.CachedAnalysis;
 import com.suracle.backend_api.service.http.RequirementsApiClient;
 import com.suracle.backend_api.service.util.EnglishNameUtil;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +38,7 @@ public class RequirementServiceImpl implements RequirementService {
     private final RequirementsApiClient apiClient;
     private final AiWorkflowService aiWorkflowService;
     private final ProductRepository productRepository;
-    private final ProductAnalysisCacheRepository productAnalysisCacheRepository;
+    private final AnalysisResultCache analysisResultCache;
     
     // JSON 파일 저장 경로
     private static final String REQUIREMENTS_DIR = "requirements_results";
@@ -69,20 +69,18 @@ public class RequirementServiceImpl implements RequirementService {
                         .build();
             }
             
-            // 1. DB 캐시에서 먼저 조회
-            Optional<ProductAnalysisCache> cachedAnalysis = productAnalysisCacheRepository
-                    .findByProductIdAndAnalysisType(product.getId(), "requirements");
+            // 1. 캐시에서 먼저 조회 (메모리 → DB)
+            Optional<CachedAnalysis> cachedAnalysis = analysisResultCache.get(product.getId(), "requirements");
             
             Map<String, Object> aiResult;
             
             if (cachedAnalysis.isPresent()) {
-                log.info("✅ DB 캐시에서 요건 분석 결과 조회 - productId: {}", productId);
-                ProductAnalysisCache cache = cachedAnalysis.get();
-                aiResult = objectMapper.convertValue(cache.getAnalysisResult(), Map.class);
+                log.info("✅ 캐시에서 요건 분석 결과 조회 - productId: {}", productId);
+                aiResult = cachedAnalysis.get().result();
             } else {
                 log.info("🤖 DB 캐시 없음, AI 엔진 호출 - productId: {}", productId);
-                // 2. 캐시 없으면 AI 엔진 호출
-                aiResult = aiWorkflowService.executeRequirementsAnalysis(product);
+                // 2. 캐시 없으면 AI 엔진 호출 (조회 경로이므로 AI 엔진 캐시 허용)
+                aiResult = aiWorkflowService.executeRequirementsAnalysis(product, false);
             }
             
             if (aiResult == null || aiResult.isEmpty()) {
@@ -5,6 +5,7 @@ import com.suracle.backend_api.dto.requirement.HsCodeAgencyMappingRequestDto;
 import com.suracle.backend_api.dto.requirement.HsCodeAgencyMappingStatisticsDto;
 import com.suracle.backend_api.entity.requirements.HsCodeAgencyMapping;
 import com.suracle.backend_api.repository.requirements.HsCodeAgencyMappingRepository;
+import com.suracle.backend_api.service.cache.CacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -35,6 +37,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class HsCodeAgencyMappingService {
     
     private final HsCodeAgencyMappingRepository repository;
+    private final CacheMetrics cacheMetrics;
+    @Qualifier("aiEngineRestTemplate")
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
@@ -341,6 +345,7 @@ public class HsCodeAgencyMappingService {
         
         if (existing.isPresent()) {
             log.info("✅ 기존 매핑 사용 - HS: {}", hsCode);
+            cacheMetrics.lookup(CacheMetrics.HS_CODE_AGENCY_MAPPING, CacheMetrics.Lookup.HIT);
             // 사용 횟수 증가
             updateUsageCount(hsCode, productName);
             return existing.get();
@@ -348,7 +353,9 @@ public class HsCodeAgencyMappingService {
         
         // 2. AI로 생성
         log.info("🤖 AI 매핑 생성 필요 - HS: {}", hsCode);
-        return generateAndSaveMappingWithAi(hsCode, productName, productCategory);
+        cacheMetrics.lookup(CacheMetrics.HS_CODE_AGENCY_MAPPING, CacheMetrics.Lookup.MISS);
+        return cacheMetrics.timeLoad(CacheMetrics.HS_CODE_AGENCY_MAPPING,
+                () -> generateAndSaveMappingWithAi(hsCode, productName, productCategory));
     }
     
     /**
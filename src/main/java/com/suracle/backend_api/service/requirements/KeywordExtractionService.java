@@ -0,0 +1,237 @@
+package com.suracle.backend_api.service.requirements;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suracle.backend_api.config.KeywordExtractionProperties;
+import com.suracle.backend_api.service.cache.CacheMetrics;
+import com.suracle.backend_api.service.http.AiEngineClient;
+import com.suracle.backend_api.service.util.EnglishNameUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+
+/**
+ * 요건 수집 키워드 추출
+ * 정규화된 상품명별로 AI 엔진(/requirements/extract-keywords) 추출 결과를 메모리 캐시에 보관
+ * 캐시에 없으면 로컬 추출 결과로 바로 진행하고 AI 엔진 호출은 백그라운드에서 채움 (요청 경로에 네트워크 호출 없음)
+ * AI 엔진 추출은 HS코드와 무관하므로 상품명만 키로 쓰고, HS코드 류에 따른 로컬 추출은 캐시하지 않음
+ */
+@Slf4j
+@Service
+public class KeywordExtractionService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "a", "an", "and", "or", "for", "with", "of", "in", "to", "on", "by");
+
+    /** HS코드 2자리(류)별 카테고리 키워드 - 로컬 추출 시 앞쪽에 배치 */
+    private static final Map<String, Set<String>> HS_CATEGORY_KEYWORDS = Map.of(
+            "33", Set.of("serum", "cream", "cosmetic", "skincare", "lotion", "mask", "perfume"),
+            "21", Set.of("food", "beverage", "supplement", "vitamin", "extract", "ginseng"),
+            "19", Set.of("food", "rice", "noodle", "pasta", "cereal"),
+            "20", Set.of("food", "kimchi", "vegetable", "preserved"),
+            "84", Set.of("device", "equipment", "machine", "computer", "laptop"),
+            "85", Set.of("device", "equipment", "electronic", "telephone", "wireless"),
+            "95", Set.of("toy", "game", "play", "children"));
+
+    /** HS코드가 없거나 매핑이 없는 류의 카테고리 키워드 */
+    private static final Set<String> DEFAULT_CATEGORY_KEYWORDS = Set.of(
+            "serum", "cream", "cosmetic", "food", "device", "equipment");
+
+    private final AiEngineClient aiEngineClient;
+    private final Executor executor;
+    private final KeywordExtractionProperties properties;
+    private final CacheMetrics cacheMetrics;
+
+    /** 상품명 → AI 엔진 추출 결과 (빈 목록은 AI 엔진이 키워드를 찾지 못한 상품명) */
+    private final Cache<String, List<String>> cache;
+
+    /** 최근 AI 엔진 호출이 실패한 상품명 (잠시 재호출하지 않음) */
+    private final Cache<String, Boolean> recentFailures;
+
+    /** AI 엔진 추출 진행 중인 상품명 (같은 상품명을 중복 요청하지 않음) */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${ai.requirements-analysis.url:http://localhost:8000}")
+    private String aiEngineUrl;
+
+    public KeywordExtractionService(AiEngineClient aiEngineClient,
+                                    @Qualifier("keywordExtractionExecutor") Executor executor,
+                                    KeywordExtractionProperties properties,
+                                    CacheMetrics cacheMetrics,
+                                    MeterRegistry meterRegistry) {
+        this.aiEngineClient = aiEngineClient;
+        this.executor = executor;
+        this.properties = properties;
+        this.cacheMetrics = cacheMetrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofHours(properties.getTtlHours()))
+                .recordStats()
+                .build();
+        this.recentFailures = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getFailureTtlSeconds()))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CacheMetrics.KEYWORD_EXTRACTION);
+    }
+
+    /**
+     * 상품명 정규화 (한글 → 영문, 소문자, 공백 정리) - 캐시 키
+     */
+    public String normalize(String product) {
+        if (product == null || product.isBlank()) {
+            return "";
+        }
+        return EnglishNameUtil.toEnglishQuery(product).toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * 요건 수집용 키워드
+     * 캐시에 AI 엔진 추출 결과가 있으면 그대로, 없으면 로컬 추출 결과를 반환하고 백그라운드에서 AI 엔진 호출
+     */
+    public List<String> extract(String product, String hsCode) {
+        String key = normalize(product);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (!properties.isAiEnabled()) {
+            return extractLocal(product, hsCode);
+        }
+
+        List<String> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            cacheMetrics.lookup(CacheMetrics.KEYWORD_EXTRACTION, CacheMetrics.Lookup.HIT);
+            // AI 엔진이 키워드를 찾지 못한 상품명은 (HS코드별) 로컬 결과 사용
+            return cached.isEmpty() ? extractLocal(product, hsCode) : cached;
+        }
+
+        cacheMetrics.lookup(CacheMetrics.KEYWORD_EXTRACTION, CacheMetrics.Lookup.MISS);
+        if (recentFailures.getIfPresent(key) == null) {
+            fillInBackground(key, product);
+        }
+        return extractLocal(product, hsCode);
+    }
+
+    /**
+     * 로컬 추출 (공백 기준 분리 + 불용어 제거, HS코드 류의 카테고리 키워드를 앞에 배치)
+     */
+    public List<String> extractLocal(String text, String hsCode) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> priorityKeywords = new ArrayList<>();
+        List<String> normalKeywords = new ArrayList<>();
+        Set<String> categoryKeywords = categoryKeywords(hsCode);
+
+        for (String token : WHITESPACE.split(normalized)) {
+            if (token.length() < 3 || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            if (categoryKeywords.contains(token)) {
+                priorityKeywords.add(token);
+            } else {
+                normalKeywords.add(token);
+            }
+        }
+
+        List<String> result = new ArrayList<>(priorityKeywords);
+        result.addAll(normalKeywords);
+        return List.copyOf(result.subList(0, Math.min(result.size(), properties.getTopK())));
+    }
+
+    private static Set<String> categoryKeywords(String hsCode) {
+        if (hsCode == null) {
+            return DEFAULT_CATEGORY_KEYWORDS;
+        }
+        String digits = hsCode.replaceAll("\\D", "");
+        if (digits.length() < 2) {
+            return DEFAULT_CATEGORY_KEYWORDS;
+        }
+        return HS_CATEGORY_KEYWORDS.getOrDefault(digits.substring(0, 2), DEFAULT_CATEGORY_KEYWORDS);
+    }
+
+    /**
+     * AI 엔진 추출 결과로 캐시 채우기 (전용 실행기에서 실행, 실패하면 잠시 뒤 다음 미스에서 재시도)
+     */
+    private void fillInBackground(String key, String product) {
+        if (!inFlight.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    cache.put(key, callAiEngine(product));
+                } catch (Exception e) {
+                    recentFailures.put(key, Boolean.TRUE);
+                    log.warn("⚠️ AI 키워드 추출 실패 (로컬 결과 사용) - {}: {}", key, e.getMessage());
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.debug("AI 키워드 추출 생략 (실행기 포화) - {}", key);
+        }
+    }
+
+    /**
+     * AI 엔진 호출 (서킷 브레이커 + extract-keywords 정책의 짧은 타임아웃)
+     */
+    private List<String> callAiEngine(String product) {
+        String url = aiEngineUrl + "/requirements/extract-keywords";
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("product_name", product);
+        requestBody.put("product_description", "");
+        requestBody.put("top_k", properties.getTopK());
+        requestBody.put("method", "auto");  // OpenAI → HF → Heuristic
+
+        log.debug("📡 AI Engine 키워드 추출 호출: {}", url);
+
+        Map<String, Object> result = aiEngineClient.post("extract-keywords", url, requestBody).block();
+        if (result == null) {
+            throw new IllegalStateException("AI 엔진 빈 응답");
+        }
+        List<String> keywords = new ArrayList<>();
+        if (result.get("keywords") instanceof List<?> values) {
+            for (Object value : values) {
+                if (value instanceof String keyword && !keyword.isBlank()) {
+                    keywords.add(keyword);
+                }
+            }
+        }
+        log.info("✅ AI 키워드 추출 성공 - 방법: {}, 키워드: {}", result.get("method_used"), keywords);
+        return List.copyOf(keywords);
+    }
+
+    /**
+     * 캐시 현황
+     */
+    public Map<String, Object> stats() {
+        return Map.of(
+                "size", cache.estimatedSize(),
+                "hitRate", cache.stats().hitRate(),
+                "inFlight", inFlight.size(),
+                "recentFailures", recentFailures.estimatedSize());
+    }
+}
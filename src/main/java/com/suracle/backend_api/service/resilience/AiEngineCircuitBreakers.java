@@ -0,0 +1,142 @@
+package com.suracle.backend_api.service.resilience;
+
+import com.suracle.backend_api.config.AiEngineResilienceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 엔진 엔드포인트별 서킷 브레이커 레지스트리
+ * 서킷이 열려 있으면 AI 엔진을 호출하지 않고 CircuitBreakerOpenException으로 즉시 실패
+ * (4xx 응답과 취소는 엔진 장애로 보지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiEngineCircuitBreakers {
+
+    private final AiEngineResilienceProperties properties;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreaker get(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, name -> new CircuitBreaker(name, properties.policy(name)));
+    }
+
+    /**
+     * 단건 응답 호출 보호 (적응형 타임아웃 적용)
+     */
+    public <T> Mono<T> protect(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            CircuitBreaker breaker = get(endpoint);
+            if (!breaker.tryAcquire()) {
+                return Mono.error(new CircuitBreakerOpenException(endpoint));
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean(false);
+            return call.timeout(breaker.currentTimeout())
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            breaker.onSuccess(elapsedMillis(start));
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            recordError(breaker, error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            breaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 스트리밍 응답 호출 보호 (첫 응답까지만 적응형 타임아웃 적용, 지연 시간도 첫 응답 기준)
+     */
+    public <T> Flux<T> protectStream(String endpoint, Flux<T> call) {
+        return Flux.defer(() -> {
+            CircuitBreaker breaker = get(endpoint);
+            if (!breaker.tryAcquire()) {
+                return Flux.error(new CircuitBreakerOpenException(endpoint));
+            }
+
+            long start = System.nanoTime();
+            AtomicLong firstResponseMillis = new AtomicLong(-1);
+            AtomicBoolean recorded = new AtomicBoolean(false);
+            Duration timeout = breaker.currentTimeout();
+            return call.timeout(Mono.delay(timeout), item -> Mono.never())
+                    .doOnNext(item -> firstResponseMillis.compareAndSet(-1, elapsedMillis(start)))
+                    .doOnComplete(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            long latency = firstResponseMillis.get();
+                            breaker.onSuccess(latency >= 0 ? latency : elapsedMillis(start));
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            recordError(breaker, error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            breaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 전체 서킷 브레이커 상태
+     */
+    public List<Map<String, Object>> snapshots() {
+        return breakers.values().stream()
+                .sorted(Comparator.comparing(CircuitBreaker::getName))
+                .map(CircuitBreaker::snapshot)
+                .toList();
+    }
+
+    public boolean reset(String endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint);
+        if (breaker == null) {
+            return false;
+        }
+        breaker.reset();
+        log.info("서킷 브레이커 수동 초기화 - {}", endpoint);
+        return true;
+    }
+
+    private void recordError(CircuitBreaker breaker, Throwable error) {
+        if (isClientError(error)) {
+            breaker.onIgnored();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    private boolean isClientError(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is4xxClientError();
+        }
+        return error instanceof HttpClientErrorException;
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,199 @@
+package com.suracle.backend_api.service.resilience;
+
+import com.suracle.backend_api.config.AiEngineResilienceProperties.Policy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 엔드포인트 하나에 대한 서킷 브레이커 + 적응형 타임아웃
+ * CLOSED: 최근 호출 실패율이 임계치를 넘으면 OPEN
+ * OPEN: 호출을 즉시 차단, 일정 시간이 지나면 HALF_OPEN
+ * HALF_OPEN: 제한된 시험 호출이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 타임아웃은 최근 성공 응답 지연 시간의 백분위 × 배수 (하한/상한 적용)
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final Policy policy;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+
+    /** 최근 호출 결과 (true = 실패) */
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    /** 최근 성공 응답 지연 시간 (ms) */
+    private final long[] latencies;
+    private int latencyIndex;
+    private int latencyCount;
+
+    private long rejectedCount;
+
+    public CircuitBreaker(String name, Policy policy) {
+        this(name, policy, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, Policy policy, LongSupplier clock) {
+        this.name = name;
+        this.policy = policy;
+        this.clock = clock;
+        this.outcomes = new boolean[Math.max(1, policy.getSlidingWindowSize())];
+        this.latencies = new long[Math.max(1, policy.getLatencyWindowSize())];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 끝내야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtMillis < policy.getOpenDurationSeconds() * 1000) {
+                rejectedCount++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= policy.getHalfOpenPermittedCalls()) {
+                rejectedCount++;
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long latencyMillis) {
+        latencies[latencyIndex] = latencyMillis;
+        latencyIndex = (latencyIndex + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= policy.getHalfOpenPermittedCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            recordOutcome(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            recordOutcome(true);
+            if (outcomeCount >= policy.getMinimumCalls()
+                    && failureCount * 100.0 / outcomeCount >= policy.getFailureRateThreshold()) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 성공/실패로 보지 않는 종료 (취소, 4xx 등) - HALF_OPEN 시험 호출 슬롯만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    /**
+     * 현재 적용할 타임아웃 (표본이 부족하면 상한)
+     */
+    public synchronized Duration currentTimeout() {
+        if (latencyCount < policy.getMinLatencySamples()) {
+            return Duration.ofMillis(policy.getMaxTimeoutMs());
+        }
+        long adaptive = (long) (latencyPercentile(policy.getTimeoutPercentile()) * policy.getTimeoutMultiplier());
+        return Duration.ofMillis(Math.max(policy.getMinTimeoutMs(), Math.min(policy.getMaxTimeoutMs(), adaptive)));
+    }
+
+    public synchronized void reset() {
+        transitionTo(State.CLOSED);
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("name", name);
+        snapshot.put("state", state);
+        snapshot.put("failureRate", outcomeCount == 0 ? 0.0 : failureCount * 100.0 / outcomeCount);
+        snapshot.put("recordedCalls", outcomeCount);
+        snapshot.put("rejectedCalls", rejectedCount);
+        snapshot.put("latencySamples", latencyCount);
+        snapshot.put("latencyP50Ms", latencyCount == 0 ? null : latencyPercentile(0.5));
+        snapshot.put("latencyP99Ms", latencyCount == 0 ? null : latencyPercentile(0.99));
+        snapshot.put("timeoutMs", currentTimeout().toMillis());
+        if (state == State.OPEN) {
+            long remaining = policy.getOpenDurationSeconds() * 1000 - (clock.getAsLong() - openedAtMillis);
+            snapshot.put("openRemainingMs", Math.max(0, remaining));
+        }
+        return snapshot;
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == outcomes.length && outcomes[outcomeIndex]) {
+            failureCount--;
+        }
+        outcomes[outcomeIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+        outcomeCount = Math.min(outcomeCount + 1, outcomes.length);
+    }
+
+    private long latencyPercentile(double percentile) {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.warn("⚡ 서킷 브레이커 상태 변경 - {}: {} → {}", name, state, next);
+        }
+        state = next;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtMillis = clock.getAsLong();
+        } else if (next == State.CLOSED) {
+            Arrays.fill(outcomes, false);
+            outcomeIndex = 0;
+            outcomeCount = 0;
+            failureCount = 0;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.suracle.backend_api.service.resilience;
+
+/**
+ * 서킷이 열려 있어 호출하지 않고 바로 실패 처리할 때 발생
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(String name) {
+        // 빈번하게 발생하므로 스택 트레이스는 만들지 않음
+        super("서킷 브레이커 OPEN - 호출 차단: " + name, null, false, false);
+    }
+}
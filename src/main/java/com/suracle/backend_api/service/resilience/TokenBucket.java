@@ -0,0 +1,131 @@
+package com.suracle.backend_api.service.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 (잠금 없음 - 상태를 불변 객체로 두고 CAS로 교체)
+ * 시간당 허용량만큼 일정하게 채워지고, 최대 capacity개까지 몰아서 사용할 수 있음
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_HOUR = TimeUnit.HOURS.toNanos(1);
+
+    private record Config(double ratePerHour, double capacity) {
+
+        double tokensPerNano() {
+            return ratePerHour / NANOS_PER_HOUR;
+        }
+    }
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+
+    private final LongSupplier nanoClock;
+    private volatile Config config;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(double ratePerHour, double capacity) {
+        this(ratePerHour, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerHour, double capacity, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.config = new Config(ratePerHour, Math.max(1, capacity));
+        this.state = new AtomicReference<>(new State(this.config.capacity(), nanoClock.getAsLong()));
+    }
+
+    /**
+     * 토큰 하나 사용 (없으면 대기하지 않고 false)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            State current = state.get();
+            State refilled = refill(current, nanoClock.getAsLong());
+            if (refilled.tokens() < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(refilled.tokens() - 1, refilled.refilledAtNanos()))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 토큰 하나 사용 (최대 timeout까지 대기, 0이면 바로 실패)
+     */
+    public boolean acquire(long timeout, TimeUnit unit) {
+        long deadline = nanoClock.getAsLong() + unit.toNanos(timeout);
+        while (!tryAcquire()) {
+            long wait = nanosUntilAvailable();
+            long remaining = deadline - nanoClock.getAsLong();
+            if (wait > remaining || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.max(wait, 1_000));
+        }
+        return true;
+    }
+
+    /**
+     * 다음 토큰이 생길 때까지 남은 시간 (ns, 지금 사용 가능하면 0)
+     */
+    public long nanosUntilAvailable() {
+        State refilled = refill(state.get(), nanoClock.getAsLong());
+        if (refilled.tokens() >= 1) {
+            return 0;
+        }
+        double perNano = config.tokensPerNano();
+        return perNano <= 0 ? Long.MAX_VALUE : (long) Math.ceil((1 - refilled.tokens()) / perNano);
+    }
+
+    /**
+     * 남은 토큰 수 (소수점 버림)
+     */
+    public long available() {
+        return (long) refill(state.get(), nanoClock.getAsLong()).tokens();
+    }
+
+    /**
+     * 허용량 변경 (남은 토큰은 새 capacity를 넘지 않게 유지)
+     */
+    public void reconfigure(double ratePerHour, double capacity) {
+        Config updated = new Config(ratePerHour, Math.max(1, capacity));
+        while (true) {
+            State current = state.get();
+            State refilled = refill(current, nanoClock.getAsLong());
+            config = updated;
+            State clamped = new State(Math.min(refilled.tokens(), updated.capacity()), refilled.refilledAtNanos());
+            if (state.compareAndSet(current, clamped)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 남은 토큰을 모두 비움 (상대 서버가 429를 돌려준 경우 - 다음 토큰이 채워질 때까지 호출 중단)
+     */
+    public void drain() {
+        state.set(new State(0, nanoClock.getAsLong()));
+    }
+
+    public double getRatePerHour() {
+        return config.ratePerHour();
+    }
+
+    public double getCapacity() {
+        return config.capacity();
+    }
+
+    private State refill(State current, long now) {
+        long elapsed = now - current.refilledAtNanos();
+        if (elapsed <= 0) {
+            return current;
+        }
+        Config snapshot = config;
+        double tokens = Math.min(snapshot.capacity(), current.tokens() + elapsed * snapshot.tokensPerNano());
+        return new State(tokens, now);
+    }
+}
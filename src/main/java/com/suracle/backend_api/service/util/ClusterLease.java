@@ -0,0 +1,83 @@
+package com.suracle.backend_api.service.util;
+
+import com.suracle.backend_api.repository.CacheRefreshLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 노드 간 작업 임대 (cache_refresh_leases 행)
+ * advisory lock과 달리 쥔 동안 커넥션을 점유하지 않으므로 오래 걸리는 작업에 사용
+ * 노드가 죽어 반납하지 못해도 TTL이 지나면 다른 노드가 가져갈 수 있음 (TTL은 작업 최대 소요 시간보다 길게)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLease {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final CacheRefreshLeaseRepository leaseRepository;
+
+    /**
+     * 임대 시도 (대기하지 않음)
+     * @return 성공 시 임대 핸들 (close 하면 반납), 다른 보유자가 유효한 임대를 쥐고 있으면 empty
+     */
+    public Optional<Handle> tryAcquire(String leaseKey, Duration ttl) {
+        // 획득마다 보유자를 달리해 같은 노드의 다른 호출자가 임대를 연장해 가져가지 않도록
+        String holder = NODE_ID + ":" + UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        if (leaseRepository.tryAcquire(leaseKey, holder, now, now.plus(ttl)) > 0) {
+            return Optional.of(new Handle(leaseRepository, leaseKey, holder));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 유효한 임대가 있는지 확인 (이 노드가 쥔 것 포함)
+     */
+    public boolean isHeld(String leaseKey) {
+        return leaseRepository.existsByLeaseKeyAndExpiresAtAfter(leaseKey, LocalDateTime.now());
+    }
+
+    /**
+     * 임대 핸들 - close 시 반납 (보유자가 같을 때만 삭제)
+     */
+    public static class Handle implements AutoCloseable {
+
+        private final CacheRefreshLeaseRepository leaseRepository;
+        private final String leaseKey;
+        private final String holder;
+
+        private Handle(CacheRefreshLeaseRepository leaseRepository, String leaseKey, String holder) {
+            this.leaseRepository = leaseRepository;
+            this.leaseKey = leaseKey;
+            this.holder = holder;
+        }
+
+        /**
+         * 만료 시각 연장 (작업이 길어질 때 주기적으로 호출)
+         * @return false면 이미 만료되어 다른 보유자가 가져감
+         */
+        public boolean renew(Duration ttl) {
+            LocalDateTime now = LocalDateTime.now();
+            return leaseRepository.tryAcquire(leaseKey, holder, now, now.plus(ttl)) > 0;
+        }
+
+        @Override
+        public void close() {
+            try {
+                leaseRepository.release(leaseKey, holder);
+            } catch (Exception e) {
+                // TTL이 지나면 다른 노드가 가져갈 수 있으므로 로그만 남김
+                log.warn("임대 반납 실패 - 키: {}, 오류: {}", leaseKey, e.getMessage());
+            }
+        }
+    }
+}
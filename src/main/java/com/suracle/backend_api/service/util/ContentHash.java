@@ -0,0 +1,54 @@
+package com.suracle.backend_api.service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 기반 해시 유틸리티
+ * JSON은 객체 키를 정렬한 정규 형태로 직렬화하므로 키 순서가 달라도 같은 해시가 나옴 (배열 순서는 유지)
+ */
+public final class ContentHash {
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private ContentHash() {
+    }
+
+    /**
+     * 키 정렬 JSON 문자열
+     */
+    public static String canonicalJson(JsonNode node) {
+        try {
+            Object tree = CANONICAL_MAPPER.treeToValue(node, Object.class);
+            return CANONICAL_MAPPER.writeValueAsString(tree);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 정규화 실패", e);
+        }
+    }
+
+    /**
+     * SHA-256 hex (64자) - 각 부분은 구분자로 이어 붙여 해시
+     */
+    public static String sha256Hex(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    digest.update((byte) '\n');
+                }
+                digest.update((parts[i] == null ? "" : parts[i]).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 사용 불가", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.suracle.backend_api.service.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * PostgreSQL 세션 수준 advisory lock
+ * 여러 백엔드 노드 사이에서 같은 작업이 동시에 실행되지 않도록 조정할 때 사용
+ * (잠금을 쥔 동안 커넥션 하나를 점유하므로 짧게 유지하거나 키당 하나만 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgAdvisoryLock {
+
+    private final DataSource dataSource;
+
+    /**
+     * 네임스페이스 + 값으로 64비트 잠금 키 생성
+     */
+    public static long keyOf(String namespace, String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((namespace + ":" + value).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 사용 불가", e);
+        }
+    }
+
+    /**
+     * 잠금 시도 (대기하지 않음)
+     * @return 성공 시 잠금 핸들 (close 하면 해제), 다른 세션이 쥐고 있으면 empty
+     */
+    public Optional<Handle> tryLock(long key) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next() && resultSet.getBoolean(1)) {
+                    return Optional.of(new Handle(connection, key));
+                }
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        connection.close();
+        return Optional.empty();
+    }
+
+    /**
+     * 다른 세션이 잠금을 쥐고 있는지 확인
+     */
+    public boolean isHeldElsewhere(long key) throws SQLException {
+        Optional<Handle> handle = tryLock(key);
+        handle.ifPresent(Handle::close);
+        return handle.isEmpty();
+    }
+
+    /**
+     * 잠금 핸들 - 잠금을 쥔 커넥션을 보관하고 close 시 해제 후 반납
+     */
+    public static class Handle implements AutoCloseable {
+
+        private final Connection connection;
+        private final long key;
+
+        private Handle(Connection connection, long key) {
+            this.connection = connection;
+            this.key = key;
+        }
+
+        @Override
+        public void close() {
+            try (connection; PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                statement.setLong(1, key);
+                statement.execute();
+            } catch (SQLException e) {
+                // 풀로 돌아간 세션에 잠금이 남을 수 있음 (세션이 끝나면 해제)
+                log.warn("advisory lock 해제 실패 - 키: {}, 오류: {}", key, e.getMessage());
+            }
+        }
+    }
+}
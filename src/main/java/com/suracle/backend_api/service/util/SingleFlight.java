@@ -0,0 +1,35 @@
+package com.suracle.backend_api.service.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 single-flight
+ * 진행 중인 호출이 있으면 새로 실행하지 않고 그 결과를 함께 받음 (완료되면 키를 비움)
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key 합칠 기준 키
+     * @param call 진행 중인 호출이 없을 때만 실행할 작업
+     * @return 공유된 결과 (먼저 구독한 쪽이 취소해도 작업은 끝까지 진행)
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(k))
+                .cache()));
+    }
+
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -125,6 +125,9 @@ INSERT INTO analysis_queue (product_id, analysis_types, status, priority, schedu
 (7, '["tariff_1qty", "tariff_10qty"]', 'PENDING', 3, NOW() + INTERVAL '15 minutes', null, null, null, 0),
 (5, '["tariff_1qty", "tariff_10qty"]', 'PENDING', 3, NOW() + INTERVAL '30 minutes', null, null, null, 0);
 
+-- 상품당 대기/처리 중인 분석 작업은 하나만 (여러 노드가 동시에 적재해도 중복되지 않도록 - INSERT ... ON CONFLICT DO NOTHING)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_analysis_queue_active_product ON analysis_queue (product_id) WHERE status IN ('PENDING', 'PROCESSING');
+
 
 -- 5. 상품 분석 캐시(ProductAnalysisCache) 데이터 - 실제 액션 가능한 요건 및 판례
 INSERT INTO product_analysis_cache (product_id, analysis_type, analysis_result, sources, confidence_score, is_valid, created_at, updated_at) VALUES
@@ -0,0 +1,145 @@
+package com.suracle.backend_api.service.http;
+
+import com.suracle.backend_api.config.GovApiCacheProperties;
+import com.suracle.backend_api.entity.requirements.SearchResultCache;
+import com.suracle.backend_api.repository.requirements.SearchResultCacheRepository;
+import com.suracle.backend_api.service.cache.CacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachingRequirementsApiClient 캐시 적중 / stale 갱신 / 부정 캐시 / cacheOnly 테스트
+ * 백그라운드 갱신은 실행기에 쌓아 두었다가 테스트에서 직접 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingRequirementsApiClientTest {
+
+    private static final String CACHED_JSON = "{\"results\":[{\"classification\":\"Class II\"}]}";
+    private static final String FRESH_JSON = "{\"results\":[{\"classification\":\"Class I\"}]}";
+
+    @Mock
+    private RequirementsApiClient delegate;
+
+    @Mock
+    private SearchResultCacheRepository repository;
+
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private CachingRequirementsApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        client = new CachingRequirementsApiClient(delegate, repository, new GovApiCacheProperties(),
+                meterRegistry, new CacheMetrics(meterRegistry), backgroundTasks::add);
+    }
+
+    private static SearchResultCache entry(String json, String negativeOutcome, LocalDateTime refreshAfter) {
+        return SearchResultCache.builder()
+                .agency(CachingRequirementsApiClient.FDA)
+                .searchResults(json)
+                .contentHash(json != null ? "stored-hash" : null)
+                .negativeOutcome(negativeOutcome)
+                .refreshAfter(refreshAfter)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    void freshHitReturnsCachedPayloadWithoutCallingDelegate() {
+        when(repository.findByCacheKey(anyString()))
+                .thenReturn(Optional.of(entry(CACHED_JSON, null, LocalDateTime.now().plusHours(1))));
+
+        Optional<GovApiPayload> result = client.callOpenFdaFoodEnforcement("Rice Snack");
+
+        assertEquals(CACHED_JSON, result.orElseThrow().json());
+        assertEquals("stored-hash", result.get().contentHash(), "저장된 해시를 그대로 사용");
+        verifyNoInteractions(delegate);
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    void staleHitReturnsOldValueAndRefreshesOnce() {
+        when(repository.findByCacheKey(anyString()))
+                .thenReturn(Optional.of(entry(CACHED_JSON, null, LocalDateTime.now().minusMinutes(1))));
+        when(delegate.fetchOpenFdaFoodEnforcement("rice snack"))
+                .thenReturn(GovApiResponse.ok(new GovApiPayload(FRESH_JSON)));
+
+        assertEquals(CACHED_JSON, client.callOpenFdaFoodEnforcement("rice snack").orElseThrow().json());
+        assertEquals(CACHED_JSON, client.callOpenFdaFoodEnforcement("rice snack").orElseThrow().json());
+        verifyNoInteractions(delegate);
+        assertEquals(1, backgroundTasks.size(), "같은 키는 갱신 중이면 다시 예약하지 않음");
+
+        backgroundTasks.forEach(Runnable::run);
+
+        verify(delegate, times(1)).fetchOpenFdaFoodEnforcement("rice snack");
+        verify(repository).upsert(anyString(), eq(CachingRequirementsApiClient.FDA), isNull(), isNull(), anyString(),
+                eq(FRESH_JSON), anyString(), isNull(), any(), any());
+    }
+
+    @Test
+    void negativeHitSkipsDelegate() {
+        when(repository.findByCacheKey(anyString()))
+                .thenReturn(Optional.of(entry("{}", GovApiResponse.Outcome.NOT_FOUND.name(), null)));
+
+        assertTrue(client.callOpenFdaFoodEnforcement("rice snack").isEmpty());
+        verifyNoInteractions(delegate);
+        verify(repository, never()).upsert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void rateLimitedIsNeverStored() {
+        when(repository.findByCacheKey(anyString())).thenReturn(Optional.empty());
+        when(delegate.fetchOpenFdaFoodEnforcement("rice snack"))
+                .thenReturn(GovApiResponse.failed(GovApiResponse.Outcome.RATE_LIMITED));
+
+        assertTrue(client.callOpenFdaFoodEnforcement("rice snack").isEmpty());
+        assertTrue(client.callOpenFdaFoodEnforcement("rice snack").isEmpty());
+
+        verify(delegate, times(2)).fetchOpenFdaFoodEnforcement("rice snack");
+        verify(repository, never()).upsert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void transientErrorIsStoredAsNegativeEntry() {
+        when(repository.findByCacheKey(anyString())).thenReturn(Optional.empty());
+        when(delegate.fetchOpenFdaFoodEnforcement("rice snack"))
+                .thenReturn(GovApiResponse.failed(GovApiResponse.Outcome.TRANSIENT_ERROR));
+
+        assertTrue(client.callOpenFdaFoodEnforcement("rice snack").isEmpty());
+
+        verify(repository).upsert(anyString(), eq(CachingRequirementsApiClient.FDA), isNull(), isNull(), anyString(),
+                eq("{}"), isNull(), eq(GovApiResponse.Outcome.TRANSIENT_ERROR.name()), any(), any());
+    }
+
+    @Test
+    void cacheOnlyNeverCallsDelegate() {
+        when(repository.findByCacheKey(anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(entry("{}", GovApiResponse.Outcome.NOT_FOUND.name(), null)))
+                .thenReturn(Optional.of(entry(CACHED_JSON, null, LocalDateTime.now().plusHours(1))));
+
+        assertTrue(client.cacheOnly(() -> client.callOpenFdaFoodEnforcement("rice snack")).isEmpty(), "미스");
+        assertTrue(client.cacheOnly(() -> client.callOpenFdaFoodEnforcement("rice snack")).isEmpty(), "부정 캐시");
+        assertEquals(CACHED_JSON, client.cacheOnly(() -> client.callOpenFdaFoodEnforcement("rice snack"))
+                .orElseThrow().json(), "신선한 결과");
+
+        verifyNoInteractions(delegate);
+        verify(repository, never()).upsert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.suracle.backend_api.service.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GovApiPayload 응답 확인 + 내용 해시 테스트
+ */
+class GovApiPayloadTest {
+
+    private static final String BODY = """
+            {"meta": {"last_updated": "2025-01-01"}, "results": [{"classification": "Class II", "report_date": "20240105"}]}
+            """;
+
+    private static String hashOf(String json) {
+        return GovApiPayload.parse(json).orElseThrow().contentHash();
+    }
+
+    @Test
+    void hashIgnoresTopLevelMetaAndWhitespace() {
+        String otherMeta = """
+                {
+                  "meta": {"last_updated": "2025-02-01", "disclaimer": "changed", "results": {"total": 1}},
+                  "results": [
+                    {"classification": "Class II",   "report_date": "20240105"}
+                  ]
+                }
+                """;
+        String withoutMeta = "{\"results\":[{\"classification\":\"Class II\",\"report_date\":\"20240105\"}]}";
+
+        assertEquals(hashOf(BODY), hashOf(otherMeta), "meta와 공백만 다르면 같은 해시");
+        assertEquals(hashOf(BODY), hashOf(withoutMeta), "meta가 없어도 같은 해시");
+    }
+
+    @Test
+    void hashChangesWithContent() {
+        String changed = BODY.replace("Class II", "Class I");
+        String nestedMeta = "{\"results\":[{\"meta\":1,\"classification\":\"Class II\",\"report_date\":\"20240105\"}]}";
+
+        assertNotEquals(hashOf(BODY), hashOf(changed));
+        assertNotEquals(hashOf(BODY), hashOf(nestedMeta), "최상위가 아닌 meta는 내용으로 취급");
+        assertNotEquals(hashOf("{\"a\":\"1\"}"), hashOf("{\"a\":1}"), "문자열과 숫자는 구분");
+    }
+
+    @Test
+    void parseRejectsInvalidBodies() {
+        assertTrue(GovApiPayload.parse(null).isEmpty());
+        assertTrue(GovApiPayload.parse("  ").isEmpty());
+        assertTrue(GovApiPayload.parse("<html><body>502 Bad Gateway</body></html>").isEmpty());
+        assertTrue(GovApiPayload.parse(BODY.substring(0, BODY.length() / 2)).isEmpty(), "끊긴 응답");
+        assertTrue(GovApiPayload.parse("{\"a\":1}{\"b\":2}").isEmpty(), "루트 값이 둘 이상");
+        assertTrue(GovApiPayload.parse("[1] [2]").isEmpty(), "루트 값이 둘 이상");
+    }
+
+    @Test
+    void parseAcceptsArrayRootsAndKeepsOriginalText() {
+        String census = "[[\"I_COMMODITY\",\"GEN_VAL_MO\"],[\"330499\",null]]";
+        GovApiPayload payload = GovApiPayload.parse(census).orElseThrow();
+
+        assertEquals(census, payload.json());
+        assertTrue(GovApiPayload.parse("[1, {\"meta\": 2}]").isPresent(), "배열 안의 meta는 일반 필드");
+        assertEquals(2, payload.tree().size());
+    }
+
+    @Test
+    void storedHashMatchesParseHash() {
+        assertEquals(hashOf(BODY), GovApiPayload.contentHash(BODY));
+        assertEquals(hashOf(BODY), new GovApiPayload(BODY).contentHash(), "해시 없이 저장된 캐시 항목도 같은 해시");
+        assertEquals("stored", new GovApiPayload(BODY, "stored").contentHash(), "저장된 해시는 다시 계산하지 않음");
+        assertNotNull(GovApiPayload.contentHash("<html>"), "JSON이 아니면 원문 해시");
+    }
+}
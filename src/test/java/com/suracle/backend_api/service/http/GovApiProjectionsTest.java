@@ -0,0 +1,172 @@
+package com.suracle.backend_api.service.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GovApiProjections 스트리밍 추출 결과가 기존 JsonNode 트리 탐색(path().asText(""))과 같은지 확인
+ */
+class GovApiProjectionsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String FDA = """
+            {
+              "meta": {"disclaimer": "Do not rely on openFDA", "last_updated": "2025-01-01",
+                       "results": {"skip": 0, "limit": 3, "total": 3}},
+              "results": [
+                {"classification": "Class II", "reason_for_recall": "Undeclared milk allergen",
+                 "report_date": "20240105", "recall_initiation_date": "20231220",
+                 "openfda": {}, "product_quantity": 120},
+                {"classification": "Class I", "reason_for_recall": null,
+                 "report_date": "20240210", "recall_initiation_date": {"nested": ["x", 1]},
+                 "status": "Ongoing"},
+                {"reason_for_recall": "Missing label", "report_date": 20240301}
+              ]
+            }
+            """;
+
+    private static final String USDA = """
+            {
+              "totalHits": 2,
+              "criteria": {"query": "rice snack", "dataType": ["Branded"]},
+              "foods": [
+                {"fdcId": 1, "description": "RICE SNACK", "dataType": "Branded",
+                 "foodNutrients": [{"nutrientId": 1003, "value": 7}]},
+                {"fdcId": 2, "description": null, "dataType": "Survey (FNDDS)", "foodCategory": {"id": 5}}
+              ],
+              "aggregations": {"dataType": {"Branded": 1}}
+            }
+            """;
+
+    private static final String EPA = """
+            [
+              {"dtxsid": "DTXSID7020182", "preferredName": "Bisphenol A", "casrn": "80-05-7", "rank": 1},
+              {"preferredName": "Formaldehyde", "casrn": null, "synonyms": ["Methanal", "Formalin"]},
+              {"preferredName": {"en": "nested"}}
+            ]
+            """;
+
+    private static final String CENSUS = """
+            [
+              ["I_COMMODITY", "I_COMMODITY_SDESC", "GEN_VAL_MO", "time"],
+              ["330499", "BEAUTY PREPARATIONS", "1534000", "2025-01"],
+              ["330499", null, "0", "2025-01"]
+            ]
+            """;
+
+    @Test
+    void fdaProjectionMatchesTreeWalk() throws Exception {
+        assertEquals(fdaTreeWalk(FDA), GovApiProjections.fdaEnforcements(FDA));
+    }
+
+    @Test
+    void usdaProjectionMatchesTreeWalk() throws Exception {
+        assertEquals(usdaTreeWalk(USDA), GovApiProjections.usdaFoods(USDA));
+    }
+
+    @Test
+    void epaProjectionMatchesTreeWalk() throws Exception {
+        assertEquals(epaTreeWalk(EPA), GovApiProjections.epaChemicals(EPA));
+    }
+
+    @Test
+    void censusProjectionMatchesTreeWalk() throws Exception {
+        GovApiProjections.CensusTable table = GovApiProjections.censusTable(CENSUS);
+        List<List<String>> expected = censusTreeWalk(CENSUS);
+
+        assertEquals(expected.get(0), table.header());
+        assertEquals(expected.subList(1, expected.size()), table.rows());
+        assertEquals("", table.rows().get(1).get(1), "null 값은 빈 문자열");
+    }
+
+    @Test
+    void nullAndNestedValuesBecomeEmptyStrings() {
+        List<GovApiProjections.FdaEnforcement> results = GovApiProjections.fdaEnforcements(FDA);
+
+        assertEquals("", results.get(1).reasonForRecall(), "null 값은 빈 문자열");
+        assertEquals("", results.get(1).recallInitiationDate(), "객체 값은 건너뛰고 빈 문자열");
+        assertEquals("", results.get(2).classification(), "없는 필드는 빈 문자열");
+        assertEquals("20240301", results.get(2).reportDate(), "숫자는 원문 그대로");
+    }
+
+    @Test
+    void truncatedResponseKeepsRecordsReadSoFar() throws Exception {
+        String truncated = FDA.substring(0, FDA.indexOf("\"status\""));
+
+        List<GovApiProjections.FdaEnforcement> results = GovApiProjections.fdaEnforcements(truncated);
+
+        assertEquals(fdaTreeWalk(FDA).subList(0, 1), results, "끊긴 항목은 버리고 그 앞까지만 반환");
+    }
+
+    @Test
+    void truncatedArraysKeepCompleteItems() throws Exception {
+        String epa = EPA.substring(0, EPA.indexOf("\"synonyms\""));
+        String census = CENSUS.substring(0, CENSUS.lastIndexOf("\"0\""));
+
+        assertEquals(epaTreeWalk(EPA).subList(0, 1), GovApiProjections.epaChemicals(epa));
+        GovApiProjections.CensusTable table = GovApiProjections.censusTable(census);
+        assertEquals(censusTreeWalk(CENSUS).get(0), table.header());
+        assertEquals(1, table.rows().size(), "끊기기 전까지 읽은 값은 남음");
+    }
+
+    @Test
+    void unexpectedShapesYieldEmptyResults() {
+        assertTrue(GovApiProjections.fdaEnforcements("[]").isEmpty());
+        assertTrue(GovApiProjections.fdaEnforcements("{\"results\": {\"a\": 1}}").isEmpty());
+        assertTrue(GovApiProjections.usdaFoods("{\"totalHits\": 0}").isEmpty());
+        assertTrue(GovApiProjections.epaChemicals("{\"preferredName\": \"x\"}").isEmpty());
+        assertTrue(GovApiProjections.censusTable("{}").header().isEmpty());
+        assertTrue(GovApiProjections.censusTable("<html>error</html>").rows().isEmpty());
+    }
+
+    // 기존 RequirementsCollectorController의 트리 탐색 방식
+
+    private static List<GovApiProjections.FdaEnforcement> fdaTreeWalk(String json) throws Exception {
+        List<GovApiProjections.FdaEnforcement> results = new ArrayList<>();
+        for (JsonNode result : MAPPER.readTree(json).path("results")) {
+            results.add(new GovApiProjections.FdaEnforcement(
+                    result.path("classification").asText(""),
+                    result.path("reason_for_recall").asText(""),
+                    result.path("report_date").asText(""),
+                    result.path("recall_initiation_date").asText("")));
+        }
+        return results;
+    }
+
+    private static List<GovApiProjections.UsdaFood> usdaTreeWalk(String json) throws Exception {
+        List<GovApiProjections.UsdaFood> foods = new ArrayList<>();
+        for (JsonNode food : MAPPER.readTree(json).path("foods")) {
+            foods.add(new GovApiProjections.UsdaFood(
+                    food.path("description").asText(""),
+                    food.path("dataType").asText("")));
+        }
+        return foods;
+    }
+
+    private static List<GovApiProjections.EpaChemical> epaTreeWalk(String json) throws Exception {
+        List<GovApiProjections.EpaChemical> chemicals = new ArrayList<>();
+        for (JsonNode chemical : MAPPER.readTree(json)) {
+            chemicals.add(new GovApiProjections.EpaChemical(
+                    chemical.path("preferredName").asText(""),
+                    chemical.path("casrn").asText("")));
+        }
+        return chemicals;
+    }
+
+    private static List<List<String>> censusTreeWalk(String json) throws Exception {
+        List<List<String>> rows = new ArrayList<>();
+        for (JsonNode row : MAPPER.readTree(json)) {
+            List<String> values = new ArrayList<>();
+            row.forEach(value -> values.add(value.asText("")));
+            rows.add(values);
+        }
+        return rows;
+    }
+}
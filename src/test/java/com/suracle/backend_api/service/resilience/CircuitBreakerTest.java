@@ -0,0 +1,85 @@
+package com.suracle.backend_api.service.resilience;
+
+import com.suracle.backend_api.config.AiEngineResilienceProperties.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker 상태 전이 / 적응형 타임아웃 테스트
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private CircuitBreaker newBreaker() {
+        Policy policy = new Policy();
+        policy.setSlidingWindowSize(4);
+        policy.setMinimumCalls(4);
+        policy.setFailureRateThreshold(50);
+        policy.setOpenDurationSeconds(10);
+        policy.setHalfOpenPermittedCalls(1);
+        policy.setMinLatencySamples(3);
+        policy.setTimeoutPercentile(0.99);
+        policy.setTimeoutMultiplier(2.0);
+        policy.setMinTimeoutMs(100);
+        policy.setMaxTimeoutMs(10_000);
+        return new CircuitBreaker("test", policy, now::get);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = newBreaker();
+
+        breaker.onSuccess(10);
+        breaker.onSuccess(10);
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "최소 호출 수 미만이면 열리지 않음");
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(), "OPEN 상태에서는 호출 차단");
+    }
+
+    @Test
+    void halfOpenTrialDecidesNextState() {
+        CircuitBreaker breaker = newBreaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(10_000);
+        assertTrue(breaker.tryAcquire(), "OPEN 유지 시간이 지나면 시험 호출 허용");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(), "시험 호출 수를 넘으면 차단");
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(), "시험 호출 실패 시 다시 OPEN");
+
+        now.addAndGet(10_000);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(10);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "시험 호출 성공 시 CLOSED");
+    }
+
+    @Test
+    void timeoutFollowsObservedLatency() {
+        CircuitBreaker breaker = newBreaker();
+        assertEquals(Duration.ofMillis(10_000), breaker.currentTimeout(), "표본이 부족하면 상한");
+
+        breaker.onSuccess(200);
+        breaker.onSuccess(300);
+        breaker.onSuccess(400);
+        assertEquals(Duration.ofMillis(800), breaker.currentTimeout(), "p99 × 2");
+
+        breaker.onSuccess(20);
+        breaker.onSuccess(20);
+        breaker.onSuccess(20);
+        breaker.onSuccess(20);
+        assertEquals(Duration.ofMillis(800), breaker.currentTimeout());
+    }
+}
@@ -0,0 +1,62 @@
+package com.suracle.backend_api.service.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucket 소비 / 재충전 / 허용량 변경 테스트
+ */
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    /** 시간당 3600건 = 초당 1건, 최대 2건 */
+    private TokenBucket newBucket() {
+        return new TokenBucket(3600, 2, now::get);
+    }
+
+    @Test
+    void consumesUpToCapacityThenRefillsOverTime() {
+        TokenBucket bucket = newBucket();
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire(), "capacity를 넘으면 거부");
+        assertEquals(1000, TimeUnit.NANOSECONDS.toMillis(bucket.nanosUntilAvailable()), 1);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertFalse(bucket.tryAcquire(), "토큰 하나가 다 채워지기 전에는 거부");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(510));
+        assertTrue(bucket.tryAcquire());
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertEquals(2, bucket.available(), "오래 쉬어도 capacity까지만 채워짐");
+    }
+
+    @Test
+    void failsFastWithoutWaitBudget() {
+        TokenBucket bucket = newBucket();
+        bucket.drain();
+
+        assertFalse(bucket.acquire(0, TimeUnit.MILLISECONDS));
+        assertFalse(bucket.acquire(500, TimeUnit.MILLISECONDS), "다음 토큰까지 기다릴 수 없으면 바로 실패");
+    }
+
+    @Test
+    void reconfigureClampsTokensAndChangesRate() {
+        TokenBucket bucket = new TokenBucket(3600, 10, now::get);
+        assertEquals(10, bucket.available());
+
+        bucket.reconfigure(7200, 3);
+        assertEquals(3, bucket.available(), "새 capacity를 넘는 토큰은 버림");
+
+        bucket.drain();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertEquals(1, bucket.available(), "초당 2건으로 재충전");
+    }
+}